@@ -6,8 +6,8 @@ import io.swagger.v3.oas.models.media.Schema;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
@@ -33,6 +33,10 @@ public class AnnotatedType {
 
     private Components components;
 
+    // identity of this instance as a resolution key, computed lazily and reset by the mutators of the members involved
+    private volatile List<Annotation> processedAnnotations;
+    private int hash;
+
     public AnnotatedType() {
     }
 
@@ -111,10 +115,11 @@ public class AnnotatedType {
 
     public void setSchemaProperty(boolean schemaProperty) {
         this.schemaProperty = schemaProperty;
+        this.hash = 0;
     }
 
     public AnnotatedType schemaProperty(boolean schemaProperty) {
-        this.schemaProperty = schemaProperty;
+        setSchemaProperty(schemaProperty);
         return this;
     }
 
@@ -163,6 +168,8 @@ public class AnnotatedType {
 
     public void setCtxAnnotations(Annotation[] ctxAnnotations) {
         this.ctxAnnotations = ctxAnnotations == null ? null : Arrays.copyOf(ctxAnnotations, ctxAnnotations.length);
+        this.processedAnnotations = null;
+        this.hash = 0;
     }
 
     public AnnotatedType ctxAnnotations(Annotation[] ctxAnnotations) {
@@ -189,6 +196,7 @@ public class AnnotatedType {
 
     public void setType(Type type) {
         this.type = type;
+        this.hash = 0;
     }
 
     public AnnotatedType type(Type type) {
@@ -202,10 +210,11 @@ public class AnnotatedType {
 
     public void setJsonViewAnnotation(JsonView jsonViewAnnotation) {
         this.jsonViewAnnotation = jsonViewAnnotation;
+        this.hash = 0;
     }
 
     public AnnotatedType jsonViewAnnotation(JsonView jsonViewAnnotation) {
-        this.jsonViewAnnotation = jsonViewAnnotation;
+        setJsonViewAnnotation(jsonViewAnnotation);
         return this;
     }
 
@@ -215,10 +224,11 @@ public class AnnotatedType {
 
     public void setIncludePropertiesWithoutJSONView(boolean includePropertiesWithoutJSONView) {
         this.includePropertiesWithoutJSONView = includePropertiesWithoutJSONView;
+        this.hash = 0;
     }
 
     public AnnotatedType includePropertiesWithoutJSONView(boolean includePropertiesWithoutJSONView) {
-        this.includePropertiesWithoutJSONView = includePropertiesWithoutJSONView;
+        setIncludePropertiesWithoutJSONView(includePropertiesWithoutJSONView);
         return this;
     }
 
@@ -234,13 +244,14 @@ public class AnnotatedType {
      */
     public void setPropertyName(String propertyName) {
         this.propertyName = propertyName;
+        this.hash = 0;
     }
 
     /**
      * @since 2.0.4
      */
     public AnnotatedType propertyName(String propertyName) {
-        this.propertyName = propertyName;
+        setPropertyName(propertyName);
         return this;
     }
 
@@ -250,24 +261,34 @@ public class AnnotatedType {
 
     public void setSubtype(boolean isSubtype) {
         this.isSubtype = isSubtype;
+        this.hash = 0;
     }
 
     public AnnotatedType subtype(boolean isSubtype) {
-        this.isSubtype = isSubtype;
+        setSubtype(isSubtype);
         return this;
     }
 
+    private List<Annotation> getProcessedAnnotations() {
+        List<Annotation> processed = processedAnnotations;
+        if (processed == null) {
+            processed = getProcessedAnnotations(ctxAnnotations);
+            processedAnnotations = processed;
+        }
+        return processed;
+    }
+
     private List<Annotation> getProcessedAnnotations(Annotation[] annotations) {
         if (annotations == null || annotations.length == 0) {
-            return new ArrayList<>();
+            return Collections.emptyList();
         }
-        return Arrays.stream(annotations)
+        return Collections.unmodifiableList(Arrays.stream(annotations)
                 .filter(a -> {
                     Package pkg = a.annotationType().getPackage();
                     return a.annotationType().equals(Deprecated.class) || processableAnnotationPackage(pkg);
                 })
                 .sorted(Comparator.comparing(a -> a.annotationType().getName()))
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 
     @Override
@@ -275,8 +296,7 @@ public class AnnotatedType {
         if (this == o) return true;
         if (!(o instanceof AnnotatedType)) return false;
         AnnotatedType that = (AnnotatedType) o;
-        List<Annotation> thisAnnotations = getProcessedAnnotations(this.ctxAnnotations);
-        List<Annotation> thatAnnotations = getProcessedAnnotations(that.ctxAnnotations);
+        if (hashCode() != that.hashCode()) return false;
         String thisParentName = this.parent != null ? this.parent.getName() : null;
         String thatParentName = that.parent != null ? that.parent.getName() : null;
 
@@ -285,16 +305,20 @@ public class AnnotatedType {
                 isSubtype == that.isSubtype &&
                 (!schemaProperty || Objects.equals(thisParentName, thatParentName)) &&
                 Objects.equals(type, that.type) &&
-                Objects.equals(thisAnnotations, thatAnnotations) &&
+                Objects.equals(getProcessedAnnotations(), that.getProcessedAnnotations()) &&
                 Objects.equals(jsonViewAnnotation, that.jsonViewAnnotation) &&
                 (!schemaProperty || Objects.equals(propertyName, that.propertyName));
     }
 
     @Override
     public int hashCode() {
-        List<Annotation> processedAnnotations = getProcessedAnnotations(this.ctxAnnotations);
-        String parentName = (schemaProperty && this.parent != null) ? this.parent.getName() : null;
-        return Objects.hash(type, jsonViewAnnotation, includePropertiesWithoutJSONView, processedAnnotations, schemaProperty, isSubtype, schemaProperty ? propertyName : null, parentName);
+        int h = hash;
+        if (h == 0) {
+            h = Objects.hash(type, jsonViewAnnotation, includePropertiesWithoutJSONView, getProcessedAnnotations(), schemaProperty, isSubtype, schemaProperty ? propertyName : null);
+            hash = h;
+        }
+        // the parent schema may be renamed after this instance has been created, so its name is not memoized
+        return schemaProperty ? 31 * h + Objects.hashCode(parent != null ? parent.getName() : null) : h;
     }
 
     private boolean processableAnnotationPackage(Package pkg) {
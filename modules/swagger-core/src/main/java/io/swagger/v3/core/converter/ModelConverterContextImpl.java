@@ -17,6 +17,10 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
 
+/**
+ * Holds the state of a single resolution and is not thread-safe; concurrent resolutions must each use their own
+ * context, as done by {@link ModelConverters}.
+ */
 public class ModelConverterContextImpl implements ModelConverterContext {
     private static final Logger LOGGER = LoggerFactory.getLogger(ModelConverterContextImpl.class);
 
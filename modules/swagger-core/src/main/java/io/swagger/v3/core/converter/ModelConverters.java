@@ -12,22 +12,43 @@ import org.slf4j.LoggerFactory;
 import java.lang.reflect.Type;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
-
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Entry point resolving types into schemas through a chain of {@link ModelConverter}s.
+ *
+ * Instances are safe for concurrent use: each <code>read</code> and <code>resolve</code> call resolves within its
+ * own {@link ModelConverterContextImpl}, and the default converters keep no per resolution state shared between
+ * threads. Custom converters added to an instance used concurrently must be thread-safe as well.
+ */
 public class ModelConverters {
-    private static ModelConverters SINGLETON = null;
-    private static ModelConverters SINGLETON31 = null;
+    private static volatile ModelConverters SINGLETON = null;
+    private static volatile ModelConverters SINGLETON31 = null;
+    // instances being initialized, only accessed holding the class lock
+    private static ModelConverters initializing;
+    private static ModelConverters initializing31;
     static Logger LOGGER = LoggerFactory.getLogger(ModelConverters.class);
     private final List<ModelConverter> converters;
-    private final Set<String> skippedPackages = new HashSet<>();
-    private final Set<String> skippedClasses = new HashSet<>();
+    private final Set<String> skippedPackages = ConcurrentHashMap.newKeySet();
+    private final Set<String> skippedClasses = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean resolutionCacheEnabled;
+    private final Map<ResolutionKey, ResolvedModels> resolutionCache = new ConcurrentHashMap<>();
+    private final AtomicInteger converterChainVersion = new AtomicInteger();
+    private final LongAdder resolutionCacheHits = new LongAdder();
+    private final LongAdder resolutionCacheMisses = new LongAdder();
 
     public ModelConverters() {
         converters = new CopyOnWriteArrayList<>();
@@ -66,19 +87,20 @@ public class ModelConverters {
         return skippedPackages;
     }
 
+    /**
+     * Returns the shared instance for OpenAPI 3.0 or 3.1, creating it on first use.
+     *
+     * Once created, the shared instances are read from volatile fields without locking, so looking them up from the
+     * resolvers and parameter processors does not contend between threads; only their creation is synchronized.
+     */
     public static ModelConverters getInstance(boolean openapi31) {
-        if (openapi31) {
-            if (SINGLETON31 == null) {
-                SINGLETON31 = new ModelConverters(openapi31);
-                init(SINGLETON31);
-            }
-            return SINGLETON31;
+        ModelConverters instance = openapi31 ? SINGLETON31 : SINGLETON;
+        if (instance != null) {
+            return instance;
         }
-        if (SINGLETON == null) {
-            SINGLETON = new ModelConverters(openapi31);
-            init(SINGLETON);
+        synchronized (ModelConverters.class) {
+            return createInstance(openapi31, () -> new ModelConverters(openapi31));
         }
-        return SINGLETON;
     }
 
     public static void reset() {
@@ -89,43 +111,73 @@ public class ModelConverters {
     }
 
     public static ModelConverters getInstance(boolean openapi31, Schema.SchemaResolution schemaResolution) {
+        ModelConverters instance = openapi31 ? SINGLETON31 : SINGLETON;
+        if (instance != null) {
+            return instance;
+        }
         synchronized (ModelConverters.class) {
             if (openapi31) {
-                if (SINGLETON31 == null) {
-                    boolean applySchemaResolution = Boolean.parseBoolean(System.getProperty(Schema.APPLY_SCHEMA_RESOLUTION_PROPERTY, "false")) || Boolean.parseBoolean(System.getenv(Schema.APPLY_SCHEMA_RESOLUTION_PROPERTY));
-                    SINGLETON31 = new ModelConverters(openapi31, applySchemaResolution ? schemaResolution : Schema.SchemaResolution.DEFAULT);
-                    init(SINGLETON31);
-                }
-                return SINGLETON31;
+                return createInstance(true, () -> new ModelConverters(true, isApplySchemaResolution() ? schemaResolution : Schema.SchemaResolution.DEFAULT));
             }
-            if (SINGLETON == null) {
-                SINGLETON = new ModelConverters(openapi31, schemaResolution);
-                init(SINGLETON);
-            }
-            return SINGLETON;
+            return createInstance(false, () -> new ModelConverters(false, schemaResolution));
         }
     }
 
     public static ModelConverters getInstance(Configuration configuration) {
+        boolean openapi31 = configuration != null && configuration.isOpenAPI31() != null && configuration.isOpenAPI31();
+        ModelConverters instance = openapi31 ? SINGLETON31 : SINGLETON;
+        if (instance != null) {
+            return instance;
+        }
         synchronized (ModelConverters.class) {
-            boolean openapi31 = configuration != null && configuration.isOpenAPI31() != null && configuration.isOpenAPI31();
-            if (openapi31) {
-                if (SINGLETON31 == null) {
-                    boolean applySchemaResolution = Boolean.parseBoolean(System.getProperty(Schema.APPLY_SCHEMA_RESOLUTION_PROPERTY, "false")) || Boolean.parseBoolean(System.getenv(Schema.APPLY_SCHEMA_RESOLUTION_PROPERTY));
-                    if (!applySchemaResolution) {
-                        configuration.schemaResolution(Schema.SchemaResolution.DEFAULT);
-                    }
-                    SINGLETON31 = new ModelConverters(configuration);
-                    init(SINGLETON31);
+            return createInstance(openapi31, () -> {
+                if (openapi31 && !isApplySchemaResolution()) {
+                    configuration.schemaResolution(Schema.SchemaResolution.DEFAULT);
+                }
+                return new ModelConverters(configuration);
+            });
+        }
+    }
+
+    /**
+     * Returns the shared instance, creating and initializing it if missing; must be called holding the class lock.
+     *
+     * The instance is only published once initialized, so that lock free lookups never see it before the service
+     * loaded converters are added. Lookups made by the creating thread during initialization get the instance
+     * being initialized, as they did when it was published first.
+     */
+    private static ModelConverters createInstance(boolean openapi31, Supplier<ModelConverters> factory) {
+        ModelConverters instance = openapi31 ? SINGLETON31 : SINGLETON;
+        if (instance == null) {
+            instance = openapi31 ? initializing31 : initializing;
+        }
+        if (instance == null) {
+            instance = factory.get();
+            try {
+                if (openapi31) {
+                    initializing31 = instance;
+                } else {
+                    initializing = instance;
+                }
+                init(instance);
+            } finally {
+                if (openapi31) {
+                    initializing31 = null;
+                } else {
+                    initializing = null;
                 }
-                return SINGLETON31;
             }
-            if (SINGLETON == null) {
-                SINGLETON = new ModelConverters(configuration);
-                init(SINGLETON);
+            if (openapi31) {
+                SINGLETON31 = instance;
+            } else {
+                SINGLETON = instance;
             }
-            return SINGLETON;
         }
+        return instance;
+    }
+
+    private static boolean isApplySchemaResolution() {
+        return Boolean.parseBoolean(System.getProperty(Schema.APPLY_SCHEMA_RESOLUTION_PROPERTY, "false")) || Boolean.parseBoolean(System.getenv(Schema.APPLY_SCHEMA_RESOLUTION_PROPERTY));
     }
 
     private static void init(ModelConverters converter) {
@@ -152,10 +204,12 @@ public class ModelConverters {
 
     public void addConverter(ModelConverter converter) {
         converters.add(0, converter);
+        converterChainChanged();
     }
 
     public void removeConverter(ModelConverter converter) {
         converters.remove(converter);
+        converterChainChanged();
     }
 
     public List<ModelConverter> getConverters() {
@@ -178,12 +232,10 @@ public class ModelConverters {
     public Map<String, Schema> read(AnnotatedType type) {
         Map<String, Schema> modelMap = new HashMap<>();
         if (shouldProcess(type.getType())) {
-            ModelConverterContextImpl context = new ModelConverterContextImpl(
-                    converters);
-            Schema resolve = context.resolve(type);
-            for (Entry<String, Schema> entry : context.getDefinedModels()
+            ResolvedModels resolved = resolveModels(type);
+            for (Entry<String, Schema> entry : resolved.definedModels
                     .entrySet()) {
-                if (entry.getValue().equals(resolve)) {
+                if (entry.getValue().equals(resolved.schema)) {
                     modelMap.put(entry.getKey(), entry.getValue());
                 }
             }
@@ -197,12 +249,8 @@ public class ModelConverters {
 
     public Map<String, Schema> readAll(AnnotatedType type) {
         if (shouldProcess(type.getType())) {
-            ModelConverterContextImpl context = new ModelConverterContextImpl(
-                    converters);
-
             LOGGER.debug("ModelConverters readAll from {}", type);
-            context.resolve(type);
-            return context.getDefinedModels();
+            return resolveModels(type).definedModels;
         }
         return new HashMap<>();
     }
@@ -218,16 +266,104 @@ public class ModelConverters {
     }
 
     public ResolvedSchema resolveAsResolvedSchema(AnnotatedType type) {
-        ModelConverterContextImpl context = new ModelConverterContextImpl(
-                converters);
+        ResolvedModels resolved = resolveModels(type);
 
         ResolvedSchema resolvedSchema = new ResolvedSchema();
-        resolvedSchema.schema = context.resolve(type);
-        resolvedSchema.referencedSchemas = context.getDefinedModels();
+        resolvedSchema.schema = resolved.schema;
+        resolvedSchema.referencedSchemas = resolved.definedModels;
 
         return resolvedSchema;
     }
 
+    /**
+     * Enables or disables the resolution cache of this instance, shared by all <code>read</code> and
+     * <code>resolve</code> calls. Disabling the cache also clears it.
+     *
+     * With the cache enabled, the schemas resolved for a type are kept and returned as deep copies by later calls
+     * resolving an equal type through the same converter chain, instead of resolving the type again. Converters must
+     * therefore resolve equal types to the same schemas, which holds for the default converters.
+     *
+     * Types carrying context bound state (a parent schema, components or an unwrapped handler) are never cached.
+     *
+     * @since 2.2.55
+     */
+    public void setResolutionCacheEnabled(boolean resolutionCacheEnabled) {
+        this.resolutionCacheEnabled = resolutionCacheEnabled;
+        if (!resolutionCacheEnabled) {
+            resolutionCache.clear();
+        }
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public ModelConverters resolutionCacheEnabled(boolean resolutionCacheEnabled) {
+        setResolutionCacheEnabled(resolutionCacheEnabled);
+        return this;
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public boolean isResolutionCacheEnabled() {
+        return resolutionCacheEnabled;
+    }
+
+    /**
+     * Discards all schemas held by the resolution cache, e.g. after classes have been reloaded.
+     *
+     * @since 2.2.55
+     */
+    public void invalidateResolutionCache() {
+        resolutionCache.clear();
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public long getResolutionCacheHits() {
+        return resolutionCacheHits.sum();
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public long getResolutionCacheMisses() {
+        return resolutionCacheMisses.sum();
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public int getResolutionCacheSize() {
+        return resolutionCache.size();
+    }
+
+    private void converterChainChanged() {
+        converterChainVersion.incrementAndGet();
+        resolutionCache.clear();
+    }
+
+    private ResolvedModels resolveModels(AnnotatedType type) {
+        ResolutionKey key = resolutionCacheEnabled ? ResolutionKey.of(type, converterChainVersion.get()) : null;
+        if (key != null) {
+            ResolvedModels cached = resolutionCache.get(key);
+            if (cached != null) {
+                resolutionCacheHits.increment();
+                return cached.copy();
+            }
+            resolutionCacheMisses.increment();
+        }
+        ModelConverterContextImpl context = new ModelConverterContextImpl(
+                converters);
+        ResolvedModels resolved = new ResolvedModels(context.resolve(type), context.getDefinedModels());
+        if (key != null && resolutionCacheEnabled) {
+            // the caller may modify the returned schemas, the cache holds its own copy
+            resolutionCache.putIfAbsent(key, resolved.copy());
+        }
+        return resolved;
+    }
+
     public boolean isRegisteredAsSkippedClass(String className) {
         return skippedClasses.contains(className);
     }
@@ -245,4 +381,98 @@ public class ModelConverters {
         }
         return !skippedClasses.contains(className);
     }
+
+    /**
+     * Schemas produced by resolving a type: the resolved schema and the models defined while resolving it.
+     */
+    private static class ResolvedModels {
+        private final Schema schema;
+        private final Map<String, Schema> definedModels;
+
+        ResolvedModels(Schema schema, Map<String, Schema> definedModels) {
+            this.schema = schema;
+            this.definedModels = definedModels;
+        }
+
+        ResolvedModels copy() {
+            Map<String, Schema> models = new TreeMap<>();
+            Schema schemaCopy = null;
+            for (Entry<String, Schema> entry : definedModels.entrySet()) {
+                Schema model = entry.getValue();
+                Schema modelCopy = model == null ? null : model.copy();
+                // keep the resolved schema and its definition the same instance
+                if (model != null && model == schema) {
+                    schemaCopy = modelCopy;
+                }
+                models.put(entry.getKey(), modelCopy);
+            }
+            if (schemaCopy == null && schema != null) {
+                schemaCopy = schema.copy();
+            }
+            return new ResolvedModels(schemaCopy, Collections.unmodifiableMap(models));
+        }
+    }
+
+    /**
+     * Resolution cache key: a snapshot of the members of the requested type affecting its resolution, and the
+     * version of the converter chain it was resolved with.
+     */
+    private static class ResolutionKey {
+        private final AnnotatedType type;
+        private final String name;
+        private final boolean resolveAsRef;
+        private final boolean resolveEnumAsRef;
+        private final boolean skipOverride;
+        private final boolean skipSchemaName;
+        private final boolean skipJsonIdentity;
+        private final int converterChainVersion;
+        private final int hash;
+
+        private ResolutionKey(AnnotatedType type, int converterChainVersion) {
+            this.type = new AnnotatedType()
+                    .type(type.getType())
+                    .ctxAnnotations(type.getCtxAnnotations())
+                    .jsonViewAnnotation(type.getJsonViewAnnotation())
+                    .includePropertiesWithoutJSONView(type.isIncludePropertiesWithoutJSONView())
+                    .schemaProperty(type.isSchemaProperty())
+                    .subtype(type.isSubtype())
+                    .propertyName(type.getPropertyName());
+            this.name = type.getName();
+            this.resolveAsRef = type.isResolveAsRef();
+            this.resolveEnumAsRef = type.isResolveEnumAsRef();
+            this.skipOverride = type.isSkipOverride();
+            this.skipSchemaName = type.isSkipSchemaName();
+            this.skipJsonIdentity = type.isSkipJsonIdentity();
+            this.converterChainVersion = converterChainVersion;
+            this.hash = Objects.hash(this.type, name, resolveAsRef, resolveEnumAsRef, skipOverride, skipSchemaName, skipJsonIdentity, converterChainVersion);
+        }
+
+        static ResolutionKey of(AnnotatedType type, int converterChainVersion) {
+            if (type.getType() == null || type.getParent() != null || type.getComponents() != null || type.getJsonUnwrappedHandler() != null) {
+                return null;
+            }
+            return new ResolutionKey(type, converterChainVersion);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ResolutionKey)) return false;
+            ResolutionKey that = (ResolutionKey) o;
+            return hash == that.hash &&
+                    converterChainVersion == that.converterChainVersion &&
+                    resolveAsRef == that.resolveAsRef &&
+                    resolveEnumAsRef == that.resolveEnumAsRef &&
+                    skipOverride == that.skipOverride &&
+                    skipSchemaName == that.skipSchemaName &&
+                    skipJsonIdentity == that.skipJsonIdentity &&
+                    Objects.equals(name, that.name) &&
+                    type.equals(that.type);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }
@@ -0,0 +1,31 @@
+package io.swagger.v3.core.filter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A filter whose outcome only depends on the part of the request identified by {@link #getCacheKey(Map, Map, Map)}.
+ *
+ * Integrations may memoize the filtered spec per cache key and reuse a single filter instance across
+ * concurrent requests, implementations must therefore be thread-safe.
+ *
+ * @since 2.2.55
+ */
+public interface CacheableOpenAPISpecFilter extends OpenAPISpecFilter {
+
+    /**
+     * Returns a key identifying the filtered spec produced for the given request, e.g. the value of a tenant or role
+     * header; requests with equal keys must produce the same filtered spec.
+     *
+     * @return the cache key, or null if the result for this request must not be cached
+     */
+    String getCacheKey(
+            Map<String, List<String>> params,
+            Map<String, String> cookies,
+            Map<String, List<String>> headers);
+
+    @Override
+    default boolean isThreadSafe() {
+        return true;
+    }
+}
@@ -0,0 +1,275 @@
+package io.swagger.v3.core.filter;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.tags.Tag;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@link SpecFilterDefinition} compiled against a spec.
+ *
+ * Operations of the spec are numbered once, and each rule is evaluated once into the set of operations it keeps or
+ * hides. Filtering for a request then amounts to combining these sets according to the request headers, and copying
+ * the path items of the spec which lose some of their operations; path items, operations and components are
+ * otherwise shared with the source spec, which must therefore not be mutated, nor the filtered specs.
+ *
+ * @since 2.2.55
+ */
+public class CompiledSpecFilter {
+
+    private static final class Entry {
+        final String name;
+        final PathItem pathItem;
+        final boolean webhook;
+        final List<PathItem.HttpMethod> methods = new ArrayList<>();
+        final int first;
+
+        Entry(String name, PathItem pathItem, boolean webhook, int first) {
+            this.name = name;
+            this.pathItem = pathItem;
+            this.webhook = webhook;
+            this.first = first;
+        }
+    }
+
+    private final OpenAPI openAPI;
+    private final boolean removingUnreferencedDefinitions;
+    private final List<Entry> entries = new ArrayList<>();
+    private final List<Operation> operations = new ArrayList<>();
+    private final BitSet allowed = new BitSet();
+    private final List<BitSet> restricted = new ArrayList<>();
+    private final List<String> restrictionHeaders = new ArrayList<>();
+    private volatile SchemaReferenceGraph referenceGraph;
+
+    private CompiledSpecFilter(OpenAPI openAPI, SpecFilterDefinition definition) {
+        this.openAPI = openAPI;
+        this.removingUnreferencedDefinitions = Boolean.TRUE.equals(definition.isRemovingUnreferencedDefinitions());
+    }
+
+    public static CompiledSpecFilter compile(OpenAPI openAPI, SpecFilterDefinition definition) {
+        CompiledSpecFilter compiled = new CompiledSpecFilter(openAPI, definition);
+        if (openAPI.getPaths() != null) {
+            for (Map.Entry<String, PathItem> path : openAPI.getPaths().entrySet()) {
+                compiled.index(path.getKey(), path.getValue(), false);
+            }
+        }
+        if (openAPI.getWebhooks() != null) {
+            for (Map.Entry<String, PathItem> webhook : openAPI.getWebhooks().entrySet()) {
+                compiled.index(webhook.getKey(), webhook.getValue(), true);
+            }
+        }
+
+        Set<String> includedTags = definition.getIncludedTags();
+        for (Entry entry : compiled.entries) {
+            boolean excluded = !entry.webhook && isExcluded(entry.name, definition.getExcludedPaths());
+            for (int i = entry.first; i < entry.first + entry.methods.size(); i++) {
+                List<String> tags = compiled.operations.get(i).getTags();
+                if (!excluded && (includedTags == null || includedTags.isEmpty() || (tags != null && tags.stream().anyMatch(includedTags::contains)))) {
+                    compiled.allowed.set(i);
+                }
+            }
+        }
+
+        if (definition.getRestrictedExtensions() != null) {
+            for (SpecFilterDefinition.ExtensionRestriction restriction : definition.getRestrictedExtensions()) {
+                BitSet hidden = new BitSet();
+                for (int i = 0; i < compiled.operations.size(); i++) {
+                    Map<String, Object> extensions = compiled.operations.get(i).getExtensions();
+                    if (extensions != null && extensions.containsKey(restriction.getName())
+                            && matches(extensions.get(restriction.getName()), restriction.getValue())) {
+                        hidden.set(i);
+                    }
+                }
+                compiled.restricted.add(hidden);
+                compiled.restrictionHeaders.add(restriction.getHeader());
+            }
+        }
+        return compiled;
+    }
+
+    private void index(String name, PathItem pathItem, boolean webhook) {
+        if (pathItem == null) {
+            return;
+        }
+        Entry entry = new Entry(name, pathItem, webhook, operations.size());
+        for (Map.Entry<PathItem.HttpMethod, Operation> operation : pathItem.readOperationsMap().entrySet()) {
+            entry.methods.add(operation.getKey());
+            operations.add(operation.getValue());
+        }
+        entries.add(entry);
+    }
+
+    private static boolean isExcluded(String path, Set<String> excludedPaths) {
+        if (excludedPaths == null) {
+            return false;
+        }
+        for (String excludedPath : excludedPaths) {
+            if (path.equals(excludedPath) || (path.startsWith(excludedPath) && (excludedPath.endsWith("/") || path.charAt(excludedPath.length()) == '/'))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matches(Object extension, String value) {
+        if (value == null) {
+            return true;
+        }
+        if (extension instanceof Collection) {
+            for (Object element : (Collection<?>) extension) {
+                if (value.equals(String.valueOf(element))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return value.equals(String.valueOf(extension));
+    }
+
+    private static boolean hasHeader(Map<String, List<String>> headers, String header) {
+        if (headers == null || header == null) {
+            return false;
+        }
+        for (String name : headers.keySet()) {
+            if (header.equalsIgnoreCase(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns a key identifying the restrictions lifted by the request headers; requests with equal keys get the
+     * same filtered spec.
+     */
+    public String getCacheKey(Map<String, List<String>> headers) {
+        StringBuilder key = new StringBuilder(restricted.size());
+        for (String header : restrictionHeaders) {
+            key.append(hasHeader(headers, header) ? '1' : '0');
+        }
+        return key.toString();
+    }
+
+    /**
+     * @return the numbers of the operations kept for a request with the given headers
+     */
+    public BitSet getOperations(Map<String, List<String>> headers) {
+        BitSet kept = (BitSet) allowed.clone();
+        for (int r = 0; r < restricted.size(); r++) {
+            if (!hasHeader(headers, restrictionHeaders.get(r))) {
+                kept.andNot(restricted.get(r));
+            }
+        }
+        return kept;
+    }
+
+    private SchemaReferenceGraph getReferenceGraph() {
+        SchemaReferenceGraph graph = referenceGraph;
+        if (graph == null) {
+            graph = new SchemaReferenceGraph(openAPI);
+            referenceGraph = graph;
+        }
+        return graph;
+    }
+
+    public OpenAPI filter(Map<String, List<String>> headers) {
+        return filter(getOperations(headers));
+    }
+
+    /**
+     * Returns a copy of the spec holding the given operations only.
+     */
+    public OpenAPI filter(BitSet kept) {
+        OpenAPI clone = new OpenAPI();
+        clone.info(openAPI.getInfo());
+        clone.openapi(openAPI.getOpenapi());
+        clone.jsonSchemaDialect(openAPI.getJsonSchemaDialect());
+        clone.setSpecVersion(openAPI.getSpecVersion());
+        clone.setExtensions(openAPI.getExtensions());
+        clone.setExternalDocs(openAPI.getExternalDocs());
+        clone.setSecurity(openAPI.getSecurity());
+        clone.setServers(openAPI.getServers());
+        clone.tags(openAPI.getTags() == null ? null : new ArrayList<>(openAPI.getTags()));
+        if (openAPI.getPaths() != null) {
+            clone.paths(new Paths());
+            clone.getPaths().setExtensions(openAPI.getPaths().getExtensions());
+        }
+
+        Set<String> allowedTags = new HashSet<>();
+        Set<String> filteredTags = new HashSet<>();
+        for (Entry entry : entries) {
+            int count = entry.methods.size();
+            int keptCount = kept.get(entry.first, entry.first + count).cardinality();
+            PathItem pathItem = null;
+            if (keptCount == count && count > 0) {
+                pathItem = entry.pathItem;
+            } else if (keptCount > 0) {
+                pathItem = new PathItem();
+                pathItem.set$ref(entry.pathItem.get$ref());
+                pathItem.setDescription(entry.pathItem.getDescription());
+                pathItem.setSummary(entry.pathItem.getSummary());
+                pathItem.setExtensions(entry.pathItem.getExtensions());
+                pathItem.setParameters(entry.pathItem.getParameters());
+                pathItem.setServers(entry.pathItem.getServers());
+            }
+            for (int i = 0; i < count; i++) {
+                Operation operation = operations.get(entry.first + i);
+                boolean keep = kept.get(entry.first + i);
+                if (keep && pathItem != entry.pathItem) {
+                    pathItem.operation(entry.methods.get(i), operation);
+                }
+                if (operation.getTags() != null) {
+                    (keep ? allowedTags : filteredTags).addAll(operation.getTags());
+                }
+            }
+            if (pathItem != null) {
+                if (entry.webhook) {
+                    clone.addWebhooks(entry.name, pathItem);
+                } else {
+                    clone.getPaths().addPathItem(entry.name, pathItem);
+                }
+            }
+        }
+
+        filteredTags.removeAll(allowedTags);
+        List<Tag> tags = clone.getTags();
+        if (tags != null && !filteredTags.isEmpty()) {
+            tags.removeIf(tag -> filteredTags.contains(tag.getName()));
+            if (tags.isEmpty()) {
+                clone.setTags(null);
+            }
+        }
+
+        Components components = openAPI.getComponents();
+        if (components != null && removingUnreferencedDefinitions && components.getSchemas() != null) {
+            Components clonedComponents = new Components();
+            clonedComponents.setSchemas(new LinkedHashMap<>(components.getSchemas()));
+            clonedComponents.setSecuritySchemes(components.getSecuritySchemes());
+            clonedComponents.setCallbacks(components.getCallbacks());
+            clonedComponents.setExamples(components.getExamples());
+            clonedComponents.setExtensions(components.getExtensions());
+            clonedComponents.setHeaders(components.getHeaders());
+            clonedComponents.setLinks(components.getLinks());
+            clonedComponents.setParameters(components.getParameters());
+            clonedComponents.setRequestBodies(components.getRequestBodies());
+            clonedComponents.setResponses(components.getResponses());
+            clonedComponents.setPathItems(components.getPathItems());
+            clone.components(clonedComponents);
+            clone = new SpecFilter().referenceGraph(getReferenceGraph()).removeBrokenReferenceDefinitions(clone, openAPI);
+        } else {
+            clone.components(components);
+        }
+        return clone;
+    }
+}
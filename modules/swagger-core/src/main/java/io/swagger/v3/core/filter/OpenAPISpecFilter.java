@@ -78,4 +78,14 @@ public interface OpenAPISpecFilter {
     default boolean isOpenAPI31Filter() {
         return false;
     }
+
+    /**
+     * Returns whether the filter methods may be invoked concurrently, allowing {@link SpecFilter} to filter path
+     * items and component schemas in parallel when given a pool.
+     *
+     * @since 2.2.55
+     */
+    default boolean isThreadSafe() {
+        return false;
+    }
 }
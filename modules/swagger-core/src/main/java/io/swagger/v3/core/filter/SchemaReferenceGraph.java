@@ -0,0 +1,149 @@
+package io.swagger.v3.core.filter;
+
+import io.swagger.v3.core.util.RefUtils;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.callbacks.Callback;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Names of the component schemas referenced by each element of a spec, i.e. the edges of its schema reference graph,
+ * collected once when the graph is created, so that specs filtered from that spec are pruned without walking the
+ * elements the filter kept unchanged again.
+ *
+ * Elements are looked up by identity; elements created or replaced by a filter are not part of the graph, and their
+ * references are collected for each filtered spec. The spec must not be mutated once the graph is created; integrations
+ * create a graph per cached spec.
+ *
+ * @since 2.2.55
+ */
+public class SchemaReferenceGraph {
+
+    private final Map<Object, Set<String>> references = new IdentityHashMap<>();
+
+    public SchemaReferenceGraph(OpenAPI openAPI) {
+        if (openAPI.getPaths() != null) {
+            for (PathItem pathItem : openAPI.getPaths().values()) {
+                addPathItem(pathItem);
+            }
+        }
+        if (openAPI.getWebhooks() != null) {
+            for (PathItem pathItem : openAPI.getWebhooks().values()) {
+                addPathItem(pathItem);
+            }
+        }
+        Components components = openAPI.getComponents();
+        if (components == null) {
+            return;
+        }
+        if (components.getSchemas() != null) {
+            for (Schema schema : components.getSchemas().values()) {
+                add(schema, SpecFilter::addSchemaRef);
+            }
+        }
+        if (components.getResponses() != null) {
+            for (ApiResponse response : components.getResponses().values()) {
+                add(response, SpecFilter::addApiResponseSchemaRef);
+            }
+        }
+        if (components.getRequestBodies() != null) {
+            for (RequestBody requestBody : components.getRequestBodies().values()) {
+                add(requestBody, SpecFilter::addRequestBodySchemaRef);
+            }
+        }
+        if (components.getParameters() != null) {
+            for (Parameter parameter : components.getParameters().values()) {
+                add(parameter, SpecFilter::addParameterSchemaRef);
+            }
+        }
+        if (components.getHeaders() != null) {
+            for (Header header : components.getHeaders().values()) {
+                add(header, SpecFilter::addHeaderSchemaRef);
+            }
+        }
+        if (components.getCallbacks() != null) {
+            for (Callback callback : components.getCallbacks().values()) {
+                add(callback, SpecFilter::addCallbackSchemaRef);
+            }
+        }
+        if (components.getPathItems() != null) {
+            for (PathItem pathItem : components.getPathItems().values()) {
+                add(pathItem, SpecFilter::addPathItemSchemaRef);
+            }
+        }
+    }
+
+    private void addPathItem(PathItem pathItem) {
+        if (pathItem == null) {
+            return;
+        }
+        if (pathItem.getParameters() != null) {
+            for (Parameter parameter : pathItem.getParameters()) {
+                add(parameter, SpecFilter::addParameterSchemaRef);
+            }
+        }
+        for (Operation operation : pathItem.readOperations()) {
+            if (operation.getRequestBody() != null) {
+                add(operation.getRequestBody(), SpecFilter::addRequestBodySchemaRef);
+            }
+            if (operation.getResponses() != null) {
+                for (ApiResponse response : operation.getResponses().values()) {
+                    add(response, SpecFilter::addApiResponseSchemaRef);
+                }
+            }
+            if (operation.getParameters() != null) {
+                for (Parameter parameter : operation.getParameters()) {
+                    add(parameter, SpecFilter::addParameterSchemaRef);
+                }
+            }
+            if (operation.getCallbacks() != null) {
+                for (Callback callback : operation.getCallbacks().values()) {
+                    add(callback, SpecFilter::addCallbackSchemaRef);
+                }
+            }
+        }
+    }
+
+    private <T> void add(T element, BiConsumer<T, Set<String>> walker) {
+        if (element != null && !references.containsKey(element)) {
+            references.put(element, collect(element, walker));
+        }
+    }
+
+    /**
+     * @return the simple names of the schemas referenced by an element of the spec, or <code>null</code> if the
+     * element is not part of the spec
+     */
+    Set<String> references(Object element) {
+        return references.get(element);
+    }
+
+    int size() {
+        return references.size();
+    }
+
+    /**
+     * Collects the simple names of the schemas referenced by an element with the given walker.
+     */
+    static <T> Set<String> collect(T element, BiConsumer<T, Set<String>> walker) {
+        Set<String> refs = new HashSet<>();
+        walker.accept(element, refs);
+        Set<String> names = new HashSet<>();
+        for (String ref : refs) {
+            names.add((String) RefUtils.extractSimpleName(ref).getLeft());
+        }
+        return names;
+    }
+}
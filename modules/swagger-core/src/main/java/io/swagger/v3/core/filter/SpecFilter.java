@@ -1,8 +1,6 @@
 package io.swagger.v3.core.filter;
 
 import io.swagger.v3.core.model.ApiDescription;
-import io.swagger.v3.core.util.Json;
-import io.swagger.v3.core.util.Json31;
 import io.swagger.v3.core.util.RefUtils;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -21,10 +19,13 @@ import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.oas.models.responses.ApiResponses;
 import io.swagger.v3.oas.models.tags.Tag;
 import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -32,10 +33,98 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
-import java.util.stream.Collectors;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
 
 public class SpecFilter {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(SpecFilter.class);
+
+    private boolean copyOnWrite;
+    private ForkJoinPool forkJoinPool;
+    private SchemaReferenceGraph referenceGraph;
+
+    /**
+     * Returns whether filtered specs share the elements kept unchanged by the filter with the source spec.
+     *
+     * @since 2.2.55
+     */
+    public boolean isCopyOnWrite() {
+        return copyOnWrite;
+    }
+
+    /**
+     * Sets whether filtered specs share the path items, operations and component schemas kept unchanged by the
+     * filter with the source spec, only copying the elements the filter removes or modifies. The source spec is never
+     * mutated either way, but in copy-on-write mode the filtered spec must not be mutated, as it holds elements of the
+     * source spec.
+     *
+     * @since 2.2.55
+     */
+    public void setCopyOnWrite(boolean copyOnWrite) {
+        this.copyOnWrite = copyOnWrite;
+    }
+
+    public SpecFilter copyOnWrite(boolean copyOnWrite) {
+        this.copyOnWrite = copyOnWrite;
+        return this;
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public ForkJoinPool getForkJoinPool() {
+        return forkJoinPool;
+    }
+
+    /**
+     * Sets the pool in which path items, webhooks and component schemas are filtered in parallel, if the filter is
+     * {@link OpenAPISpecFilter#isThreadSafe() thread-safe}; filtered elements are merged in their original order, so
+     * the result is the same as filtering sequentially.
+     *
+     * @since 2.2.55
+     */
+    public void setForkJoinPool(ForkJoinPool forkJoinPool) {
+        this.forkJoinPool = forkJoinPool;
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public SpecFilter forkJoinPool(ForkJoinPool forkJoinPool) {
+        this.forkJoinPool = forkJoinPool;
+        return this;
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public SchemaReferenceGraph getReferenceGraph() {
+        return referenceGraph;
+    }
+
+    /**
+     * Sets the reference graph of the spec to filter, used to remove unreferenced definitions from filtered specs
+     * without collecting the references of the elements kept unchanged by the filter again. Without a graph,
+     * the references of all the elements of each filtered spec are collected.
+     *
+     * @since 2.2.55
+     */
+    public void setReferenceGraph(SchemaReferenceGraph referenceGraph) {
+        this.referenceGraph = referenceGraph;
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public SpecFilter referenceGraph(SchemaReferenceGraph referenceGraph) {
+        this.referenceGraph = referenceGraph;
+        return this;
+    }
+
     public OpenAPI filter(OpenAPI openAPI, OpenAPISpecFilter filter, Map<String, List<String>> params, Map<String, String> cookies, Map<String, List<String>> headers) {
         OpenAPI filteredOpenAPI = filterOpenAPI(filter, openAPI, params, cookies, headers);
         if (filteredOpenAPI == null) {
@@ -57,35 +146,15 @@ public class SpecFilter {
 
         Paths clonedPaths = new Paths();
         if (filteredOpenAPI.getPaths() != null) {
-            for (String resourcePath : filteredOpenAPI.getPaths().keySet()) {
-                PathItem pathItem = filteredOpenAPI.getPaths().get(resourcePath);
-
-                PathItem filteredPathItem = filterPathItem(filter, pathItem, resourcePath, params, cookies, headers);
-                PathItem clonedPathItem = cloneFilteredPathItem(filter, filteredPathItem, resourcePath, params, cookies, headers, tagFilter);
-
-                if (clonedPathItem != null) {
-                    if (!clonedPathItem.readOperations().isEmpty()) {
-                        clonedPaths.addPathItem(resourcePath, clonedPathItem);
-                    }
-                }
-            }
+            clonedPaths.putAll(filterPathItems(filter, filteredOpenAPI.getPaths(), params, cookies, headers, tagFilter));
             clone.paths(clonedPaths);
         }
 
         filterTopLevelTags(clone, tagFilter);
 
         if (filteredOpenAPI.getWebhooks() != null) {
-            for (String resourcePath : filteredOpenAPI.getWebhooks().keySet()) {
-                PathItem pathItem = filteredOpenAPI.getWebhooks().get(resourcePath);
-
-                PathItem filteredPathItem = filterPathItem(filter, pathItem, resourcePath, params, cookies, headers);
-                PathItem clonedPathItem = cloneFilteredPathItem(filter, filteredPathItem, resourcePath, params, cookies, headers, tagFilter);
-
-                if (clonedPathItem != null) {
-                    if (!clonedPathItem.readOperations().isEmpty()) {
-                        clone.addWebhooks(resourcePath, clonedPathItem);
-                    }
-                }
+            for (Map.Entry<String, PathItem> webhook : filterPathItems(filter, filteredOpenAPI.getWebhooks(), params, cookies, headers, tagFilter).entrySet()) {
+                clone.addWebhooks(webhook.getKey(), webhook.getValue());
             }
         }
 
@@ -105,12 +174,100 @@ public class SpecFilter {
         }
 
         if (filter.isRemovingUnreferencedDefinitions()) {
-            clone = removeBrokenReferenceDefinitions(clone);
+            clone = removeBrokenReferenceDefinitions(clone, filteredOpenAPI);
         }
 
         return clone;
     }
 
+    /**
+     * Filters path items, in parallel if enabled, keeping those which still hold operations in their original order.
+     */
+    private Map<String, PathItem> filterPathItems(OpenAPISpecFilter filter,
+                                                  Map<String, PathItem> pathItems,
+                                                  Map<String, List<String>> params,
+                                                  Map<String, String> cookies,
+                                                  Map<String, List<String>> headers,
+                                                  TagFilter tagFilter) {
+        Map<String, PathItem> clonedPathItems = new LinkedHashMap<>();
+        if (isParallel(filter, pathItems.size())) {
+            List<Callable<PathItem>> tasks = new ArrayList<>();
+            List<TagFilter> tagFilters = new ArrayList<>();
+            for (Map.Entry<String, PathItem> entry : pathItems.entrySet()) {
+                // each path item collects tags on its own, merged below
+                TagFilter pathTagFilter = new TagFilter();
+                tagFilters.add(pathTagFilter);
+                tasks.add(() -> filterAndClonePathItem(filter, entry.getValue(), entry.getKey(), params, cookies, headers, pathTagFilter));
+            }
+            List<PathItem> results = invokeAll(tasks);
+            if (results != null) {
+                int i = 0;
+                for (String resourcePath : pathItems.keySet()) {
+                    PathItem clonedPathItem = results.get(i);
+                    tagFilter.getAllowedTags().addAll(tagFilters.get(i).getAllowedTags());
+                    tagFilter.getFilteredTags().addAll(tagFilters.get(i).getFilteredTags());
+                    if (clonedPathItem != null) {
+                        clonedPathItems.put(resourcePath, clonedPathItem);
+                    }
+                    i++;
+                }
+                return clonedPathItems;
+            }
+        }
+        for (Map.Entry<String, PathItem> entry : pathItems.entrySet()) {
+            PathItem clonedPathItem = filterAndClonePathItem(filter, entry.getValue(), entry.getKey(), params, cookies, headers, tagFilter);
+            if (clonedPathItem != null) {
+                clonedPathItems.put(entry.getKey(), clonedPathItem);
+            }
+        }
+        return clonedPathItems;
+    }
+
+    private PathItem filterAndClonePathItem(OpenAPISpecFilter filter,
+                                            PathItem pathItem,
+                                            String resourcePath,
+                                            Map<String, List<String>> params,
+                                            Map<String, String> cookies,
+                                            Map<String, List<String>> headers,
+                                            TagFilter tagFilter) {
+        PathItem filteredPathItem = filterPathItem(filter, pathItem, resourcePath, params, cookies, headers);
+        PathItem clonedPathItem = cloneFilteredPathItem(filter, filteredPathItem, resourcePath, params, cookies, headers, tagFilter);
+        if (clonedPathItem != null && !clonedPathItem.readOperations().isEmpty()) {
+            return clonedPathItem;
+        }
+        return null;
+    }
+
+    private boolean isParallel(OpenAPISpecFilter filter, int size) {
+        return forkJoinPool != null && size > 1 && filter.isThreadSafe();
+    }
+
+    /**
+     * Runs the tasks in the pool and returns their results in order, or <code>null</code> if interrupted, in which
+     * case the caller filters sequentially.
+     */
+    private <T> List<T> invokeAll(List<Callable<T>> tasks) {
+        List<T> results = new ArrayList<>(tasks.size());
+        try {
+            for (Future<T> future : forkJoinPool.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.debug("Interrupted while filtering in parallel, filtering sequentially");
+            return null;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+        return results;
+    }
+
     protected OpenAPI filterOpenAPI(OpenAPISpecFilter filter, OpenAPI openAPI, Map<String, List<String>> params, Map<String, String> cookies, Map<String, List<String>> headers) {
         if (openAPI != null) {
             Optional<OpenAPI> filteredOpenAPI = filter.filterOpenAPI(openAPI, params, cookies, headers);
@@ -141,6 +298,7 @@ public class SpecFilter {
                 clone.setSummary(filteredOperationGet.getSummary());
                 clone.setTags(filteredOperationGet.getTags());
 
+                boolean modified = false;
                 List<Parameter> parameters = filteredOperationGet.getParameters();
                 if (parameters != null) {
                     for (Parameter parameter : parameters) {
@@ -148,6 +306,7 @@ public class SpecFilter {
                         if (filteredParameter != null) {
                             filteredParameters.add(filteredParameter);
                         }
+                        modified |= filteredParameter != parameter;
                     }
                     clone.setParameters(filteredParameters);
                 }
@@ -156,21 +315,27 @@ public class SpecFilter {
                 if (requestBody != null) {
                     RequestBody filteredRequestBody = filterRequestBody(filter, operation, requestBody, resourcePath, key, params, cookies, headers);
                     clone.setRequestBody(filteredRequestBody);
-
+                    modified |= filteredRequestBody != requestBody;
                 }
 
                 ApiResponses responses = filteredOperation.get().getResponses();
-                ApiResponses clonedResponses = responses;
                 if (responses != null) {
-                    responses.forEach((responseKey, response) -> {
-                        ApiResponse filteredResponse = filterResponse(filter, operation, response, resourcePath, key, params, cookies, headers);
+                    // responses are collected in a new map, the filtered operation may be one of the source spec
+                    ApiResponses clonedResponses = new ApiResponses();
+                    clonedResponses.setExtensions(responses.getExtensions());
+                    for (Map.Entry<String, ApiResponse> entry : responses.entrySet()) {
+                        ApiResponse filteredResponse = filterResponse(filter, operation, entry.getValue(), resourcePath, key, params, cookies, headers);
                         if (filteredResponse != null) {
-                            clonedResponses.addApiResponse(responseKey, filteredResponse);
+                            clonedResponses.addApiResponse(entry.getKey(), filteredResponse);
                         }
-                    });
+                        modified |= filteredResponse != entry.getValue();
+                    }
                     clone.setResponses(clonedResponses);
                 }
 
+                if (copyOnWrite && !modified) {
+                    return filteredOperationGet;
+                }
                 return clone;
             }
         }
@@ -227,68 +392,86 @@ public class SpecFilter {
             return null;
         }
         Map<String, Schema> clonedComponentsSchema = new LinkedHashMap<>();
-
+        if (isParallel(filter, schemasMap.size())) {
+            List<Callable<Schema>> tasks = new ArrayList<>();
+            for (Schema definition : schemasMap.values()) {
+                tasks.add(() -> filterComponentSchema(filter, definition, params, cookies, headers));
+            }
+            List<Schema> results = invokeAll(tasks);
+            if (results != null) {
+                int i = 0;
+                for (String key : schemasMap.keySet()) {
+                    if (results.get(i) != null) {
+                        clonedComponentsSchema.put(key, results.get(i));
+                    }
+                    i++;
+                }
+                return clonedComponentsSchema;
+            }
+        }
         for (Map.Entry<String, Schema> entry : schemasMap.entrySet()) {
-            String key = entry.getKey();
-            Schema definition = entry.getValue();
-            Optional<Schema> filteredDefinition = filter.filterSchema(definition, params, cookies, headers);
-            if (filteredDefinition.isPresent()) {
-                Map<String, Schema> clonedProperties = new LinkedHashMap<>();
-                if (filteredDefinition.get().getProperties() != null) {
-                    for (Object propName : filteredDefinition.get().getProperties().keySet()) {
-                        Schema property = (Schema) filteredDefinition.get().getProperties().get(propName);
-                        if (property != null) {
-                            Optional<Schema> filteredProperty = filter.filterSchemaProperty(property, definition, (String) propName, params, cookies, headers);
-                            if (filteredProperty.isPresent()) {
-                                clonedProperties.put((String) propName, filteredProperty.get());
-                            }
+            Schema clonedModel = filterComponentSchema(filter, entry.getValue(), params, cookies, headers);
+            if (clonedModel != null) {
+                clonedComponentsSchema.put(entry.getKey(), clonedModel);
+            }
+        }
+        return clonedComponentsSchema;
+    }
+
+    private Schema filterComponentSchema(OpenAPISpecFilter filter, Schema definition, Map<String, List<String>> params, Map<String, String> cookies, Map<String, List<String>> headers) {
+        Optional<Schema> filteredDefinition = filter.filterSchema(definition, params, cookies, headers);
+        if (filteredDefinition.isPresent()) {
+            Map<String, Schema> clonedProperties = new LinkedHashMap<>();
+            if (filteredDefinition.get().getProperties() != null) {
+                for (Object propName : filteredDefinition.get().getProperties().keySet()) {
+                    Schema property = (Schema) filteredDefinition.get().getProperties().get(propName);
+                    if (property != null) {
+                        Optional<Schema> filteredProperty = filter.filterSchemaProperty(property, definition, (String) propName, params, cookies, headers);
+                        if (filteredProperty.isPresent()) {
+                            clonedProperties.put((String) propName, filteredProperty.get());
                         }
                     }
                 }
+            }
 
-                Map<String, Schema> clonedPatternProperties = new LinkedHashMap<>();
-                if (filteredDefinition.get().getPatternProperties() != null) {
-                    for (Object propName : filteredDefinition.get().getPatternProperties().keySet()) {
-                        Schema property = (Schema) filteredDefinition.get().getPatternProperties().get(propName);
-                        if (property != null) {
-                            Optional<Schema> filteredProperty = filter.filterSchemaProperty(property, definition, (String) propName, params, cookies, headers);
-                            if (filteredProperty.isPresent()) {
-                                clonedPatternProperties.put((String) propName, filteredProperty.get());
-                            }
+            Map<String, Schema> clonedPatternProperties = new LinkedHashMap<>();
+            if (filteredDefinition.get().getPatternProperties() != null) {
+                for (Object propName : filteredDefinition.get().getPatternProperties().keySet()) {
+                    Schema property = (Schema) filteredDefinition.get().getPatternProperties().get(propName);
+                    if (property != null) {
+                        Optional<Schema> filteredProperty = filter.filterSchemaProperty(property, definition, (String) propName, params, cookies, headers);
+                        if (filteredProperty.isPresent()) {
+                            clonedPatternProperties.put((String) propName, filteredProperty.get());
                         }
                     }
                 }
+            }
 
-                try {
-                    // TODO solve this, and generally handle clone and passing references
-                    Schema clonedModel;
-                    if (filter.isOpenAPI31Filter()) {
-                        clonedModel = Json31.mapper().readValue(Json31.pretty(definition), Schema.class);
-                    } else {
-                        clonedModel = Json.mapper().readValue(Json.pretty(definition), Schema.class);
-                    }
-                    if (clonedModel.getProperties() != null) {
-                        clonedModel.getProperties().clear();
-                    }
-                    if (!clonedProperties.isEmpty()) {
-                        clonedModel.setProperties(clonedProperties);
-                    }
-                    if (clonedModel.getPatternProperties() != null) {
-                        clonedModel.getPatternProperties().clear();
-                    }
-                    if (!clonedPatternProperties.isEmpty()) {
-                        clonedModel.setPatternProperties(clonedPatternProperties);
-                    }
-                    clonedComponentsSchema.put(key, clonedModel);
+            if (copyOnWrite && filteredDefinition.get() == definition
+                    && hasSameValues(clonedProperties, definition.getProperties())
+                    && hasSameValues(clonedPatternProperties, definition.getPatternProperties())) {
+                return definition;
+            }
 
-                } catch (IOException e) {
-                }
+            Schema clonedModel = definition.copy();
+            if (clonedModel.getProperties() != null) {
+                clonedModel.getProperties().clear();
+            }
+            if (!clonedProperties.isEmpty()) {
+                clonedModel.setProperties(clonedProperties);
             }
+            if (clonedModel.getPatternProperties() != null) {
+                clonedModel.getPatternProperties().clear();
+            }
+            if (!clonedPatternProperties.isEmpty()) {
+                clonedModel.setPatternProperties(clonedPatternProperties);
+            }
+            return clonedModel;
         }
-        return clonedComponentsSchema;
+        return null;
     }
 
-    private void addSchemaRef(Schema schema, Set<String> referencedDefinitions) {
+    static void addSchemaRef(Schema schema, Set<String> referencedDefinitions) {
 
         if (schema == null) {
             return;
@@ -352,7 +535,7 @@ public class SpecFilter {
         }
     }
 
-    private void addContentSchemaRef(Content content, Set<String> referencedDefinitions) {
+    static void addContentSchemaRef(Content content, Set<String> referencedDefinitions) {
         if (content != null) {
             for (MediaType mediaType : content.values()) {
                 addSchemaRef(mediaType.getSchema(), referencedDefinitions);
@@ -360,7 +543,7 @@ public class SpecFilter {
         }
     }
 
-    private void addPathItemSchemaRef(PathItem pathItem, Set<String> referencedDefinitions) {
+    static void addPathItemSchemaRef(PathItem pathItem, Set<String> referencedDefinitions) {
         if (pathItem.getParameters() != null) {
             for (Parameter parameter : pathItem.getParameters()) {
                 addSchemaRef(parameter.getSchema(), referencedDefinitions);
@@ -392,7 +575,7 @@ public class SpecFilter {
         }
     }
 
-    private void addApiResponseSchemaRef(ApiResponse response, Set<String> referencedDefinitions) {
+    static void addApiResponseSchemaRef(ApiResponse response, Set<String> referencedDefinitions) {
         if (response.getHeaders() != null) {
             for (String keyHeaders : response.getHeaders().keySet()) {
                 Header header = response.getHeaders().get(keyHeaders);
@@ -402,97 +585,179 @@ public class SpecFilter {
         addContentSchemaRef(response.getContent(), referencedDefinitions);
     }
 
-    private void addRequestBodySchemaRef(RequestBody requestBody, Set<String> referencedDefinitions) {
+    static void addRequestBodySchemaRef(RequestBody requestBody, Set<String> referencedDefinitions) {
         addContentSchemaRef(requestBody.getContent(), referencedDefinitions);
     }
 
-    private void addParameterSchemaRef(Parameter parameter, Set<String> referencedDefinitions) {
+    static void addParameterSchemaRef(Parameter parameter, Set<String> referencedDefinitions) {
         addSchemaRef(parameter.getSchema(), referencedDefinitions);
         addContentSchemaRef(parameter.getContent(), referencedDefinitions);
     }
 
-    private void addHeaderSchemaRef(Header header, Set<String> referencedDefinitions) {
+    static void addHeaderSchemaRef(Header header, Set<String> referencedDefinitions) {
         addSchemaRef(header.getSchema(), referencedDefinitions);
         addContentSchemaRef(header.getContent(), referencedDefinitions);
     }
 
-    private void addCallbackSchemaRef(Callback callback, Set<String> referencedDefinitions) {
+    static void addCallbackSchemaRef(Callback callback, Set<String> referencedDefinitions) {
         for (PathItem callbackPathItem : callback.values()) {
             addPathItemSchemaRef(callbackPathItem, referencedDefinitions);
         }
     }
 
-    private void addComponentsSchemaRef(Components components, Set<String> referencedDefinitions) {
+    protected OpenAPI removeBrokenReferenceDefinitions(OpenAPI openApi) {
+        return removeBrokenReferenceDefinitions(openApi, null, null);
+    }
 
-        if (components.getResponses() != null) {
-            for (String resourcePath : components.getResponses().keySet()) {
-                ApiResponse apiResponse = components.getResponses().get(resourcePath);
-                addApiResponseSchemaRef(apiResponse, referencedDefinitions);
-            }
+    /**
+     * Removes the schemas of a filtered spec which are not reachable from its paths, webhooks and other components.
+     *
+     * If a {@link #setReferenceGraph(SchemaReferenceGraph) reference graph} of the source spec is set, the references
+     * of the elements kept unchanged by the filter are read from the graph rather than collected again; a filtered
+     * schema keeps the references of its source schema as long as the filter kept all of its properties.
+     *
+     * @param openApi the filtered spec
+     * @param source  the spec which has been filtered
+     * @return the filtered spec
+     * @since 2.2.55
+     */
+    protected OpenAPI removeBrokenReferenceDefinitions(OpenAPI openApi, OpenAPI source) {
+        return removeBrokenReferenceDefinitions(openApi, source, referenceGraph);
+    }
+
+    private OpenAPI removeBrokenReferenceDefinitions(OpenAPI openApi, OpenAPI source, SchemaReferenceGraph graph) {
+        if (openApi == null || openApi.getComponents() == null || openApi.getComponents().getSchemas() == null) {
+            return openApi;
         }
-        if (components.getRequestBodies() != null) {
-            for (String requestBody : components.getRequestBodies().keySet()) {
-                RequestBody requestBody1 = components.getRequestBodies().get(requestBody);
-                addRequestBodySchemaRef(requestBody1, referencedDefinitions);
+        Set<String> referencedDefinitions = new HashSet<>();
+
+        if (openApi.getPaths() != null) {
+            for (PathItem pathItem : openApi.getPaths().values()) {
+                addPathItemReferences(pathItem, graph, referencedDefinitions);
             }
         }
-        if (components.getParameters() != null) {
-            for (String parameter : components.getParameters().keySet()) {
-                Parameter resourceParam = components.getParameters().get(parameter);
-                addParameterSchemaRef(resourceParam, referencedDefinitions);
+        if (openApi.getWebhooks() != null) {
+            for (PathItem pathItem : openApi.getWebhooks().values()) {
+                addPathItemReferences(pathItem, graph, referencedDefinitions);
+            }
+        }
+        addComponentsReferences(openApi.getComponents(), graph, referencedDefinitions);
+
+        Map<String, Schema> schemas = openApi.getComponents().getSchemas();
+        Map<String, Schema> sourceSchemas = source == null || source.getComponents() == null ? null : source.getComponents().getSchemas();
+        Deque<String> pending = new ArrayDeque<>(referencedDefinitions);
+        while (!pending.isEmpty()) {
+            String name = pending.poll();
+            Schema schema = schemas.get(name);
+            if (schema == null) {
+                continue;
+            }
+            Schema sourceSchema = sourceSchemas == null ? null : sourceSchemas.get(name);
+            Schema referencing = hasSameProperties(schema, sourceSchema) ? sourceSchema : schema;
+            for (String referenced : references(graph, referencing, SpecFilter::addSchemaRef)) {
+                if (referencedDefinitions.add(referenced)) {
+                    pending.add(referenced);
+                }
             }
         }
-        if (components.getHeaders() != null) {
-            for (String header : components.getHeaders().keySet()) {
-                Header resourceHeader = components.getHeaders().get(header);
-                addHeaderSchemaRef(resourceHeader, referencedDefinitions);
+        schemas.keySet().retainAll(referencedDefinitions);
+        return openApi;
+    }
+
+    /**
+     * Returns whether a filtered schema holds the very property schemas of its source schema, the other keywords
+     * being copied from the source schema by {@link #filterComponentsSchema(OpenAPISpecFilter, Map, Map, Map, Map)}.
+     */
+    private static boolean hasSameProperties(Schema schema, Schema sourceSchema) {
+        if (sourceSchema == null) {
+            return false;
+        }
+        if (schema == sourceSchema) {
+            return true;
+        }
+        return hasSameValues(schema.getProperties(), sourceSchema.getProperties())
+                && hasSameValues(schema.getPatternProperties(), sourceSchema.getPatternProperties());
+    }
+
+    private static boolean hasSameValues(Map<String, Schema> map, Map<String, Schema> sourceMap) {
+        if (map == null || map.isEmpty()) {
+            return sourceMap == null || sourceMap.isEmpty();
+        }
+        if (sourceMap == null || map.size() != sourceMap.size()) {
+            return false;
+        }
+        for (Map.Entry<String, Schema> entry : map.entrySet()) {
+            if (entry.getValue() != sourceMap.get(entry.getKey())) {
+                return false;
             }
         }
-        if (components.getCallbacks() != null) {
-            for (String callback : components.getCallbacks().keySet()) {
-                Callback resourceCallback = components.getCallbacks().get(callback);
-                addCallbackSchemaRef(resourceCallback, referencedDefinitions);
+        return true;
+    }
+
+    private static <T> Set<String> references(SchemaReferenceGraph graph, T element, BiConsumer<T, Set<String>> walker) {
+        Set<String> references = graph == null ? null : graph.references(element);
+        return references != null ? references : SchemaReferenceGraph.collect(element, walker);
+    }
+
+    private static void addPathItemReferences(PathItem pathItem, SchemaReferenceGraph graph, Set<String> referencedDefinitions) {
+        if (pathItem.getParameters() != null) {
+            for (Parameter parameter : pathItem.getParameters()) {
+                referencedDefinitions.addAll(references(graph, parameter, SpecFilter::addParameterSchemaRef));
             }
         }
-        if (components.getPathItems() != null) {
-            for (String resourcePath : components.getPathItems().keySet()) {
-                PathItem pathItem = components.getPathItems().get(resourcePath);
-                addPathItemSchemaRef(pathItem, referencedDefinitions);
+        for (Operation op : pathItem.readOperations()) {
+            if (op.getRequestBody() != null) {
+                referencedDefinitions.addAll(references(graph, op.getRequestBody(), SpecFilter::addRequestBodySchemaRef));
+            }
+            if (op.getResponses() != null) {
+                for (ApiResponse response : op.getResponses().values()) {
+                    referencedDefinitions.addAll(references(graph, response, SpecFilter::addApiResponseSchemaRef));
+                }
+            }
+            if (op.getParameters() != null) {
+                for (Parameter parameter : op.getParameters()) {
+                    referencedDefinitions.addAll(references(graph, parameter, SpecFilter::addParameterSchemaRef));
+                }
+            }
+            if (op.getCallbacks() != null) {
+                for (Callback callback : op.getCallbacks().values()) {
+                    referencedDefinitions.addAll(references(graph, callback, SpecFilter::addCallbackSchemaRef));
+                }
             }
         }
     }
 
-    protected OpenAPI removeBrokenReferenceDefinitions(OpenAPI openApi) {
-        if (openApi == null || openApi.getComponents() == null || openApi.getComponents().getSchemas() == null) {
-            return openApi;
+    private static void addComponentsReferences(Components components, SchemaReferenceGraph graph, Set<String> referencedDefinitions) {
+        if (components.getResponses() != null) {
+            for (ApiResponse apiResponse : components.getResponses().values()) {
+                referencedDefinitions.addAll(references(graph, apiResponse, SpecFilter::addApiResponseSchemaRef));
+            }
         }
-        Set<String> referencedDefinitions = new TreeSet<>();
-
-        if (openApi.getPaths() != null) {
-            for (String resourcePath : openApi.getPaths().keySet()) {
-                PathItem pathItem = openApi.getPaths().get(resourcePath);
-                addPathItemSchemaRef(pathItem, referencedDefinitions);
+        if (components.getRequestBodies() != null) {
+            for (RequestBody requestBody : components.getRequestBodies().values()) {
+                referencedDefinitions.addAll(references(graph, requestBody, SpecFilter::addRequestBodySchemaRef));
             }
         }
-        if (openApi.getWebhooks() != null) {
-            for (String resourcePath : openApi.getWebhooks().keySet()) {
-                PathItem pathItem = openApi.getWebhooks().get(resourcePath);
-                addPathItemSchemaRef(pathItem, referencedDefinitions);
+        if (components.getParameters() != null) {
+            for (Parameter parameter : components.getParameters().values()) {
+                referencedDefinitions.addAll(references(graph, parameter, SpecFilter::addParameterSchemaRef));
             }
         }
-        if (openApi.getComponents() != null) {
-            Components components = openApi.getComponents();
-            addComponentsSchemaRef(components, referencedDefinitions);
+        if (components.getHeaders() != null) {
+            for (Header header : components.getHeaders().values()) {
+                referencedDefinitions.addAll(references(graph, header, SpecFilter::addHeaderSchemaRef));
+            }
+        }
+        if (components.getCallbacks() != null) {
+            for (Callback callback : components.getCallbacks().values()) {
+                referencedDefinitions.addAll(references(graph, callback, SpecFilter::addCallbackSchemaRef));
+            }
+        }
+        if (components.getPathItems() != null) {
+            for (PathItem pathItem : components.getPathItems().values()) {
+                referencedDefinitions.addAll(references(graph, pathItem, SpecFilter::addPathItemSchemaRef));
+            }
         }
-
-        referencedDefinitions.addAll(resolveAllNestedRefs(referencedDefinitions, referencedDefinitions, openApi));
-        openApi.getComponents()
-                .getSchemas()
-                .keySet()
-                .retainAll(referencedDefinitions.stream()
-                        .map(s -> (String) RefUtils.extractSimpleName(s).getLeft())
-                        .collect(Collectors.toSet()));
-        return openApi;
     }
 
     protected Set<String> resolveAllNestedRefs(Set<String> refs, Set<String> accumulatedRefs, OpenAPI openApi) {
@@ -540,6 +805,7 @@ public class SpecFilter {
 
         Map<PathItem.HttpMethod, Operation> ops = filteredPathItem.readOperationsMap();
 
+        boolean modified = false;
         for (Map.Entry<PathItem.HttpMethod, Operation> entry : ops.entrySet()) {
             PathItem.HttpMethod key = entry.getKey();
             Operation op = entry.getValue();
@@ -549,7 +815,9 @@ public class SpecFilter {
             } else {
                 opTagsBeforeFilter = new ArrayList<>();
             }
-            op = filterOperation(filter, op, resourcePath, key.toString(), params, cookies, headers);
+            Operation filteredOp = filterOperation(filter, op, resourcePath, key.toString(), params, cookies, headers);
+            modified |= filteredOp != op;
+            op = filteredOp;
             clonedPathItem.operation(key, op);
             if (op == null) {
                 tagFilter.getFilteredTags().addAll(opTagsBeforeFilter);
@@ -561,6 +829,9 @@ public class SpecFilter {
                 tagFilter.getFilteredTags().addAll(opTagsBeforeFilter);
             }
         }
+        if (copyOnWrite && !modified) {
+            return filteredPathItem;
+        }
         return clonedPathItem;
     }
 
@@ -0,0 +1,134 @@
+package io.swagger.v3.core.filter;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Declarative rules selecting the operations of a spec served to a request, as an alternative to implementing
+ * {@link OpenAPISpecFilter}; see {@link CompiledSpecFilter}.
+ *
+ * @since 2.2.55
+ */
+public class SpecFilterDefinition {
+
+    private Set<String> includedTags;
+    private Set<String> excludedPaths;
+    private List<ExtensionRestriction> restrictedExtensions;
+    private Boolean removingUnreferencedDefinitions;
+
+    /**
+     * If not empty, only operations with at least one of these tags are kept
+     */
+    public Set<String> getIncludedTags() {
+        return includedTags;
+    }
+
+    public void setIncludedTags(Set<String> includedTags) {
+        this.includedTags = includedTags;
+    }
+
+    public SpecFilterDefinition includedTags(Set<String> includedTags) {
+        this.includedTags = includedTags;
+        return this;
+    }
+
+    /**
+     * Paths equal to or under one of these paths, e.g. <code>/internal</code>, are removed
+     */
+    public Set<String> getExcludedPaths() {
+        return excludedPaths;
+    }
+
+    public void setExcludedPaths(Set<String> excludedPaths) {
+        this.excludedPaths = excludedPaths;
+    }
+
+    public SpecFilterDefinition excludedPaths(Set<String> excludedPaths) {
+        this.excludedPaths = excludedPaths;
+        return this;
+    }
+
+    /**
+     * Operations carrying one of these extensions are removed, unless the request has the header of the restriction
+     */
+    public List<ExtensionRestriction> getRestrictedExtensions() {
+        return restrictedExtensions;
+    }
+
+    public void setRestrictedExtensions(List<ExtensionRestriction> restrictedExtensions) {
+        this.restrictedExtensions = restrictedExtensions;
+    }
+
+    public SpecFilterDefinition restrictedExtensions(List<ExtensionRestriction> restrictedExtensions) {
+        this.restrictedExtensions = restrictedExtensions;
+        return this;
+    }
+
+    /**
+     * When true, component schemas no longer referenced once operations are removed are removed as well
+     */
+    public Boolean isRemovingUnreferencedDefinitions() {
+        return removingUnreferencedDefinitions;
+    }
+
+    public void setRemovingUnreferencedDefinitions(Boolean removingUnreferencedDefinitions) {
+        this.removingUnreferencedDefinitions = removingUnreferencedDefinitions;
+    }
+
+    public SpecFilterDefinition removingUnreferencedDefinitions(Boolean removingUnreferencedDefinitions) {
+        this.removingUnreferencedDefinitions = removingUnreferencedDefinitions;
+        return this;
+    }
+
+    /**
+     * Hides operations with extension <code>name</code>, e.g. <code>x-role</code>, equal to <code>value</code>, or
+     * containing it if the extension is a list, from requests without header <code>header</code>. Operations with the
+     * extension are hidden whatever its value if <code>value</code> is not set, and from all requests if
+     * <code>header</code> is not set.
+     */
+    public static class ExtensionRestriction {
+
+        private String name;
+        private String value;
+        private String header;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public ExtensionRestriction name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public void setValue(String value) {
+            this.value = value;
+        }
+
+        public ExtensionRestriction value(String value) {
+            this.value = value;
+            return this;
+        }
+
+        public String getHeader() {
+            return header;
+        }
+
+        public void setHeader(String header) {
+            this.header = header;
+        }
+
+        public ExtensionRestriction header(String header) {
+            this.header = header;
+            return this;
+        }
+    }
+}
@@ -94,6 +94,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
+import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -148,7 +149,11 @@ public class ModelResolver extends AbstractModelConverter implements ModelConver
 
     protected ValidatorProcessor validatorProcessor;
 
-    protected Set<AnnotatedType> typesBeingResolved = new HashSet<>();
+    /**
+     * Array types whose schema implementation is being resolved, used to break cycles. Resolvers are shared by
+     * concurrent resolutions, each thread therefore sees its own set.
+     */
+    protected Set<AnnotatedType> typesBeingResolved = new ThreadConfinedSet<>();
 
     public ModelResolver(ObjectMapper mapper) {
         super(mapper);
@@ -1499,7 +1504,7 @@ public class ModelResolver extends AbstractModelConverter implements ModelConver
                 for (Map.Entry<String, Schema> entry : ((Map<String, Schema>) innerModel.getProperties()).entrySet()) {
                     Schema prop = entry.getValue();
                     try {
-                        Schema clonedProp = Json.mapper().readValue(Json.pretty(prop), Schema.class);
+                        Schema clonedProp = Json.mapper().readValue(Json.mapper().writeValueAsBytes(prop), Schema.class);
                         // Fall back to the map key when the prop's transient name has been lost
                         // by a prior clone (Schema.getName() is @JsonIgnore).
                         String baseName = prop.getName() != null ? prop.getName() : entry.getKey();
@@ -3691,4 +3696,43 @@ public class ModelResolver extends AbstractModelConverter implements ModelConver
                 ? Boolean.TRUE.equals(PrimitiveType.explicitObjectType)
                 : !Boolean.FALSE.equals(PrimitiveType.explicitObjectType);
     }
+
+    /**
+     * Set whose content is confined to the calling thread.
+     */
+    private static class ThreadConfinedSet<E> extends AbstractSet<E> {
+
+        private final ThreadLocal<Set<E>> elements = ThreadLocal.withInitial(HashSet::new);
+
+        @Override
+        public boolean contains(Object o) {
+            return elements.get().contains(o);
+        }
+
+        @Override
+        public boolean add(E e) {
+            return elements.get().add(e);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            Set<E> set = elements.get();
+            boolean removed = set.remove(o);
+            if (set.isEmpty()) {
+                // do not retain a set for each pooled thread once resolution is done
+                elements.remove();
+            }
+            return removed;
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return elements.get().iterator();
+        }
+
+        @Override
+        public int size() {
+            return elements.get().size();
+        }
+    }
 }
@@ -1725,16 +1725,20 @@ public abstract class AnnotationsUtils {
         return getContent(annotationContents, classTypes, methodTypes, schema, components, jsonViewAnnotation, false);
     }
 
+    /**
+     * Clones the schema by serializing and deserializing it with the mapper of the given spec version; unlike
+     * {@link Schema#copy()} this normalizes the clone, which gets the schema type resolved by the deserializer and
+     * loses members not serialized for the spec version.
+     *
+     * The round trip uses compact UTF-8 bytes, skipping pretty printing and the intermediate string.
+     */
     public static Schema clone(Schema schema, boolean openapi31) {
         if (schema == null)
             return schema;
         try {
             String cloneName = schema.getName();
-            if (openapi31) {
-                schema = Json31.mapper().readValue(Json31.pretty(schema), Schema.class);
-            } else {
-                schema = Json.mapper().readValue(Json.pretty(schema), Schema.class);
-            }
+            ObjectMapper mapper = openapi31 ? Json31.mapper() : Json.mapper();
+            schema = mapper.readValue(mapper.writeValueAsBytes(schema), Schema.class);
             schema.setName(cloneName);
         } catch (IOException e) {
             LOGGER.error("Could not clone schema", e);
@@ -6,4 +6,12 @@ public class ApiResponses31Deserializer extends ApiResponsesDeserializer {
         this.openapi31 = true;
     }
 
+    /**
+     * @since 2.2.55
+     */
+    public ApiResponses31Deserializer(boolean streaming) {
+        super(streaming);
+        this.openapi31 = true;
+    }
+
 }
@@ -0,0 +1,81 @@
+package io.swagger.v3.core.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Tokens of a JSON object buffered in a single pass over the parser, along with separately buffered values of
+ * selected properties, so that streaming deserializers can look at these properties before choosing the type to
+ * deserialize the object to.
+ *
+ * Buffered tokens are replayed as they were read, without building a tree of the object.
+ */
+final class BufferedObject {
+
+    private final TokenBuffer tokens;
+    private final Map<String, TokenBuffer> values = new HashMap<>();
+
+    private BufferedObject(TokenBuffer tokens) {
+        this.tokens = tokens;
+    }
+
+    /**
+     * Returns whether the parser is at the start of an object, or at a property name within one.
+     */
+    static boolean isObject(JsonParser jp) {
+        return jp.currentToken() == JsonToken.START_OBJECT || jp.currentToken() == JsonToken.FIELD_NAME;
+    }
+
+    /**
+     * Reads the object the parser is at, buffering the values of the given properties on their own as well.
+     */
+    static BufferedObject read(JsonParser jp, DeserializationContext ctxt, Set<String> bufferedProperties) throws IOException {
+        BufferedObject object = new BufferedObject(ctxt.bufferForInputBuffering(jp));
+        object.tokens.writeStartObject();
+        JsonToken token = jp.currentToken() == JsonToken.START_OBJECT ? jp.nextToken() : jp.currentToken();
+        for (; token == JsonToken.FIELD_NAME; token = jp.nextToken()) {
+            String name = jp.currentName();
+            jp.nextToken();
+            object.tokens.writeFieldName(name);
+            if (bufferedProperties.contains(name)) {
+                TokenBuffer value = ctxt.bufferForInputBuffering(jp);
+                value.copyCurrentStructure(jp);
+                object.values.put(name, value);
+                object.tokens.append(value);
+            } else {
+                object.tokens.copyCurrentStructure(jp);
+            }
+        }
+        object.tokens.writeEndObject();
+        return object;
+    }
+
+    /**
+     * @return the value of a buffered property as a tree, or <code>null</code> if the property is missing
+     */
+    JsonNode tree(String property, DeserializationContext ctxt) throws IOException {
+        TokenBuffer value = values.get(property);
+        return value == null ? null : ctxt.readTree(parser(value));
+    }
+
+    /**
+     * @return a parser of the object, positioned on its first token
+     */
+    JsonParser parser() throws IOException {
+        return parser(tokens);
+    }
+
+    private static JsonParser parser(TokenBuffer buffer) throws IOException {
+        JsonParser parser = buffer.asParser();
+        parser.nextToken();
+        return parser;
+    }
+}
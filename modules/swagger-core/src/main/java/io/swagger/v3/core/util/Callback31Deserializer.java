@@ -5,4 +5,12 @@ public class Callback31Deserializer extends CallbackDeserializer {
     public Callback31Deserializer() {
         openapi31 = true;
     }
+
+    /**
+     * @since 2.2.55
+     */
+    public Callback31Deserializer(boolean streaming) {
+        super(streaming);
+        this.openapi31 = true;
+    }
 }
@@ -1,6 +1,7 @@
 package io.swagger.v3.core.util;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -17,10 +18,26 @@ import java.util.Map;
 public class CallbackDeserializer extends JsonDeserializer<Callback> {
 
     protected boolean openapi31;
+    protected boolean streaming;
+
+    public CallbackDeserializer() {
+    }
+
+    /**
+     * @param streaming whether to deserialize entries as they are parsed, with the mapper in use, instead of
+     *                  converting trees of entries with the default mapper
+     * @since 2.2.55
+     */
+    public CallbackDeserializer(boolean streaming) {
+        this.streaming = streaming;
+    }
 
     @Override
     public Callback deserialize(JsonParser jp, DeserializationContext ctxt)
             throws IOException {
+        if (streaming && BufferedObject.isObject(jp)) {
+            return deserializeStreaming(jp, ctxt);
+        }
 
         final ObjectMapper mapper;
         if (openapi31) {
@@ -49,4 +66,25 @@ public class CallbackDeserializer extends JsonDeserializer<Callback> {
         }
         return result;
     }
+
+    private Callback deserializeStreaming(JsonParser jp, DeserializationContext ctxt) throws IOException {
+        Callback result = new Callback();
+        Map<String, Object> extensions = new LinkedHashMap<>();
+        JsonToken token = jp.currentToken() == JsonToken.START_OBJECT ? jp.nextToken() : jp.currentToken();
+        for (; token == JsonToken.FIELD_NAME; token = jp.nextToken()) {
+            String childName = jp.currentName();
+            JsonToken value = jp.nextToken();
+            if (childName.startsWith("x-")) {
+                extensions.put(childName, value == JsonToken.VALUE_NULL ? null : ctxt.readValue(jp, Object.class));
+            } else if (childName.equals("$ref")) {
+                result.$ref(ctxt.readTree(jp).asText());
+            } else {
+                result.put(childName, value == JsonToken.VALUE_NULL ? null : ctxt.readValue(jp, PathItem.class));
+            }
+        }
+        if (!extensions.isEmpty()) {
+            result.setExtensions(extensions);
+        }
+        return result;
+    }
 }
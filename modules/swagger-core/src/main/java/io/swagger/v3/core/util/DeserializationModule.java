@@ -14,17 +14,27 @@ import io.swagger.v3.oas.models.security.SecurityScheme;
 public class DeserializationModule extends SimpleModule {
 
     public DeserializationModule() {
+        this(false);
+    }
+
+    /**
+     * @param streaming whether schemas, parameters, paths, callbacks and responses are deserialized from parsed
+     *                  tokens with the mapper the module is registered with, rather than from trees converted with
+     *                  the default mapper
+     * @since 2.2.55
+     */
+    public DeserializationModule(boolean streaming) {
 
-        this.addDeserializer(Schema.class, new ModelDeserializer());
-        this.addDeserializer(Parameter.class, new ParameterDeserializer());
+        this.addDeserializer(Schema.class, new ModelDeserializer(streaming));
+        this.addDeserializer(Parameter.class, new ParameterDeserializer(streaming));
         this.addDeserializer(Header.StyleEnum.class, new HeaderStyleEnumDeserializer());
         this.addDeserializer(Encoding.StyleEnum.class, new EncodingStyleEnumDeserializer());
         this.addDeserializer(EncodingProperty.StyleEnum.class, new EncodingPropertyStyleEnumDeserializer());
 
         this.addDeserializer(SecurityScheme.class, new SecuritySchemeDeserializer());
 
-        this.addDeserializer(ApiResponses.class, new ApiResponsesDeserializer());
-        this.addDeserializer(Paths.class, new PathsDeserializer());
-        this.addDeserializer(Callback.class, new CallbackDeserializer());
+        this.addDeserializer(ApiResponses.class, new ApiResponsesDeserializer(streaming));
+        this.addDeserializer(Paths.class, new PathsDeserializer(streaming));
+        this.addDeserializer(Callback.class, new CallbackDeserializer(streaming));
     }
 }
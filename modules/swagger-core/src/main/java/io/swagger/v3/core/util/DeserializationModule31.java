@@ -19,18 +19,28 @@ import io.swagger.v3.oas.models.security.SecurityScheme;
 public class DeserializationModule31 extends SimpleModule {
 
     public DeserializationModule31() {
+        this(false);
+    }
+
+    /**
+     * @param streaming whether schemas, parameters, paths, callbacks and responses are deserialized from parsed
+     *                  tokens with the mapper the module is registered with, rather than from trees converted with
+     *                  the default mapper
+     * @since 2.2.55
+     */
+    public DeserializationModule31(boolean streaming) {
 
-        this.addDeserializer(Schema.class, new Model31Deserializer());
-        this.addDeserializer(Parameter.class, new Parameter31Deserializer());
+        this.addDeserializer(Schema.class, new Model31Deserializer(streaming));
+        this.addDeserializer(Parameter.class, new Parameter31Deserializer(streaming));
         this.addDeserializer(Header.StyleEnum.class, new HeaderStyleEnumDeserializer());
         this.addDeserializer(Encoding.StyleEnum.class, new EncodingStyleEnumDeserializer());
         this.addDeserializer(EncodingProperty.StyleEnum.class, new EncodingPropertyStyleEnumDeserializer());
 
         this.addDeserializer(SecurityScheme.class, new SecurityScheme31Deserializer());
 
-        this.addDeserializer(ApiResponses.class, new ApiResponses31Deserializer());
-        this.addDeserializer(Paths.class, new Paths31Deserializer());
-        this.addDeserializer(Callback.class, new Callback31Deserializer());
+        this.addDeserializer(ApiResponses.class, new ApiResponses31Deserializer(streaming));
+        this.addDeserializer(Paths.class, new Paths31Deserializer(streaming));
+        this.addDeserializer(Callback.class, new Callback31Deserializer(streaming));
 
         this.setDeserializerModifier(new BeanDeserializerModifier()
         {
@@ -3,4 +3,12 @@ package io.swagger.v3.core.util;
 public class Model31Deserializer extends ModelDeserializer {
 
     public Model31Deserializer() {this.openapi31 = true;}
+
+    /**
+     * @since 2.2.55
+     */
+    public Model31Deserializer(boolean streaming) {
+        super(streaming);
+        this.openapi31 = true;
+    }
 }
@@ -70,11 +70,31 @@ public class ModelDeserializer extends JsonDeserializer<Schema> {
     }
 
     protected boolean openapi31 = false;
+    protected boolean streaming = false;
+
+    public ModelDeserializer() {
+    }
+
+    /**
+     * @param streaming whether to deserialize schemas and their nested schemas from a single tree, with the mapper in
+     *                  use, instead of converting trees of schemas read again at each level with the default mapper
+     * @since 2.2.55
+     */
+    public ModelDeserializer(boolean streaming) {
+        this.streaming = streaming;
+    }
+
     @Override
     public Schema deserialize(JsonParser jp, DeserializationContext ctxt)
             throws IOException {
-        JsonNode node = jp.getCodec().readTree(jp);
+        if (streaming) {
+            SchemaTree tree = SchemaTree.of(jp, ctxt);
+            return deserializeTree(tree.node(jp), tree, ctxt);
+        }
+        return deserializeNode(jp.getCodec().readTree(jp));
+    }
 
+    private Schema deserializeNode(JsonNode node) {
         Schema schema;
 
         if (openapi31) {
@@ -154,15 +174,7 @@ public class ModelDeserializer extends JsonDeserializer<Schema> {
                 ((ObjectNode)node).remove(ADDITIONAL_PROPERTIES);
             }
             schema = Json31.mapper().convertValue(node, JsonSchema.class);
-            if (type instanceof TextNode) {
-                schema.types(new LinkedHashSet<>(Arrays.asList(type.textValue())));
-            } else if (type instanceof ArrayNode){
-                Set<String> types = new LinkedHashSet<>();
-                ((ArrayNode)type).elements().forEachRemaining( n -> {
-                    types.add(n.textValue());
-                });
-                schema.types(types);
-            }
+            setTypes(schema, type);
             if (additionalProperties != null) {
                 try {
                     if (additionalProperties.isBoolean()) {
@@ -183,46 +195,167 @@ public class ModelDeserializer extends JsonDeserializer<Schema> {
         return schema;
     }
 
+    private void setTypes(Schema schema, JsonNode type) {
+        if (type instanceof TextNode) {
+            schema.types(new LinkedHashSet<>(Arrays.asList(type.textValue())));
+        } else if (type instanceof ArrayNode){
+            Set<String> types = new LinkedHashSet<>();
+            ((ArrayNode)type).elements().forEachRemaining( n -> {
+                types.add(n.textValue());
+            });
+            schema.types(types);
+        }
+    }
+
     private Schema deserializeSchemaWithType(JsonNode node, JsonNode typeNode) {
-        Schema schema = null;
         String type = ((TextNode) typeNode).textValue();
         String format = node.get(FORMAT) == null ? "" : getNodeAsString(node, FORMAT);
 
+        if (type.equals(OBJECT_TYPE)) {
+            return deserializeArbitraryOrObjectSchema(node, true);
+        }
+        Class<? extends Schema> schemaClass = getSchemaClass(type, format);
+        if (schemaClass == null) {
+            return null;
+        }
+        Schema schema = Json.mapper().convertValue(node, schemaClass);
+        if (type.equals(INTEGER_TYPE) && StringUtils.isBlank(format)) {
+            schema.setFormat(null);
+        }
+        return schema;
+    }
+
+    /**
+     * @return the class of schemas of the given type and format, other than object, or <code>null</code> for unknown types
+     */
+    private Class<? extends Schema> getSchemaClass(String type, String format) {
         if (type.equals(ARRAY_TYPE)) {
-            schema = Json.mapper().convertValue(node, ArraySchema.class);
+            return ArraySchema.class;
         } else if (type.equals(INTEGER_TYPE)) {
-            schema = Json.mapper().convertValue(node, IntegerSchema.class);
-            if (StringUtils.isBlank(format)) {
-                schema.setFormat(null);
-            }
+            return IntegerSchema.class;
         } else if (type.equals(NUMBER_TYPE)) {
-            schema = Json.mapper().convertValue(node, NumberSchema.class);
+            return NumberSchema.class;
         } else if (type.equals(BOOLEAN_TYPE)) {
-            schema = Json.mapper().convertValue(node, BooleanSchema.class);
+            return BooleanSchema.class;
         } else if (type.equals(STRING_TYPE)) {
             if (DATE_FORMAT.equals(format)) {
-                schema = Json.mapper().convertValue(node, DateSchema.class);
+                return DateSchema.class;
             } else if (DATE_TIME_FORMAT.equals(format)) {
-                schema = Json.mapper().convertValue(node, DateTimeSchema.class);
+                return DateTimeSchema.class;
             } else if (TIME_FORMAT.equals(format)) {
-                schema = Json.mapper().convertValue(node, TimeSchema.class);
+                return TimeSchema.class;
             } else if (DURATION_FORMAT.equals(format)) {
-                schema = Json.mapper().convertValue(node, DurationSchema.class);
+                return DurationSchema.class;
             } else if (DATE_TIME_LOCAL_FORMAT.equals(format)) {
-                schema = Json.mapper().convertValue(node, DateTimeLocalSchema.class);
+                return DateTimeLocalSchema.class;
             } else if (TIME_LOCAL_FORMAT.equals(format)) {
-                schema = Json.mapper().convertValue(node, TimeLocalSchema.class);
-            }else if (EMAIL_FORMAT.equals(format)) {
-                schema = Json.mapper().convertValue(node, EmailSchema.class);
+                return TimeLocalSchema.class;
+            } else if (EMAIL_FORMAT.equals(format)) {
+                return EmailSchema.class;
             } else if (PASSWORD_FORMAT.equals(format)) {
-                schema = Json.mapper().convertValue(node, PasswordSchema.class);
+                return PasswordSchema.class;
             } else if (UUID_FORMAT.equals(format)) {
-                schema = Json.mapper().convertValue(node, UUIDSchema.class);
+                return UUIDSchema.class;
+            }
+            return StringSchema.class;
+        }
+        return null;
+    }
+
+    /**
+     * Deserializes a schema from a node of a tree as {@link #deserializeNode(JsonNode)} does, reading the schema and
+     * its nested schemas with the mapper in use rather than the default mapper, without copying or mutating the tree.
+     */
+    private Schema deserializeTree(JsonNode node, SchemaTree tree, DeserializationContext ctxt) throws IOException {
+        if (openapi31) {
+            return deserializeTreeJsonSchema(node, tree, ctxt);
+        }
+        if (node.isBoolean()) {
+            return new Schema().booleanSchemaValue(node.booleanValue());
+        }
+
+        for (String field : Arrays.asList(ALL_OF, ANY_OF, ONE_OF)) {
+            if (node.get(field) != null) {
+                return tree.read(node, ComposedSchema.class, ctxt);
+            }
+        }
+
+        JsonNode typeNode = node.get(TYPE);
+        if (typeNode != null) {
+            String type = ((TextNode) typeNode).textValue();
+            String format = node.get(FORMAT) == null ? "" : getNodeAsString(node, FORMAT);
+            if (type.equals(OBJECT_TYPE)) {
+                return deserializeTreeArbitraryOrObjectSchema(node, true, tree, ctxt);
+            }
+            Class<? extends Schema> schemaClass = getSchemaClass(type, format);
+            if (schemaClass == null) {
+                return null;
+            }
+            Schema schema = tree.read(node, schemaClass, ctxt);
+            if (type.equals(INTEGER_TYPE) && StringUtils.isBlank(format)) {
+                schema.setFormat(null);
+            }
+            return schema;
+        } else if (node.get(REF) != null) {
+            return new Schema().$ref(getRefAsString(node));
+        }
+        return deserializeTreeArbitraryOrObjectSchema(node, false, tree, ctxt);
+    }
+
+    private Schema deserializeTreeArbitraryOrObjectSchema(JsonNode node, boolean alwaysObject, SchemaTree tree, DeserializationContext ctxt) throws IOException {
+        JsonNode additionalProperties = node.get(ADDITIONAL_PROPERTIES);
+        Schema schema;
+        if (additionalProperties != null) {
+            JsonNode properties = SchemaTree.without(node, ADDITIONAL_PROPERTIES);
+            if (additionalProperties.isBoolean()) {
+                Boolean additionalPropsBoolean = additionalProperties.booleanValue();
+                if (additionalPropsBoolean) {
+                    schema = tree.read(properties, MapSchema.class, ctxt);
+                } else {
+                    schema = tree.read(properties, ObjectSchema.class, ctxt);
+                }
+                schema.setAdditionalProperties(additionalPropsBoolean);
             } else {
-                schema = Json.mapper().convertValue(node, StringSchema.class);
+                Schema innerSchema = tree.read(additionalProperties, Schema.class, ctxt);
+                MapSchema ms = tree.read(properties, MapSchema.class, ctxt);
+                ms.setAdditionalProperties(innerSchema);
+                schema = ms;
+            }
+        } else {
+            if (!Boolean.TRUE.equals(useArbitrarySchema) || alwaysObject) {
+                schema = tree.read(node, ObjectSchema.class, ctxt);
+            } else {
+                schema = tree.read(node, ArbitrarySchema.class, ctxt);
+            }
+        }
+        if (schema != null) {
+            schema.jsonSchema(tree.jsonSchema(node, ADDITIONAL_PROPERTIES));
+        }
+        return schema;
+    }
+
+    private Schema deserializeTreeJsonSchema(JsonNode node, SchemaTree tree, DeserializationContext ctxt) throws IOException {
+        if (node.isBoolean()) {
+            return new Schema().booleanSchemaValue(node.booleanValue());
+        }
+        JsonNode additionalProperties = node.get(ADDITIONAL_PROPERTIES);
+        JsonNode type = node.get(TYPE);
+        if (type == null && additionalProperties == null) {
+            return tree.read(node, JsonSchema.class, ctxt);
+        }
+        Schema schema = tree.read(SchemaTree.without(node, TYPE, ADDITIONAL_PROPERTIES), JsonSchema.class, ctxt);
+        setTypes(schema, type);
+        if (additionalProperties != null) {
+            try {
+                if (additionalProperties.isBoolean()) {
+                    schema.setAdditionalProperties(additionalProperties.booleanValue());
+                } else {
+                    schema.setAdditionalProperties(deserializeTreeJsonSchema(additionalProperties, tree, ctxt));
+                }
+            } catch (Exception e) {
+                Boolean additionalPropsBoolean = Json31.mapper().convertValue(additionalProperties, Boolean.class);
+                schema.setAdditionalProperties(additionalPropsBoolean);
             }
-        } else if (type.equals(OBJECT_TYPE)) {
-            schema = deserializeArbitraryOrObjectSchema(node, true);
         }
         return schema;
     }
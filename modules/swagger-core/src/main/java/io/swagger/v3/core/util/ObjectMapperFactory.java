@@ -116,6 +116,22 @@ public class ObjectMapperFactory {
     }
 
     public static ObjectMapper create(JsonFactory jsonFactory, boolean openapi31) {
+        return create(jsonFactory, openapi31, false);
+    }
+
+    /**
+     * Creates a mapper, optionally deserializing in streaming mode: schemas, parameters, paths, callbacks and
+     * responses are then deserialized with the created mapper, paths, callbacks and responses straight from the parsed
+     * tokens, parameters from their tokens buffered once, and schemas along with all of their nested schemas from a
+     * single tree, instead of reading each of them into a tree converted with the default {@link Json} or
+     * {@link Json31} mapper. This avoids reading nested schemas of large specifications once per nesting level.
+     *
+     * @param jsonFactory the factory to create the mapper with, or <code>null</code> for a JSON mapper
+     * @param openapi31 whether to create a mapper for OpenAPI 3.1
+     * @param streamingDeserialization whether to deserialize in streaming mode
+     * @since 2.2.55
+     */
+    public static ObjectMapper create(JsonFactory jsonFactory, boolean openapi31, boolean streamingDeserialization) {
         ObjectMapper mapper = jsonFactory == null ? new ObjectMapper() : new ObjectMapper(jsonFactory);
 
         if (!openapi31) {
@@ -164,10 +180,10 @@ public class ObjectMapperFactory {
         }
 
         if (!openapi31) {
-            Module deserializerModule = new DeserializationModule();
+            Module deserializerModule = new DeserializationModule(streamingDeserialization);
             mapper.registerModule(deserializerModule);
         } else {
-            Module deserializerModule = new DeserializationModule31();
+            Module deserializerModule = new DeserializationModule31(streamingDeserialization);
             mapper.registerModule(deserializerModule);
         }
         mapper.registerModule(new JavaTimeModule());
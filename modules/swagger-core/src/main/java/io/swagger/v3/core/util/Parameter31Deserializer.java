@@ -5,4 +5,12 @@ public class Parameter31Deserializer extends ParameterDeserializer {
     public Parameter31Deserializer() {
         this.openapi31 = true;
     }
+
+    /**
+     * @since 2.2.55
+     */
+    public Parameter31Deserializer(boolean streaming) {
+        super(streaming);
+        this.openapi31 = true;
+    }
 }
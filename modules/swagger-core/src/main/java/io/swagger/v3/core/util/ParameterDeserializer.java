@@ -14,14 +14,35 @@ import io.swagger.v3.oas.models.parameters.PathParameter;
 import io.swagger.v3.oas.models.parameters.QueryParameter;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
 
 public class ParameterDeserializer extends JsonDeserializer<Parameter> {
 
+    private static final Set<String> BUFFERED_PROPERTIES = new HashSet<>(Arrays.asList("$ref", "in", "description"));
+
     protected boolean openapi31;
+    protected boolean streaming;
+
+    public ParameterDeserializer() {
+    }
+
+    /**
+     * @param streaming whether to deserialize parameters from their tokens buffered once, with the mapper in use,
+     *                  instead of reading trees of parameters with the default mapper
+     * @since 2.2.55
+     */
+    public ParameterDeserializer(boolean streaming) {
+        this.streaming = streaming;
+    }
 
     @Override
     public Parameter deserialize(JsonParser jp, DeserializationContext ctxt)
             throws IOException {
+        if (streaming && BufferedObject.isObject(jp) && jp.getCodec() instanceof ObjectMapper) {
+            return deserializeBuffered(BufferedObject.read(jp, ctxt, BUFFERED_PROPERTIES), (ObjectMapper) jp.getCodec(), ctxt);
+        }
         Parameter result = null;
 
         JsonNode node = jp.getCodec().readTree(jp);
@@ -63,4 +84,34 @@ public class ParameterDeserializer extends JsonDeserializer<Parameter> {
 
         return result;
     }
+
+    private Parameter deserializeBuffered(BufferedObject object, ObjectMapper mapper, DeserializationContext ctxt) throws IOException {
+        JsonNode sub = object.tree("$ref", ctxt);
+        JsonNode inNode = object.tree("in", ctxt);
+        JsonNode desc = object.tree("description", ctxt);
+
+        if (sub != null) {
+            Parameter result = new Parameter().$ref(sub.asText());
+            if (desc != null && openapi31) {
+                result.description(desc.asText());
+            }
+            return result;
+        } else if (inNode != null) {
+            String in = inNode.asText();
+            ObjectReader reader = null;
+            if ("query".equals(in)) {
+                reader = mapper.readerFor(QueryParameter.class);
+            } else if ("header".equals(in)) {
+                reader = mapper.readerFor(HeaderParameter.class);
+            } else if ("path".equals(in)) {
+                reader = mapper.readerFor(PathParameter.class);
+            } else if ("cookie".equals(in)) {
+                reader = mapper.readerFor(CookieParameter.class);
+            }
+            if (reader != null) {
+                return reader.with(DeserializationFeature.READ_ENUMS_USING_TO_STRING).readValue(object.parser());
+            }
+        }
+        return null;
+    }
 }
@@ -5,4 +5,12 @@ public class Paths31Deserializer extends PathsDeserializer {
     public Paths31Deserializer() {
         this.openapi31 = true;
     }
+
+    /**
+     * @since 2.2.55
+     */
+    public Paths31Deserializer(boolean streaming) {
+        super(streaming);
+        this.openapi31 = true;
+    }
 }
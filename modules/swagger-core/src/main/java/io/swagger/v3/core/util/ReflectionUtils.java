@@ -17,15 +17,90 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ReflectionUtils {
     private static final Logger LOGGER = LoggerFactory.getLogger(ReflectionUtils.class);
 
+    private static final Set<Class<?>> INDEXED_CLASSES = Collections.newSetFromMap(new WeakHashMap<>());
+
+    private static final ClassValue<ClassIndex> CLASS_INDEX = new ClassValue<ClassIndex>() {
+        @Override
+        protected ClassIndex computeValue(Class<?> type) {
+            synchronized (INDEXED_CLASSES) {
+                INDEXED_CLASSES.add(type);
+            }
+            return new ClassIndex();
+        }
+    };
+
+    /**
+     * Results of the inherited annotation and overridden method lookups for the class, and for the methods it
+     * declares. Absent results are stored as empty optionals.
+     *
+     * Also holds the public methods of the class grouped by name and parameter count, and the results of
+     * {@link #isOverriddenMethod(Method, Class)} for the class.
+     */
+    private static final class ClassIndex {
+        private final Map<Class<? extends Annotation>, Optional<Annotation>> classAnnotations = new ConcurrentHashMap<>();
+        private final Map<Method, Map<Class<? extends Annotation>, Optional<Annotation>>> methodAnnotations = new ConcurrentHashMap<>();
+        private final Map<Method, Optional<Method>> overriddenMethods = new ConcurrentHashMap<>();
+        private final Map<Method, Boolean> overriddenChecks = new ConcurrentHashMap<>();
+        private volatile Map<String, List<Method>> methodsBySignature;
+
+        private List<Method> methods(Class<?> cls, String name, int parameterCount) {
+            Map<String, List<Method>> methods = methodsBySignature;
+            if (methods == null) {
+                methods = new HashMap<>();
+                for (Method method : cls.getMethods()) {
+                    methods.computeIfAbsent(signature(method.getName(), method.getParameterCount()), k -> new ArrayList<>()).add(method);
+                }
+                methodsBySignature = methods;
+            }
+            return methods.getOrDefault(signature(name, parameterCount), Collections.emptyList());
+        }
+
+        private static String signature(String name, int parameterCount) {
+            return name + '/' + parameterCount;
+        }
+
+        private Map<Class<? extends Annotation>, Optional<Annotation>> methodAnnotations(Method method) {
+            Map<Class<? extends Annotation>, Optional<Annotation>> annotations = methodAnnotations.get(method);
+            if (annotations == null) {
+                annotations = new ConcurrentHashMap<>();
+                Map<Class<? extends Annotation>, Optional<Annotation>> existing = methodAnnotations.putIfAbsent(method, annotations);
+                if (existing != null) {
+                    annotations = existing;
+                }
+            }
+            return annotations;
+        }
+    }
+
+    /**
+     * Discards the cached results of {@link #getAnnotation(Class, Class)}, {@link #getAnnotation(Method, Class)},
+     * {@link #getOverriddenMethod(Method)} and {@link #isOverriddenMethod(Method, Class)}, which may refer to classes
+     * of any class loader; to be called when undeploying applications whose classes have been processed.
+     *
+     * @since 2.2.55
+     */
+    public static void clearCache() {
+        synchronized (INDEXED_CLASSES) {
+            for (Class<?> cls : INDEXED_CLASSES) {
+                CLASS_INDEX.remove(cls);
+            }
+            INDEXED_CLASSES.clear();
+        }
+    }
+
     public static Type typeFromString(String type) {
         final PrimitiveType primitive = PrimitiveType.fromName(type);
         if (primitive != null) {
@@ -62,7 +137,19 @@ public class ReflectionUtils {
      * @return true if the method is overridden method
      */
     public static boolean isOverriddenMethod(Method methodToFind, Class<?> cls) {
+        if (cls == null || methodToFind == null) {
+            return false;
+        }
+        Map<Method, Boolean> overriddenChecks = CLASS_INDEX.get(cls).overriddenChecks;
+        Boolean overridden = overriddenChecks.get(methodToFind);
+        if (overridden == null) {
+            overridden = checkOverriddenMethod(methodToFind, cls);
+            overriddenChecks.putIfAbsent(methodToFind, overridden);
+        }
+        return overridden;
+    }
 
+    private static boolean checkOverriddenMethod(Method methodToFind, Class<?> cls) {
         if (!hasOverriddenMethods(methodToFind, cls)) {
             return false;
         }
@@ -102,23 +189,23 @@ public class ReflectionUtils {
         if (cls == null || methodToFind == null) {
             return false;
         }
+        Class[] paramsToFind = methodToFind.getParameterTypes();
+        if (paramsToFind.length == 0) {
+            return false;
+        }
         boolean found = false;
-        for (Method method: cls.getMethods()) {
-            boolean equalsMethodName = method.getName().equals(methodToFind.getName());
+        // only methods with the same name and parameter count can match
+        for (Method method: CLASS_INDEX.get(cls).methods(cls, methodToFind.getName(), paramsToFind.length)) {
             boolean superClassReturnAssignable = method.getReturnType().isAssignableFrom(methodToFind.getReturnType());
             boolean classReturnAssignable = methodToFind.getReturnType().isAssignableFrom(method.getReturnType());
-            boolean equalsParamCount = method.getParameterCount() == methodToFind.getParameterCount();
 
-            if (equalsMethodName && equalsParamCount && (superClassReturnAssignable || classReturnAssignable)){
+            if (superClassReturnAssignable || classReturnAssignable){
 
-                Class[] paramsToFind = methodToFind.getParameterTypes();
-                if (paramsToFind == null || paramsToFind.length == 0) {
-                    continue;
-                }
+                Class<?>[] parameterTypes = method.getParameterTypes();
                 boolean assignableParams = true;
                 for (int i = 0; i < paramsToFind.length; i++) {
-                    boolean superClassParamAssignable = method.getParameterTypes()[i].isAssignableFrom(paramsToFind[i]);
-                    boolean classParamAssignable = paramsToFind[i].isAssignableFrom(method.getParameterTypes()[i]);
+                    boolean superClassParamAssignable = parameterTypes[i].isAssignableFrom(paramsToFind[i]);
+                    boolean classParamAssignable = paramsToFind[i].isAssignableFrom(parameterTypes[i]);
                     if (!superClassParamAssignable &&  !classParamAssignable) {
                         assignableParams = false;
                     }
@@ -143,6 +230,16 @@ public class ReflectionUtils {
      * @return overridden method from superclass
      */
     public static Method getOverriddenMethod(Method method) {
+        Map<Method, Optional<Method>> overriddenMethods = CLASS_INDEX.get(method.getDeclaringClass()).overriddenMethods;
+        Optional<Method> overridden = overriddenMethods.get(method);
+        if (overridden == null) {
+            overridden = Optional.ofNullable(findOverriddenMethod(method));
+            overriddenMethods.putIfAbsent(method, overridden);
+        }
+        return overridden.orElse(null);
+    }
+
+    private static Method findOverriddenMethod(Method method) {
         Class<?> declaringClass = method.getDeclaringClass();
         Class<?> superClass = declaringClass.getSuperclass();
         Method result = null;
@@ -280,6 +377,16 @@ public class ReflectionUtils {
      * @return annotation if it is found
      */
     public static <A extends Annotation> A getAnnotation(Method method, Class<A> annotationClass) {
+        Map<Class<? extends Annotation>, Optional<Annotation>> annotations = CLASS_INDEX.get(method.getDeclaringClass()).methodAnnotations(method);
+        Optional<Annotation> annotation = annotations.get(annotationClass);
+        if (annotation == null) {
+            annotation = Optional.ofNullable(findAnnotation(method, annotationClass));
+            annotations.putIfAbsent(annotationClass, annotation);
+        }
+        return annotationClass.cast(annotation.orElse(null));
+    }
+
+    private static <A extends Annotation> A findAnnotation(Method method, Class<A> annotationClass) {
         A annotation = method.getAnnotation(annotationClass);
         if (annotation == null) {
             for (Annotation metaAnnotation : method.getAnnotations()) {
@@ -297,6 +404,16 @@ public class ReflectionUtils {
     }
 
     public static <A extends Annotation> A getAnnotation(Class<?> cls, Class<A> annotationClass) {
+        Map<Class<? extends Annotation>, Optional<Annotation>> annotations = CLASS_INDEX.get(cls).classAnnotations;
+        Optional<Annotation> annotation = annotations.get(annotationClass);
+        if (annotation == null) {
+            annotation = Optional.ofNullable(findAnnotation(cls, annotationClass));
+            annotations.putIfAbsent(annotationClass, annotation);
+        }
+        return annotationClass.cast(annotation.orElse(null));
+    }
+
+    private static <A extends Annotation> A findAnnotation(Class<?> cls, Class<A> annotationClass) {
         A annotation = cls.getAnnotation(annotationClass);
         if (annotation == null) {
             for (Annotation metaAnnotation : cls.getAnnotations()) {
@@ -0,0 +1,129 @@
+package io.swagger.v3.core.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TreeTraversingParser;
+
+import java.io.IOException;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tree of a schema read once by a streaming deserializer, from which the schema and its nested schemas are
+ * deserialized without reading any of their subtrees again.
+ *
+ * Values are deserialized with parsers traversing the tree; deserializers of nested schemas find the node such a
+ * parser is at and carry on with the same tree. The <code>jsonSchema</code> maps of nested schemas are likewise looked
+ * up in a map of the whole tree built once, and share their nested maps with it.
+ */
+final class SchemaTree {
+
+    private final JsonNode root;
+    private final ObjectCodec codec;
+    private Map<JsonNode, Map<String, Object>> jsonSchemas;
+
+    private SchemaTree(JsonNode root, ObjectCodec codec) {
+        this.root = root;
+        this.codec = codec;
+    }
+
+    /**
+     * Parser traversing a schema tree.
+     */
+    private static final class Parser extends TreeTraversingParser {
+
+        private final SchemaTree tree;
+
+        Parser(JsonNode node, SchemaTree tree) {
+            super(node, tree.codec);
+            this.tree = tree;
+        }
+
+        /**
+         * Returns the node the parser is at, moving the parser to the end of the node.
+         */
+        JsonNode skipNode() throws IOException {
+            // once children are skipped, the cursor is back to the one holding the node
+            skipChildren();
+            return currentNode();
+        }
+    }
+
+    /**
+     * Returns the tree the parser traverses, or reads the value the parser is at into a new tree.
+     */
+    static SchemaTree of(JsonParser jp, DeserializationContext ctxt) throws IOException {
+        if (jp instanceof Parser && jp.currentToken() != JsonToken.FIELD_NAME) {
+            return ((Parser) jp).tree;
+        }
+        return new SchemaTree(ctxt.readTree(jp), jp.getCodec());
+    }
+
+    /**
+     * Returns the node the parser is at, moving it past the node, if the parser traverses this tree, or the root of
+     * this tree otherwise.
+     */
+    JsonNode node(JsonParser jp) throws IOException {
+        if (jp instanceof Parser && ((Parser) jp).tree == this) {
+            return ((Parser) jp).skipNode();
+        }
+        return root;
+    }
+
+    <T> T read(JsonNode node, Class<T> type, DeserializationContext ctxt) throws IOException {
+        JsonParser parser = new Parser(node, this);
+        parser.nextToken();
+        return ctxt.readValue(parser, type);
+    }
+
+    /**
+     * @return a copy of an object node leaving out the given properties, sharing the values of the other ones
+     */
+    static JsonNode without(JsonNode node, String... properties) {
+        ObjectNode copy = ((ObjectNode) node).objectNode();
+        copy.setAll((ObjectNode) node);
+        for (String property : properties) {
+            copy.remove(property);
+        }
+        return copy;
+    }
+
+    /**
+     * @return the node as a map leaving out the given property, as {@link Json31#jsonSchemaAsMap(JsonNode)}
+     */
+    Map<String, Object> jsonSchema(JsonNode node, String excludedProperty) {
+        if (jsonSchemas == null) {
+            jsonSchemas = new IdentityHashMap<>();
+            index(root, Json31.jsonSchemaAsMap(root));
+        }
+        Map<String, Object> jsonSchema = jsonSchemas.get(node);
+        if (jsonSchema == null) {
+            return Json31.jsonSchemaAsMap(without(node, excludedProperty));
+        }
+        if (jsonSchema.containsKey(excludedProperty)) {
+            jsonSchema = new LinkedHashMap<>(jsonSchema);
+            jsonSchema.remove(excludedProperty);
+        }
+        return jsonSchema;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void index(JsonNode node, Object value) {
+        if (node.isObject() && value instanceof Map) {
+            Map<String, Object> map = (Map<String, Object>) value;
+            jsonSchemas.put(node, map);
+            node.properties().forEach(property -> index(property.getValue(), map.get(property.getKey())));
+        } else if (node.isArray() && value instanceof List) {
+            List<Object> list = (List<Object>) value;
+            for (int i = 0; i < node.size() && i < list.size(); i++) {
+                index(node.get(i), list.get(i));
+            }
+        }
+    }
+}
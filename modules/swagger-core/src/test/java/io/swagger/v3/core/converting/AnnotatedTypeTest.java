@@ -1,6 +1,7 @@
 package io.swagger.v3.core.converting;
 
 import io.swagger.v3.core.converter.AnnotatedType;
+import io.swagger.v3.oas.models.media.Schema;
 import org.testng.annotations.Test;
 
 import java.lang.annotation.*;
@@ -146,4 +147,48 @@ public class AnnotatedTypeTest {
         assertEquals(complexPropA.hashCode(), complexPropC.hashCode(),
                 "When schemaProperty is true, hash codes must be equal if propertyNames are the same.");
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that the memoized hash code follows mutations of the members taking part in equality.
+     */
+    @Test
+    public void testHashCode_shouldBeRecomputedAfterMutation() {
+        Annotation annA = getAnnotationInstance(TestAnnA.class);
+        Annotation annB = getAnnotationInstance(TestAnnB.class);
+        AnnotatedType type = new AnnotatedType(String.class).ctxAnnotations(new Annotation[]{annA});
+        AnnotatedType other = new AnnotatedType(Integer.class).ctxAnnotations(new Annotation[]{annB});
+        assertNotEquals(type, other);
+
+        type.hashCode();
+        type.type(Integer.class);
+        type.ctxAnnotations(new Annotation[]{annB});
+        assertEquals(type, other);
+        assertEquals(type.hashCode(), other.hashCode());
+
+        type.schemaProperty(true).propertyName("field");
+        other.schemaProperty(true).propertyName("field");
+        assertEquals(type.hashCode(), other.hashCode());
+        other.propertyName("other");
+        assertNotEquals(type, other);
+        assertNotEquals(type.hashCode(), other.hashCode());
+    }
+
+    /**
+     * Tests that renaming the parent schema after hashing is reflected by equals() and hashCode().
+     */
+    @Test
+    public void testEqualsAndHashCode_shouldFollowParentName() {
+        Schema parentA = new Schema().name("A");
+        Schema parentB = new Schema().name("B");
+        AnnotatedType typeA = new AnnotatedType(String.class).schemaProperty(true).propertyName("field").parent(parentA);
+        AnnotatedType typeB = new AnnotatedType(String.class).schemaProperty(true).propertyName("field").parent(parentB);
+        assertNotEquals(typeA, typeB);
+
+        typeA.hashCode();
+        parentA.setName("B");
+        assertEquals(typeA, typeB);
+        assertEquals(typeA.hashCode(), typeB.hashCode());
+        assertEquals(new AnnotatedType(String.class).schemaProperty(true).parent(new Schema()).hashCode(),
+                new AnnotatedType(String.class).schemaProperty(true).hashCode());
+    }
+}
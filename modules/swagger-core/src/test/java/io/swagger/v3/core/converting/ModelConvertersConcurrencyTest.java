@@ -0,0 +1,127 @@
+package io.swagger.v3.core.converting;
+
+import io.swagger.v3.core.converter.ModelConverters;
+import io.swagger.v3.core.oas.models.BeanValidationsModel;
+import io.swagger.v3.core.oas.models.Car;
+import io.swagger.v3.core.oas.models.Department;
+import io.swagger.v3.core.oas.models.Employee;
+import io.swagger.v3.core.oas.models.Manufacturers;
+import io.swagger.v3.core.oas.models.ModelWithArrayOfSubclasses;
+import io.swagger.v3.core.oas.models.ModelWithEnumArray;
+import io.swagger.v3.core.oas.models.ModelWithManySubtypesAndRecursion;
+import io.swagger.v3.core.oas.models.ModelWithTuple2;
+import io.swagger.v3.core.oas.models.Person;
+import io.swagger.v3.core.util.Configuration;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Json31;
+import io.swagger.v3.oas.models.media.Schema;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class ModelConvertersConcurrencyTest {
+
+    private static final Class<?>[] MODELS = {
+            Person.class, Employee.class, Department.class, Car.class, Manufacturers.class,
+            ModelWithArrayOfSubclasses.class, ModelWithManySubtypesAndRecursion.class, ModelWithEnumArray.class,
+            ModelWithTuple2.class, BeanValidationsModel.class
+    };
+
+    @Test(description = "a shared instance resolves concurrently the same schemas as sequentially")
+    public void testConcurrentResolution() throws Exception {
+        assertConcurrentResolution(false);
+    }
+
+    @Test(description = "a shared OAS 3.1 instance resolves concurrently the same schemas as sequentially")
+    public void testConcurrentResolution31() throws Exception {
+        assertConcurrentResolution(true);
+    }
+
+    private void assertConcurrentResolution(boolean openapi31) throws Exception {
+        Map<Class<?>, String> expected = new HashMap<>();
+        for (Class<?> model : MODELS) {
+            expected.put(model, serialize(new ModelConverters(openapi31), model, openapi31));
+        }
+
+        ModelConverters shared = new ModelConverters(openapi31);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Void>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                final int offset = t;
+                results.add(executor.submit((Callable<Void>) () -> {
+                    start.await();
+                    for (int i = 0; i < 20 * MODELS.length; i++) {
+                        Class<?> model = MODELS[(i + offset) % MODELS.length];
+                        assertEquals(serialize(shared, model, openapi31), expected.get(model), model.getName());
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<Void> result : results) {
+                result.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(description = "concurrent lookups of the shared instances return the same fully initialized instance")
+    public void testConcurrentGetInstance() throws Exception {
+        ModelConverters.reset();
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<ModelConverters[]>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                final int variant = t % 3;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    if (variant == 0) {
+                        return new ModelConverters[]{ModelConverters.getInstance(false), ModelConverters.getInstance(true)};
+                    }
+                    if (variant == 1) {
+                        return new ModelConverters[]{
+                                ModelConverters.getInstance(false, Schema.SchemaResolution.DEFAULT),
+                                ModelConverters.getInstance(true, Schema.SchemaResolution.DEFAULT)};
+                    }
+                    return new ModelConverters[]{
+                            ModelConverters.getInstance(new Configuration()),
+                            ModelConverters.getInstance(new Configuration().openAPI31(true))};
+                }));
+            }
+            start.countDown();
+            for (Future<ModelConverters[]> result : results) {
+                ModelConverters[] instances = result.get(60, TimeUnit.SECONDS);
+                assertSame(instances[0], ModelConverters.getInstance(false));
+                assertSame(instances[1], ModelConverters.getInstance(true));
+                assertTrue(instances[0].getSkippedPackages().contains("java.lang"));
+                assertTrue(instances[1].getSkippedPackages().contains("java.lang"));
+            }
+        } finally {
+            executor.shutdownNow();
+            ModelConverters.reset();
+        }
+    }
+
+    private static String serialize(ModelConverters converters, Class<?> model, boolean openapi31) throws Exception {
+        return (openapi31 ? Json31.mapper() : Json.mapper()).writeValueAsString(converters.readAll(model));
+    }
+}
@@ -0,0 +1,117 @@
+package io.swagger.v3.core.converting;
+
+import io.swagger.v3.core.converter.AnnotatedType;
+import io.swagger.v3.core.converter.ModelConverter;
+import io.swagger.v3.core.converter.ModelConverterContext;
+import io.swagger.v3.core.converter.ModelConverters;
+import io.swagger.v3.core.converter.ResolvedSchema;
+import io.swagger.v3.core.oas.models.Person;
+import io.swagger.v3.oas.models.media.Schema;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Type;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+
+public class ModelConvertersResolutionCacheTest {
+
+    private static class CountingConverter implements ModelConverter {
+        private final Type counted;
+        private final AtomicInteger resolutions = new AtomicInteger();
+
+        CountingConverter(Type counted) {
+            this.counted = counted;
+        }
+
+        @Override
+        public Schema resolve(AnnotatedType type, ModelConverterContext context, Iterator<ModelConverter> chain) {
+            if (counted.equals(type.getType())) {
+                resolutions.incrementAndGet();
+            }
+            return chain.hasNext() ? chain.next().resolve(type, context, chain) : null;
+        }
+    }
+
+    @Test(description = "the resolution cache is disabled by default")
+    public void testCacheDisabledByDefault() {
+        ModelConverters converters = new ModelConverters();
+        CountingConverter counter = new CountingConverter(Person.class);
+        converters.addConverter(counter);
+
+        converters.readAll(Person.class);
+        converters.readAll(Person.class);
+
+        assertEquals(counter.resolutions.get(), 2);
+        assertEquals(converters.getResolutionCacheHits(), 0);
+        assertEquals(converters.getResolutionCacheMisses(), 0);
+    }
+
+    @Test(description = "resolved schemas are reused across calls and returned as copies")
+    public void testResolutionCache() {
+        ModelConverters converters = new ModelConverters().resolutionCacheEnabled(true);
+        CountingConverter counter = new CountingConverter(Person.class);
+        converters.addConverter(counter);
+
+        Map<String, Schema> first = converters.readAll(Person.class);
+        Map<String, Schema> second = converters.readAll(Person.class);
+        ResolvedSchema resolved = converters.resolveAsResolvedSchema(new AnnotatedType(Person.class));
+        Map<String, Schema> read = converters.read(Person.class);
+
+        assertEquals(counter.resolutions.get(), 1);
+        assertEquals(converters.getResolutionCacheMisses(), 1);
+        assertEquals(converters.getResolutionCacheHits(), 3);
+        assertEquals(second, first);
+        assertEquals(resolved.referencedSchemas, first);
+        assertEquals(read.keySet().size(), 1);
+        assertNotSame(second.get("Person"), first.get("Person"));
+        assertNotSame(resolved.schema, first.get("Person"));
+
+        second.get("Person").setDescription("changed");
+        resolved.schema.getProperties().clear();
+        Map<String, Schema> third = converters.readAll(Person.class);
+        assertEquals(third, first);
+        assertFalse(third.get("Person").getProperties().isEmpty());
+    }
+
+    @Test(description = "types with different resolution settings are cached separately")
+    public void testResolutionCacheKey() {
+        ModelConverters converters = new ModelConverters().resolutionCacheEnabled(true);
+        CountingConverter counter = new CountingConverter(Person.class);
+        converters.addConverter(counter);
+
+        converters.readAll(new AnnotatedType(Person.class));
+        converters.readAll(new AnnotatedType(Person.class).resolveAsRef(true));
+        converters.readAll(new AnnotatedType(Person.class).parent(new Schema()));
+        converters.readAll(new AnnotatedType(Person.class).resolveAsRef(true));
+
+        assertEquals(counter.resolutions.get(), 3);
+        assertEquals(converters.getResolutionCacheHits(), 1);
+        assertEquals(converters.getResolutionCacheSize(), 2);
+    }
+
+    @Test(description = "changing the converter chain or invalidating the cache discards cached schemas")
+    public void testResolutionCacheInvalidation() {
+        ModelConverters converters = new ModelConverters().resolutionCacheEnabled(true);
+        CountingConverter counter = new CountingConverter(Person.class);
+        converters.addConverter(counter);
+
+        converters.readAll(Person.class);
+        converters.invalidateResolutionCache();
+        converters.readAll(Person.class);
+        assertEquals(counter.resolutions.get(), 2);
+
+        CountingConverter other = new CountingConverter(Person.class);
+        converters.addConverter(other);
+        converters.readAll(Person.class);
+        assertEquals(counter.resolutions.get(), 3);
+        assertEquals(other.resolutions.get(), 1);
+
+        converters.setResolutionCacheEnabled(false);
+        assertEquals(converters.getResolutionCacheSize(), 0);
+    }
+}
@@ -0,0 +1,183 @@
+package io.swagger.v3.core.deserialization;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.std.JsonNodeDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Json31;
+import io.swagger.v3.core.util.ObjectMapperFactory;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.MapSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+public class StreamingDeserializationTest {
+
+    private static final String[] SPEC_DIRECTORIES = {"specFiles", "testOAS31", "comprehensiveOAS31"};
+
+    @DataProvider
+    public Object[][] specFiles() throws Exception {
+        List<Object[]> files = new ArrayList<>();
+        for (String directory : SPEC_DIRECTORIES) {
+            for (Path file : list(directory)) {
+                files.add(new Object[]{file.toFile(), false});
+                files.add(new Object[]{file.toFile(), true});
+            }
+        }
+        return files.toArray(new Object[0][]);
+    }
+
+    @Test(dataProvider = "specFiles", description = "specifications deserialized in streaming mode are the same as deserialized from trees")
+    public void testSpecFiles(File file, boolean openapi31) throws Exception {
+        JsonFactory factory = file.getName().endsWith(".json") ? null : new YAMLFactory();
+        ObjectMapper mapper = ObjectMapperFactory.create(factory, openapi31, false);
+        ObjectMapper streamingMapper = ObjectMapperFactory.create(factory, openapi31, true);
+        ObjectMapper output = openapi31 ? Json31.mapper() : Json.mapper();
+
+        OpenAPI expected;
+        try {
+            expected = mapper.readValue(file, OpenAPI.class);
+        } catch (JsonMappingException e) {
+            // some specifications can't be read with the mapper of the other OpenAPI version
+            assertThrows(JsonMappingException.class, () -> streamingMapper.readValue(file, OpenAPI.class));
+            return;
+        }
+        OpenAPI openAPI = streamingMapper.readValue(file, OpenAPI.class);
+
+        assertEquals(output.writeValueAsString(openAPI), output.writeValueAsString(expected));
+        assertEquals(openAPI, expected);
+    }
+
+    @DataProvider
+    public Object[][] schemaFiles() throws Exception {
+        List<Object[]> files = new ArrayList<>();
+        for (Path file : list("")) {
+            if (file.getParent().getFileName().toString().equals("test-classes") && file.toString().endsWith(".json")) {
+                files.add(new Object[]{file.toFile(), false});
+                files.add(new Object[]{file.toFile(), true});
+            }
+        }
+        return files.toArray(new Object[0][]);
+    }
+
+    @Test(dataProvider = "schemaFiles", description = "schemas deserialized in streaming mode are the same as deserialized from trees")
+    public void testSchemaFiles(File file, boolean openapi31) throws Exception {
+        Schema expected = ObjectMapperFactory.create(null, openapi31, false).readValue(file, Schema.class);
+        Schema schema = ObjectMapperFactory.create(null, openapi31, true).readValue(file, Schema.class);
+
+        assertEquals(schema, expected);
+    }
+
+    @Test(description = "nested schemas are deserialized to the same types in streaming mode")
+    public void testNestedSchemas() throws Exception {
+        String json = "{\"type\":\"object\",\"additionalProperties\":{\"type\":\"array\",\"items\":{\"properties\":{\"id\":{\"type\":\"integer\"}," +
+                "\"tags\":{\"additionalProperties\":true}},\"additionalProperties\":false},\"description\":\"nested\"},\"properties\":{\"name\":{\"format\":\"uuid\",\"type\":\"string\"}}}";
+
+        Schema expected = Json.mapper().readValue(json, Schema.class);
+        Schema schema = ObjectMapperFactory.create(null, false, true).readValue(json, Schema.class);
+
+        assertEquals(schema, expected);
+        assertTrue(schema instanceof MapSchema);
+        assertTrue(schema.getAdditionalProperties() instanceof ArraySchema);
+        assertEquals(Json.mapper().writeValueAsString(schema), Json.mapper().writeValueAsString(expected));
+
+        assertEquals(ObjectMapperFactory.create(null, true, true).readValue(json, Schema.class), Json31.mapper().readValue(json, Schema.class));
+    }
+
+    @Test(description = "nested schemas share the jsonSchema map of the schema read")
+    public void testNestedJsonSchema() throws Exception {
+        String json = "{\"type\":\"object\",\"properties\":{\"child\":{\"type\":\"object\",\"properties\":{\"id\":{\"type\":\"integer\"}}}}}";
+
+        Schema schema = ObjectMapperFactory.create(null, false, true).readValue(json, Schema.class);
+
+        assertEquals(schema.getJsonSchema(), Json.mapper().readValue(json, Schema.class).getJsonSchema());
+        Map<String, Object> properties = (Map<String, Object>) schema.getJsonSchema().get("properties");
+        assertSame(((Schema) schema.getProperties().get("child")).getJsonSchema(), properties.get("child"));
+    }
+
+    @Test(description = "nested schemas are read from the tree of the top-level schema, which is read once whatever their depth")
+    public void testNestingDepth() throws Exception {
+        AtomicInteger trees = new AtomicInteger();
+        ObjectMapper mapper = ObjectMapperFactory.create(null, false, true).registerModule(new SimpleModule()
+                .addDeserializer(JsonNode.class, new StdDeserializer<JsonNode>(JsonNode.class) {
+                    @Override
+                    public JsonNode deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+                        trees.incrementAndGet();
+                        return JsonNodeDeserializer.getDeserializer(JsonNode.class).deserialize(p, ctxt);
+                    }
+                }));
+
+        for (int depth : new int[]{1, 25, 100}) {
+            trees.set(0);
+            Schema schema = mapper.readValue(nestedSchemas(depth), Schema.class);
+
+            assertEquals(trees.get(), 1);
+            assertEquals(schema.getProperties().size(), 5);
+            Schema nested = (Schema) schema.getProperties().get("p0");
+            for (int level = 1; level < depth; level++) {
+                nested = (Schema) nested.getProperties().get("c");
+            }
+            assertEquals(nested.getDescription(), "level " + (depth - 1));
+            assertEquals(((Schema) nested.getProperties().get("c")).getType(), "string");
+        }
+    }
+
+    /**
+     * @return an object schema holding 5 chains of object schemas nested <code>depth</code> levels deep
+     */
+    private static String nestedSchemas(int depth) {
+        StringBuilder json = new StringBuilder("{\"type\":\"object\",\"properties\":{");
+        for (int i = 0; i < 5; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("\"p").append(i).append("\":");
+            for (int level = 0; level < depth; level++) {
+                json.append("{\"type\":\"object\",\"description\":\"level ").append(level).append("\",\"properties\":{\"c\":");
+            }
+            json.append("{\"type\":\"string\"}");
+            for (int level = 0; level < depth; level++) {
+                json.append("}}");
+            }
+        }
+        return json.append("}}").toString();
+    }
+
+    private List<Path> list(String directory) throws URISyntaxException, java.io.IOException {
+        Path root = Paths.get(getClass().getClassLoader().getResource(directory).toURI());
+        try (Stream<Path> files = Files.walk(root)) {
+            return files
+                    .filter(Files::isRegularFile)
+                    .filter(f -> f.toString().endsWith(".json") || f.toString().endsWith(".yaml"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+}
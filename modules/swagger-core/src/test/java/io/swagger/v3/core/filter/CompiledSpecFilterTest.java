@@ -0,0 +1,106 @@
+package io.swagger.v3.core.filter;
+
+import io.swagger.v3.core.filter.resources.NoPetOperationsFilter;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.ResourceUtils;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.PathItem;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class CompiledSpecFilterTest {
+
+    private static final String RESOURCE_PATH = "specFiles/petstore-3.0-v2.json";
+
+    @Test(description = "paths under excluded paths are removed, other path items are shared with the source spec")
+    public void shouldExcludePaths() throws IOException {
+        final OpenAPI openAPI = getOpenAPI();
+        final CompiledSpecFilter compiled = CompiledSpecFilter.compile(openAPI, new SpecFilterDefinition()
+                .excludedPaths(Collections.singleton("/pet/findByStatus")));
+
+        final OpenAPI filtered = compiled.filter(Collections.emptyMap());
+
+        assertNull(filtered.getPaths().get("/pet/findByStatus"));
+        assertEquals(filtered.getPaths().size(), 3);
+        assertSame(filtered.getPaths().get("/pet"), openAPI.getPaths().get("/pet"));
+        assertSame(filtered.getComponents(), openAPI.getComponents());
+    }
+
+    @Test(description = "a definition keeps the same operations and schemas as the equivalent filter")
+    public void shouldFilterAsSpecFilter() throws IOException {
+        final OpenAPI openAPI = getOpenAPI();
+        final OpenAPI expected = new SpecFilter().filter(getOpenAPI(), new NoPetOperationsFilter() {
+            @Override
+            public boolean isRemovingUnreferencedDefinitions() {
+                return true;
+            }
+        }, null, null, null);
+
+        final OpenAPI filtered = CompiledSpecFilter.compile(openAPI, new SpecFilterDefinition()
+                .excludedPaths(Collections.singleton("/pet"))
+                .removingUnreferencedDefinitions(true)).filter(Collections.emptyMap());
+
+        assertEquals(Json.pretty(filtered), Json.pretty(expected));
+        assertTrue(filtered.getPaths().isEmpty());
+        assertTrue(filtered.getComponents().getSchemas().isEmpty());
+        assertNotNull(openAPI.getComponents().getSchemas().get("Pet"));
+    }
+
+    @Test(description = "only operations with included tags are kept")
+    public void shouldIncludeTags() throws IOException {
+        final OpenAPI openAPI = getOpenAPI();
+        final OpenAPI filtered = CompiledSpecFilter.compile(openAPI, new SpecFilterDefinition()
+                .includedTags(Collections.singleton("pet"))).filter(Collections.emptyMap());
+
+        assertEquals(filtered.getPaths().size(), 1);
+        final PathItem pathItem = filtered.getPaths().get("/pet");
+        assertNotSame(pathItem, openAPI.getPaths().get("/pet"));
+        assertSame(pathItem.getPut(), openAPI.getPaths().get("/pet").getPut());
+        assertNull(pathItem.getPost());
+    }
+
+    @Test(description = "operations with a restricted extension are only kept for requests with the header of the restriction")
+    public void shouldRestrictExtensions() throws IOException {
+        final OpenAPI openAPI = getOpenAPI();
+        openAPI.getPaths().get("/pet").getPost().addExtension("x-role", "admin");
+        openAPI.getPaths().get("/pet/findByTags").getGet().addExtension("x-role", Arrays.asList("admin", "support"));
+        openAPI.getPaths().get("/pet/findByStatus").getGet().addExtension("x-role", "user");
+        final CompiledSpecFilter compiled = CompiledSpecFilter.compile(openAPI, new SpecFilterDefinition()
+                .restrictedExtensions(Collections.singletonList(new SpecFilterDefinition.ExtensionRestriction()
+                        .name("x-role")
+                        .value("admin")
+                        .header("X-Admin"))));
+        final Map<String, List<String>> admin = Collections.singletonMap("x-admin", Collections.singletonList("true"));
+
+        final OpenAPI filtered = compiled.filter(Collections.emptyMap());
+        assertNull(filtered.getPaths().get("/pet").getPost());
+        assertNotNull(filtered.getPaths().get("/pet").getPut());
+        assertNull(filtered.getPaths().get("/pet/findByTags"));
+        assertNotNull(filtered.getPaths().get("/pet/findByStatus"));
+
+        final OpenAPI adminFiltered = compiled.filter(admin);
+        assertSame(adminFiltered.getPaths().get("/pet"), openAPI.getPaths().get("/pet"));
+        assertNotNull(adminFiltered.getPaths().get("/pet/findByTags"));
+
+        assertEquals(compiled.getCacheKey(null), compiled.getCacheKey(Collections.emptyMap()));
+        assertNotEquals(compiled.getCacheKey(admin), compiled.getCacheKey(Collections.emptyMap()));
+    }
+
+    private OpenAPI getOpenAPI() throws IOException {
+        final String json = ResourceUtils.loadClassResource(getClass(), RESOURCE_PATH);
+        return Json.mapper().readValue(json, OpenAPI.class);
+    }
+}
@@ -10,10 +10,12 @@ import io.swagger.v3.core.filter.resources.NoParametersWithoutQueryInFilter;
 import io.swagger.v3.core.filter.resources.NoPathItemFilter;
 import io.swagger.v3.core.filter.resources.NoPetOperationsFilter;
 import io.swagger.v3.core.filter.resources.NoPetRefSchemaFilter;
+import io.swagger.v3.core.filter.resources.NoTagRefSchemaPropertyFilter;
 import io.swagger.v3.core.filter.resources.RemoveInternalParamsFilter;
 import io.swagger.v3.core.filter.resources.RemoveUnreferencedDefinitionsFilter;
 import io.swagger.v3.core.filter.resources.ReplaceGetOperationsFilter;
 import io.swagger.v3.core.matchers.SerializationMatchers;
+import io.swagger.v3.core.model.ApiDescription;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.core.util.Json31;
 import io.swagger.v3.core.util.Yaml;
@@ -25,6 +27,7 @@ import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.oas.models.tags.Tag;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -32,16 +35,22 @@ import org.slf4j.LoggerFactory;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
@@ -284,6 +293,228 @@ public class SpecFilterTest {
         assertNotNull(filtered.getComponents().getSchemas().get("discriminatorMatchedChildB"));
     }
 
+    @Test(description = "references collected for a spec are reused by the following filtered copies of the spec")
+    public void shouldRemoveBrokenRefsOfEachFilteredCopy() throws IOException {
+        final OpenAPI openAPI = getOpenAPI(RESOURCE_PATH);
+        final SchemaReferenceGraph graph = new SchemaReferenceGraph(openAPI);
+        final RemoveUnreferencedDefinitionsFilter remover = new RemoveUnreferencedDefinitionsFilter();
+        final RemoveUnreferencedDefinitionsFilter noPetOperationsRemover = new RemoveUnreferencedDefinitionsFilter() {
+            @Override
+            public Optional<Operation> filterOperation(Operation operation, ApiDescription api, Map<String, List<String>> params, Map<String, String> cookies, Map<String, List<String>> headers) {
+                return new NoPetOperationsFilter().filterOperation(operation, api, params, cookies, headers);
+            }
+        };
+        final RemoveUnreferencedDefinitionsFilter noTagsRemover = new RemoveUnreferencedDefinitionsFilter() {
+            @Override
+            public Optional<Schema> filterSchemaProperty(Schema property, Schema schema, String propName, Map<String, List<String>> params, Map<String, String> cookies, Map<String, List<String>> headers) {
+                return "tags".equals(propName) ? Optional.empty() : Optional.of(property);
+            }
+        };
+
+        OpenAPI filtered = new SpecFilter().referenceGraph(graph).filter(openAPI, remover, null, null, null);
+        assertNotNull(filtered.getComponents().getSchemas().get("Pet"));
+        assertNotNull(filtered.getComponents().getSchemas().get("Tag"));
+
+        filtered = new SpecFilter().referenceGraph(graph).filter(openAPI, noPetOperationsRemover, null, null, null);
+        assertNull(filtered.getComponents().getSchemas().get("Pet"));
+        assertNull(filtered.getComponents().getSchemas().get("Tag"));
+        assertNull(filtered.getComponents().getSchemas().get("PetHeader"));
+
+        filtered = new SpecFilter().referenceGraph(graph).filter(openAPI, noTagsRemover, null, null, null);
+        assertNotNull(filtered.getComponents().getSchemas().get("Pet"));
+        assertNull(filtered.getComponents().getSchemas().get("Tag"));
+
+        filtered = new SpecFilter().referenceGraph(graph).filter(openAPI, remover, null, null, null);
+        assertNotNull(filtered.getComponents().getSchemas().get("Pet"));
+        assertNotNull(filtered.getComponents().getSchemas().get("Tag"));
+    }
+
+    @Test(description = "filtering a spec again after mutating it prunes according to the mutated spec")
+    public void shouldRemoveBrokenRefsAfterMutation() throws IOException {
+        final OpenAPI openAPI = getOpenAPI(RESOURCE_PATH);
+        final RemoveUnreferencedDefinitionsFilter remover = new RemoveUnreferencedDefinitionsFilter();
+        final Parameter parameter = openAPI.getPaths().get("/pet/findByTags").getGet().getParameters().get(0);
+
+        OpenAPI filtered = new SpecFilter().filter(openAPI, remover, null, null, null);
+        assertNull(filtered.getComponents().getSchemas().get("Bar"));
+
+        parameter.setSchema(new Schema().$ref("#/components/schemas/Bar"));
+        filtered = new SpecFilter().filter(openAPI, remover, null, null, null);
+        assertNotNull(filtered.getComponents().getSchemas().get("Bar"));
+
+        parameter.setSchema(new Schema().type("string"));
+        filtered = new SpecFilter().filter(openAPI, remover, null, null, null);
+        assertNull(filtered.getComponents().getSchemas().get("Bar"));
+
+        parameter.setSchema(new Schema().$ref("#/components/schemas/Bar"));
+        filtered = new SpecFilter().referenceGraph(new SchemaReferenceGraph(openAPI)).filter(openAPI, remover, null, null, null);
+        assertNotNull(filtered.getComponents().getSchemas().get("Bar"));
+    }
+
+    @Test(description = "filtering a spec repeatedly with a property filter does not grow its reference graph")
+    public void shouldNotGrowReferenceGraph() throws IOException {
+        final OpenAPI openAPI = getOpenAPI(RESOURCE_PATH);
+        final SchemaReferenceGraph graph = new SchemaReferenceGraph(openAPI);
+        final int size = graph.size();
+        final RemoveUnreferencedDefinitionsFilter noTagsRemover = new RemoveUnreferencedDefinitionsFilter() {
+            @Override
+            public Optional<Schema> filterSchemaProperty(Schema property, Schema schema, String propName, Map<String, List<String>> params, Map<String, String> cookies, Map<String, List<String>> headers) {
+                return "tags".equals(propName) ? Optional.empty() : Optional.of(property);
+            }
+        };
+        final String expected = Json.pretty(new SpecFilter().filter(openAPI, noTagsRemover, null, null, null));
+
+        for (int i = 0; i < 3; i++) {
+            final OpenAPI filtered = new SpecFilter().copyOnWrite(true).referenceGraph(graph).filter(openAPI, noTagsRemover, null, null, null);
+            assertEquals(Json.pretty(filtered), expected);
+            assertNull(filtered.getComponents().getSchemas().get("Tag"));
+            assertEquals(graph.size(), size);
+        }
+    }
+
+    @Test(description = "copy-on-write filtering produces the same specs without mutating the source spec")
+    public void shouldFilterCopyOnWrite() throws IOException {
+        final OpenAPI openAPI = getOpenAPI(RESOURCE_PATH_3303);
+        final String source = Json.pretty(openAPI);
+        final OpenAPISpecFilter[] filters = {
+                new NoOpOperationsFilter(),
+                new NoGetOperationsFilter(),
+                new NoPetOperationsFilter(),
+                new NoParametersWithoutQueryInFilter(),
+                new RemoveInternalParamsFilter(),
+                new InternalModelPropertiesRemoverFilter(),
+                new NoTagRefSchemaPropertyFilter(),
+                new RemoveUnreferencedDefinitionsFilter(),
+                new NoDefaultResponsesFilter()
+        };
+
+        for (OpenAPISpecFilter filter : filters) {
+            final OpenAPI filtered = new SpecFilter().filter(openAPI, filter, null, null, null);
+            final OpenAPI copyOnWrite = new SpecFilter().copyOnWrite(true).filter(openAPI, filter, null, null, null);
+
+            assertEquals(Json.pretty(copyOnWrite), Json.pretty(filtered), filter.getClass().getSimpleName());
+            assertEquals(Json.pretty(openAPI), source, filter.getClass().getSimpleName());
+        }
+    }
+
+    @Test(description = "copy-on-write filtering shares the elements kept unchanged with the source spec")
+    public void shouldShareUnchangedElementsCopyOnWrite() throws IOException {
+        final OpenAPI openAPI = getOpenAPI(RESOURCE_PATH);
+        final OpenAPI filtered = new SpecFilter().copyOnWrite(true).filter(openAPI, new NoParametersWithoutQueryInFilter(), null, null, null);
+
+        assertSame(filtered.getPaths().get("/pet"), openAPI.getPaths().get("/pet"));
+        assertNotSame(filtered.getPaths().get("/pet/findByStatus"), openAPI.getPaths().get("/pet/findByStatus"));
+        assertSame(filtered.getPaths().get("/pet/findByStatus").getGet().getResponses().get("200"),
+                openAPI.getPaths().get("/pet/findByStatus").getGet().getResponses().get("200"));
+        assertSame(filtered.getComponents().getSchemas().get("Pet"), openAPI.getComponents().getSchemas().get("Pet"));
+
+        final OpenAPI noTags = new SpecFilter().copyOnWrite(true).filter(openAPI, new AbstractSpecFilter() {
+            @Override
+            public Optional<Schema> filterSchemaProperty(Schema property, Schema schema, String propName, Map<String, List<String>> params, Map<String, String> cookies, Map<String, List<String>> headers) {
+                return "tags".equals(propName) ? Optional.empty() : Optional.of(property);
+            }
+        }, null, null, null);
+        assertNotSame(noTags.getComponents().getSchemas().get("Pet"), openAPI.getComponents().getSchemas().get("Pet"));
+        assertNull(noTags.getComponents().getSchemas().get("Pet").getProperties().get("tags"));
+        assertSame(noTags.getComponents().getSchemas().get("Category"), openAPI.getComponents().getSchemas().get("Category"));
+        assertNotNull(openAPI.getComponents().getSchemas().get("Pet").getProperties().get("tags"));
+    }
+
+    @Test(description = "responses removed by the filter are not kept in the source spec nor in the filtered spec")
+    public void shouldRemoveResponsesWithoutMutatingSource() throws IOException {
+        final OpenAPI openAPI = getOpenAPI(RESOURCE_PATH);
+        final OpenAPI filtered = new SpecFilter().filter(openAPI, new NoDefaultResponsesFilter(), null, null, null);
+
+        assertNull(filtered.getPaths().get("/pet/{petId}").getGet().getResponses().getDefault());
+        assertNotNull(openAPI.getPaths().get("/pet/{petId}").getGet().getResponses().getDefault());
+    }
+
+    private static class NoDefaultResponsesFilter extends AbstractSpecFilter {
+        @Override
+        public Optional<ApiResponse> filterResponse(ApiResponse response, Operation operation, ApiDescription api, Map<String, List<String>> params, Map<String, String> cookies, Map<String, List<String>> headers) {
+            if (operation.getResponses().getDefault() == response) {
+                return Optional.empty();
+            }
+            return Optional.of(response);
+        }
+    }
+
+    @Test(description = "filtering in parallel produces the same specs as filtering sequentially")
+    public void shouldFilterInParallel() throws IOException {
+        final OpenAPI openAPI = getOpenAPI(RESOURCE_PATH_3303);
+        final OpenAPISpecFilter[] filters = {
+                new NoGetOperationsFilter() {
+                    @Override
+                    public boolean isThreadSafe() {
+                        return true;
+                    }
+                },
+                new NoParametersWithoutQueryInFilter() {
+                    @Override
+                    public boolean isThreadSafe() {
+                        return true;
+                    }
+                },
+                new InternalModelPropertiesRemoverFilter() {
+                    @Override
+                    public boolean isThreadSafe() {
+                        return true;
+                    }
+                },
+                new RemoveUnreferencedDefinitionsFilter() {
+                    @Override
+                    public boolean isThreadSafe() {
+                        return true;
+                    }
+                }
+        };
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (OpenAPISpecFilter filter : filters) {
+                final OpenAPI filtered = new SpecFilter().filter(openAPI, filter, null, null, null);
+                final OpenAPI parallel = new SpecFilter().forkJoinPool(pool).filter(openAPI, filter, null, null, null);
+
+                assertEquals(Json.pretty(parallel), Json.pretty(filtered), filter.getClass().getSuperclass().getSimpleName());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test(description = "only filters declaring themselves thread-safe are invoked in parallel")
+    public void shouldFilterInParallelOnlyThreadSafeFilters() throws IOException {
+        final OpenAPI openAPI = getOpenAPI(RESOURCE_PATH);
+        final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        final ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            new SpecFilter().forkJoinPool(pool).filter(openAPI, new AbstractSpecFilter() {
+                @Override
+                public Optional<PathItem> filterPathItem(PathItem pathItem, ApiDescription api, Map<String, List<String>> params, Map<String, String> cookies, Map<String, List<String>> headers) {
+                    threads.add(Thread.currentThread());
+                    return Optional.of(pathItem);
+                }
+            }, null, null, null);
+            assertEquals(threads, Collections.singleton(Thread.currentThread()));
+
+            threads.clear();
+            new SpecFilter().forkJoinPool(pool).filter(openAPI, new AbstractSpecFilter() {
+                @Override
+                public Optional<PathItem> filterPathItem(PathItem pathItem, ApiDescription api, Map<String, List<String>> params, Map<String, String> cookies, Map<String, List<String>> headers) {
+                    threads.add(Thread.currentThread());
+                    return Optional.of(pathItem);
+                }
+
+                @Override
+                public boolean isThreadSafe() {
+                    return true;
+                }
+            }, null, null, null);
+            assertFalse(threads.contains(Thread.currentThread()));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
     @Test
     public void shouldRemoveBrokenNestedRefsKeepArray() throws IOException {
         final OpenAPI openAPI = getOpenAPI31(RESOURCE_PATH_LIST);
@@ -0,0 +1,122 @@
+package io.swagger.v3.core.roundtrip;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Json31;
+import io.swagger.v3.core.util.ResourceUtils;
+import io.swagger.v3.core.util.Yaml;
+import io.swagger.v3.core.util.Yaml31;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verifies that the <code>copy()</code> methods of the models produce the same serialized output as the original
+ * objects, for all schemas, parameters, responses, request bodies and media types of a set of specs.
+ */
+public class ModelCopyRoundTripTest {
+
+    @DataProvider
+    public Object[][] specs() {
+        return new Object[][]{
+                {"specFiles/petstore-3.0.json", false},
+                {"specFiles/petstore-3.0-v2.json", false},
+                {"specFiles/compositionTest-3.0.json", false},
+                {"specFiles/propertiesWithConstraints.json", false},
+                {"specFiles/propertyWithVendorExtensions.json", false},
+                {"specFiles/additionalpropsmodel.json", false},
+                {"specFiles/petstore-3.0.yaml", false},
+                {"specFiles/3.1.0/petstore-3.1.yaml", true},
+                {"specFiles/3.1.0/petstore-3.1_more.yaml", true},
+                {"specFiles/3.1.0/composed-schema-3.1.json", true},
+                {"specFiles/3.1.0/changelog-3.1.yaml", true},
+                {"specFiles/3.1.0/specWithDynamicRef.yaml", true},
+                {"specFiles/3.1.0/petstore-3.1_refs_siblings.yaml", true},
+        };
+    }
+
+    @Test(dataProvider = "specs")
+    public void testCopyIsEquivalent(String file, boolean openapi31) throws Exception {
+        String spec = ResourceUtils.loadClassResource(getClass(), file);
+        ObjectMapper reader = file.endsWith(".json") ?
+                (openapi31 ? Json31.mapper() : Json.mapper()) :
+                (openapi31 ? Yaml31.mapper() : Yaml.mapper());
+        ObjectMapper mapper = openapi31 ? Json31.mapper() : Json.mapper();
+        OpenAPI openAPI = reader.readValue(spec, OpenAPI.class);
+
+        int checked = 0;
+        Components components = openAPI.getComponents();
+        if (components != null) {
+            checked += assertCopies(mapper, components.getSchemas(), Schema::copy);
+            checked += assertCopies(mapper, components.getParameters(), Parameter::copy);
+            checked += assertCopies(mapper, components.getResponses(), ApiResponse::copy);
+            checked += assertCopies(mapper, components.getRequestBodies(), b -> b.copy());
+            checked += assertCopies(mapper, components.getHeaders(), h -> h.copy());
+            checked += assertCopies(mapper, components.getExamples(), e -> e.copy());
+            checked += assertCopies(mapper, components.getLinks(), l -> l.copy());
+        }
+        if (openAPI.getPaths() != null) {
+            for (PathItem pathItem : openAPI.getPaths().values()) {
+                for (Operation operation : pathItem.readOperations()) {
+                    if (operation.getParameters() != null) {
+                        for (Parameter parameter : operation.getParameters()) {
+                            checked += assertCopy(mapper, parameter, parameter.copy());
+                        }
+                    }
+                    if (operation.getRequestBody() != null) {
+                        checked += assertCopy(mapper, operation.getRequestBody(), operation.getRequestBody().copy());
+                        checked += assertContentCopy(mapper, operation.getRequestBody().getContent());
+                    }
+                    if (operation.getResponses() != null) {
+                        for (ApiResponse response : operation.getResponses().values()) {
+                            checked += assertCopy(mapper, response, response.copy());
+                            checked += assertContentCopy(mapper, response.getContent());
+                        }
+                    }
+                }
+            }
+        }
+        assertTrue(checked > 0, "no model objects found in " + file);
+    }
+
+    private int assertContentCopy(ObjectMapper mapper, Content content) throws Exception {
+        if (content == null) {
+            return 0;
+        }
+        return assertCopy(mapper, content, content.copy()) +
+                assertCopies(mapper, content, m -> m.copy());
+    }
+
+    private <T> int assertCopies(ObjectMapper mapper, Map<String, T> models, UnaryOperator<T> copier) throws Exception {
+        if (models == null) {
+            return 0;
+        }
+        int checked = 0;
+        for (T model : models.values()) {
+            checked += assertCopy(mapper, model, copier.apply(model));
+        }
+        return checked;
+    }
+
+    private int assertCopy(ObjectMapper mapper, Object original, Object copy) throws Exception {
+        assertNotSame(copy, original);
+        assertEquals(copy.getClass(), original.getClass());
+        assertEquals(copy, original);
+        assertEquals(mapper.writeValueAsString(copy), mapper.writeValueAsString(original));
+        return 1;
+    }
+}
@@ -22,13 +22,17 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 
 import static java.lang.annotation.ElementType.PARAMETER;
 import static org.testng.Assert.assertTrue;
@@ -77,6 +81,23 @@ public class ReflectionUtilsTest {
         }
     }
 
+    @Test
+    public void isOverriddenMethodCachedTest() {
+        Map<Method, Boolean> results = new HashMap<>();
+        for (Method method : Child.class.getMethods()) {
+            results.put(method, ReflectionUtils.isOverriddenMethod(method, Child.class));
+            assertEquals(ReflectionUtils.isOverriddenMethod(method, Child.class), (boolean) results.get(method));
+        }
+        assertTrue(results.containsValue(true));
+
+        ReflectionUtils.clearCache();
+        for (Method method : Child.class.getMethods()) {
+            assertEquals(ReflectionUtils.isOverriddenMethod(method, Child.class), (boolean) results.get(method), method.toString());
+        }
+        assertFalse(ReflectionUtils.isOverriddenMethod(null, Child.class));
+        assertFalse(ReflectionUtils.isOverriddenMethod(Child.class.getMethods()[0], null));
+    }
+
     @Test
     public void getOverriddenMethodTest() throws NoSuchMethodException {
         final Method method1 = ReflectionUtils.getOverriddenMethod(
@@ -130,6 +151,27 @@ public class ReflectionUtilsTest {
         assertNull(ReflectionUtils.getAnnotation(method, ApiResponse.class));
     }
 
+    @Test
+    public void annotationLookupsAreCachedTest() throws NoSuchMethodException {
+        final Method method = Child.class.getMethod("annotationHolder");
+        final Method parametrized = Child.class.getMethod("parametrizedMethod1", Integer.class);
+
+        final Schema schema = ReflectionUtils.getAnnotation(method, Schema.class);
+        final Path path = ReflectionUtils.getAnnotation(Child.class, Path.class);
+        final Method overridden = ReflectionUtils.getOverriddenMethod(parametrized);
+        assertSame(ReflectionUtils.getAnnotation(method, Schema.class), schema);
+        assertSame(ReflectionUtils.getAnnotation(Child.class, Path.class), path);
+        assertSame(ReflectionUtils.getOverriddenMethod(parametrized), overridden);
+        assertNull(ReflectionUtils.getAnnotation(method, ApiResponse.class));
+        assertNull(ReflectionUtils.getAnnotation(method, ApiResponse.class));
+
+        ReflectionUtils.clearCache();
+        assertEquals(ReflectionUtils.getAnnotation(method, Schema.class), schema);
+        assertEquals(ReflectionUtils.getAnnotation(Child.class, Path.class), path);
+        assertEquals(ReflectionUtils.getOverriddenMethod(parametrized), overridden);
+        assertNotSame(ReflectionUtils.getOverriddenMethod(parametrized), overridden);
+    }
+
     @Test
     public void isVoidTest() {
         assertTrue(ReflectionUtils.isVoid(Void.class));
@@ -146,6 +146,25 @@ public class ResolveTask extends DefaultTask {
     @Optional
     public final Property<String> groupsValidationStrategy = getProject().getObjects().property(String.class);
 
+    /**
+     * Directory of the compiled classes the spec is resolved from; when set along with {@link #prebuiltOutputDir},
+     * the resolved spec is embedded in the output directory, to be served at runtime by contexts configured with
+     * <code>prebuiltSpecLocation</code>.
+     *
+     * @since 2.2.55
+     */
+    @InputFiles
+    @Optional
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public final DirectoryProperty prebuiltClassesDir = getProject().getObjects().directoryProperty();
+
+    /**
+     * @since 2.2.55
+     */
+    @OutputDirectory
+    @Optional
+    public final DirectoryProperty prebuiltOutputDir = getProject().getObjects().directoryProperty();
+
     public Property<String> getOutputFileName() {
         return outputFileName;
     }
@@ -451,6 +470,14 @@ public class ResolveTask extends DefaultTask {
         this.openAPIVersion.set(openAPIVersion);
     }
 
+    public DirectoryProperty getPrebuiltClassesDir() {
+        return prebuiltClassesDir;
+    }
+
+    public DirectoryProperty getPrebuiltOutputDir() {
+        return prebuiltOutputDir;
+    }
+
     @TaskAction
     public void resolve() throws GradleException {
         if (skip.getOrElse(false)) {
@@ -596,6 +623,13 @@ public class ResolveTask extends DefaultTask {
                 method.invoke(swaggerLoader, openAPIVersion.get());
             }
 
+            if (prebuiltClassesDir.isPresent() && prebuiltOutputDir.isPresent()) {
+                method = swaggerLoaderClass.getDeclaredMethod("setPrebuiltClassesDirectory", String.class);
+                method.invoke(swaggerLoader, prebuiltClassesDir.getAsFile().get().getAbsolutePath());
+                method = swaggerLoaderClass.getDeclaredMethod("setPrebuiltOutputDirectory", String.class);
+                method.invoke(swaggerLoader, prebuiltOutputDir.getAsFile().get().getAbsolutePath());
+            }
+
             method = swaggerLoaderClass.getDeclaredMethod("resolve");
             Map<String, String> specs = (Map<String, String>) method.invoke(swaggerLoader);
 
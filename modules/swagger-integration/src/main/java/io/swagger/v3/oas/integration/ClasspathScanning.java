@@ -0,0 +1,48 @@
+package io.swagger.v3.oas.integration;
+
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ScanResult;
+import io.swagger.v3.oas.integration.api.OpenAPIConfiguration;
+
+/**
+ * Creates and runs the ClassGraph scans of scanners according to the scan options of a configuration.
+ *
+ * @since 2.2.55
+ */
+public final class ClasspathScanning {
+
+    private ClasspathScanning() {
+    }
+
+    /**
+     * Returns a new <code>ClassGraph</code>, collecting either all class info or, if <code>scanAnnotationsOnly</code>
+     * is set, only the class and annotation info needed to find classes by annotation, and skipping the jars and
+     * modules excluded by <code>scanExcludedJars</code> and <code>scanExcludedModules</code>.
+     */
+    public static ClassGraph classGraph(OpenAPIConfiguration configuration) {
+        ClassGraph graph = new ClassGraph();
+        if (configuration != null && Boolean.TRUE.equals(configuration.isScanAnnotationsOnly())) {
+            // non public classes are found as well, as with enableAllInfo
+            graph.enableClassInfo().enableAnnotationInfo().ignoreClassVisibility();
+        } else {
+            graph.enableAllInfo();
+        }
+        if (configuration != null && configuration.getScanExcludedJars() != null && !configuration.getScanExcludedJars().isEmpty()) {
+            graph.rejectJars(configuration.getScanExcludedJars().toArray(new String[0]));
+        }
+        if (configuration != null && configuration.getScanExcludedModules() != null && !configuration.getScanExcludedModules().isEmpty()) {
+            graph.rejectModules(configuration.getScanExcludedModules().toArray(new String[0]));
+        }
+        return graph;
+    }
+
+    /**
+     * Scans with <code>scanThreads</code> worker threads if set, or with the ClassGraph default otherwise.
+     */
+    public static ScanResult scan(ClassGraph graph, OpenAPIConfiguration configuration) {
+        if (configuration != null && configuration.getScanThreads() != null && configuration.getScanThreads() > 0) {
+            return graph.scan(configuration.getScanThreads());
+        }
+        return graph.scan();
+    }
+}
@@ -12,7 +12,11 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import io.swagger.v3.core.converter.ModelConverter;
 import io.swagger.v3.core.converter.ModelConverters;
+import io.swagger.v3.core.filter.CacheableOpenAPISpecFilter;
+import io.swagger.v3.core.filter.CompiledSpecFilter;
 import io.swagger.v3.core.filter.OpenAPI31SpecFilter;
+import io.swagger.v3.core.filter.OpenAPISpecFilter;
+import io.swagger.v3.core.filter.SchemaReferenceGraph;
 import io.swagger.v3.core.filter.SpecFilter;
 import io.swagger.v3.core.jackson.ModelResolver;
 import io.swagger.v3.core.jackson.PathsSerializer;
@@ -39,12 +43,20 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class GenericOpenApiContext<T extends GenericOpenApiContext> implements OpenApiContext {
 
@@ -73,6 +85,32 @@ public class GenericOpenApiContext<T extends GenericOpenApiContext> implements O
     // -1 perpetual
     private long cacheTTL = -1;
 
+    private OpenAPIConfiguration.CacheRefreshPolicy cacheRefreshPolicy;
+
+    private long cacheRefreshAhead = 0;
+
+    private Executor refreshExecutor;
+
+    private volatile ForkJoinPool filterPool;
+
+    private final Object refreshLock = new Object();
+
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    private int filterCacheSize = DEFAULT_FILTER_CACHE_SIZE;
+
+    private volatile OpenAPISpecFilter specFilter;
+
+    private PrebuiltOpenApi prebuiltOpenApi;
+
+    public static final int DEFAULT_FILTER_CACHE_SIZE = 16;
+
+    private static final Executor DEFAULT_REFRESH_EXECUTOR = Executors.newCachedThreadPool(r -> {
+        Thread thread = new Thread(r, "swagger-openapi-context-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private Boolean openAPI31;
 
     private Boolean convertToOpenAPI31;
@@ -87,10 +125,142 @@ public class GenericOpenApiContext<T extends GenericOpenApiContext> implements O
 
     public void setCacheTTL(long cacheTTL) {
         this.cacheTTL = cacheTTL;
+        checkCacheRefreshAhead();
     }
 
     public T cacheTTL(long cacheTTL) {
-        this.cacheTTL = cacheTTL;
+        setCacheTTL(cacheTTL);
+        return (T) this;
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public OpenAPIConfiguration.CacheRefreshPolicy getCacheRefreshPolicy() {
+        return cacheRefreshPolicy;
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public void setCacheRefreshPolicy(OpenAPIConfiguration.CacheRefreshPolicy cacheRefreshPolicy) {
+        this.cacheRefreshPolicy = cacheRefreshPolicy;
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public T cacheRefreshPolicy(OpenAPIConfiguration.CacheRefreshPolicy cacheRefreshPolicy) {
+        this.cacheRefreshPolicy = cacheRefreshPolicy;
+        return (T) this;
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public long getCacheRefreshAhead() {
+        return cacheRefreshAhead;
+    }
+
+    /**
+     * Sets the milliseconds before <code>cacheTTL</code> expiry at which the spec is rebuilt in background; values not
+     * lower than a positive <code>cacheTTL</code> are clamped to half of it.
+     *
+     * @since 2.2.55
+     */
+    public void setCacheRefreshAhead(long cacheRefreshAhead) {
+        this.cacheRefreshAhead = cacheRefreshAhead;
+        checkCacheRefreshAhead();
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public T cacheRefreshAhead(long cacheRefreshAhead) {
+        setCacheRefreshAhead(cacheRefreshAhead);
+        return (T) this;
+    }
+
+    /**
+     * Clamps a refresh ahead which would otherwise trigger a refresh on every read, or never.
+     */
+    private void checkCacheRefreshAhead() {
+        if (cacheTTL > 0 && cacheRefreshAhead >= cacheTTL) {
+            LOGGER.warn("cacheRefreshAhead {} is not lower than cacheTTL {}, refreshing {} ms ahead instead",
+                    cacheRefreshAhead, cacheTTL, cacheTTL / 2);
+            cacheRefreshAhead = cacheTTL / 2;
+        }
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public Executor getRefreshExecutor() {
+        return refreshExecutor;
+    }
+
+    /**
+     * Executor running background spec refreshes; if not set a shared pool of daemon threads is used.
+     *
+     * @since 2.2.55
+     */
+    public void setRefreshExecutor(Executor refreshExecutor) {
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public T refreshExecutor(Executor refreshExecutor) {
+        this.refreshExecutor = refreshExecutor;
+        return (T) this;
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public ForkJoinPool getFilterPool() {
+        return filterPool;
+    }
+
+    /**
+     * Pool in which specs are filtered in parallel if <code>filterParallelism</code> is set. A pool supplied here is
+     * owned by the caller, which shuts it down once the context is no longer used; if not set, the context creates a
+     * pool of <code>filterParallelism</code> daemon threads named after the context id, whose threads end once idle.
+     *
+     * @since 2.2.55
+     */
+    public void setFilterPool(ForkJoinPool filterPool) {
+        this.filterPool = filterPool;
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public T filterPool(ForkJoinPool filterPool) {
+        this.filterPool = filterPool;
+        return (T) this;
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public int getFilterCacheSize() {
+        return filterCacheSize;
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public void setFilterCacheSize(int filterCacheSize) {
+        this.filterCacheSize = filterCacheSize;
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public T filterCacheSize(int filterCacheSize) {
+        this.filterCacheSize = filterCacheSize;
         return (T) this;
     }
 
@@ -527,6 +697,10 @@ public class GenericOpenApiContext<T extends GenericOpenApiContext> implements O
 
         openApiConfiguration = mergeParentConfiguration(openApiConfiguration, parent);
 
+        if (prebuiltOpenApi == null && StringUtils.isNotBlank(openApiConfiguration.getPrebuiltSpecLocation())) {
+            prebuiltOpenApi = loadPrebuiltOpenApi(openApiConfiguration.getPrebuiltSpecLocation());
+        }
+
         try {
             if (openApiReader == null) {
                 openApiReader = buildReader(ContextUtils.deepCopy(openApiConfiguration));
@@ -579,9 +753,11 @@ public class GenericOpenApiContext<T extends GenericOpenApiContext> implements O
 
         try {
             if (objectMapperProcessor != null) {
-                ObjectMapper mapper = IntegrationObjectMapperFactory.createJson();
-                objectMapperProcessor.processJsonObjectMapper(mapper);
-                ModelConverters.getInstance(Boolean.TRUE.equals(openApiConfiguration.isOpenAPI31()), openApiConfiguration.getSchemaResolution()).addConverter(new ModelResolver(mapper));
+                if (prebuiltOpenApi == null) {
+                    ObjectMapper mapper = IntegrationObjectMapperFactory.createJson();
+                    objectMapperProcessor.processJsonObjectMapper(mapper);
+                    ModelConverters.getInstance(Boolean.TRUE.equals(openApiConfiguration.isOpenAPI31()), openApiConfiguration.getSchemaResolution()).addConverter(new ModelResolver(mapper));
+                }
 
                 objectMapperProcessor.processOutputJsonObjectMapper(outputJsonMapper);
                 objectMapperProcessor.processOutputYamlObjectMapper(outputYamlMapper);
@@ -592,7 +768,7 @@ public class GenericOpenApiContext<T extends GenericOpenApiContext> implements O
         }
 
         try {
-            if (modelConverters != null && !modelConverters.isEmpty()) {
+            if (prebuiltOpenApi == null && modelConverters != null && !modelConverters.isEmpty()) {
                 for (ModelConverter converter: modelConverters) {
                     ModelConverters.getInstance(Boolean.TRUE.equals(openApiConfiguration.isOpenAPI31())).addConverter(converter);
                 }
@@ -607,6 +783,19 @@ public class GenericOpenApiContext<T extends GenericOpenApiContext> implements O
             this.cacheTTL = openApiConfiguration.getCacheTTL();
         }
 
+        if (openApiConfiguration.getCacheRefreshPolicy() != null && this.cacheRefreshPolicy == null) {
+            this.cacheRefreshPolicy = openApiConfiguration.getCacheRefreshPolicy();
+        }
+
+        if (openApiConfiguration.getCacheRefreshAhead() != null) {
+            this.cacheRefreshAhead = openApiConfiguration.getCacheRefreshAhead();
+        }
+        checkCacheRefreshAhead();
+
+        if (openApiConfiguration.getFilterCacheSize() != null) {
+            this.filterCacheSize = openApiConfiguration.getFilterCacheSize();
+        }
+
         // set openAPI31 if present in configuration
         if (openApiConfiguration.isOpenAPI31() != null && this.openAPI31 == null) {
             this.openAPI31 = openApiConfiguration.isOpenAPI31();
@@ -623,6 +812,39 @@ public class GenericOpenApiContext<T extends GenericOpenApiContext> implements O
         return (T) this;
     }
 
+    /**
+     * Loads the spec embedded at the given location, provided that it is up to date with the classes it has been
+     * resolved from and has been resolved with the same configuration. The embedded spec is deserialized once here,
+     * and shared by all reads.
+     *
+     * @return the embedded spec, or <code>null</code> if missing, stale or unreadable
+     * @since 2.2.55
+     */
+    protected PrebuiltOpenApi loadPrebuiltOpenApi(String location) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = getClass().getClassLoader();
+        }
+        try {
+            PrebuiltOpenApi prebuilt = PrebuiltOpenApi.load(classLoader, location);
+            if (prebuilt == null) {
+                LOGGER.warn("no prebuilt spec found at {}, resolving spec at runtime", location);
+                return null;
+            }
+            if (!prebuilt.isCurrent(classLoader, openApiConfiguration)) {
+                LOGGER.warn("prebuilt spec at {} is stale or resolved with a different configuration, resolving spec at runtime", location);
+                return null;
+            }
+            // fail early on an unreadable spec, before skipping model converters setup
+            prebuilt.getOpenAPI();
+            LOGGER.debug("serving prebuilt spec from {}", location);
+            return prebuilt;
+        } catch (IOException e) {
+            LOGGER.error("error loading prebuilt spec from " + location + ", resolving spec at runtime: " + e.getMessage(), e);
+            return null;
+        }
+    }
+
     private OpenAPIConfiguration mergeParentConfiguration(OpenAPIConfiguration config, OpenApiContext parent) {
         if (parent == null || parent.getOpenApiConfiguration() == null) {
             return config;
@@ -661,6 +883,54 @@ public class GenericOpenApiContext<T extends GenericOpenApiContext> implements O
         if (merged.getCacheTTL() == null) {
             merged.setCacheTTL(parentConfig.getCacheTTL());
         }
+        if (merged.getCacheRefreshPolicy() == null) {
+            merged.setCacheRefreshPolicy(parentConfig.getCacheRefreshPolicy());
+        }
+        if (merged.getCacheRefreshAhead() == null) {
+            merged.setCacheRefreshAhead(parentConfig.getCacheRefreshAhead());
+        }
+        if (merged.getFilterCacheSize() == null) {
+            merged.setFilterCacheSize(parentConfig.getFilterCacheSize());
+        }
+        if (merged.getFilterDefinition() == null) {
+            merged.setFilterDefinition(parentConfig.getFilterDefinition());
+        }
+        if (merged.getFilterParallelism() == null) {
+            merged.setFilterParallelism(parentConfig.getFilterParallelism());
+        }
+        if (merged.isStreamOutput() == null) {
+            merged.setStreamOutput(parentConfig.isStreamOutput());
+        }
+        if (merged.getOutputBufferSize() == null) {
+            merged.setOutputBufferSize(parentConfig.getOutputBufferSize());
+        }
+        if (merged.isPrecompressOutput() == null) {
+            merged.setPrecompressOutput(parentConfig.isPrecompressOutput());
+        }
+        if (merged.getReaderParallelism() == null) {
+            merged.setReaderParallelism(parentConfig.getReaderParallelism());
+        }
+        if (merged.getPrebuiltSpecLocation() == null) {
+            merged.setPrebuiltSpecLocation(parentConfig.getPrebuiltSpecLocation());
+        }
+        if (merged.getScanCacheFile() == null) {
+            merged.setScanCacheFile(parentConfig.getScanCacheFile());
+        }
+        if (merged.isScanAnnotationsOnly() == null) {
+            merged.setScanAnnotationsOnly(parentConfig.isScanAnnotationsOnly());
+        }
+        if (merged.getScanThreads() == null) {
+            merged.setScanThreads(parentConfig.getScanThreads());
+        }
+        if (merged.getScanExcludedJars() == null) {
+            merged.setScanExcludedJars(parentConfig.getScanExcludedJars());
+        }
+        if (merged.getScanExcludedModules() == null) {
+            merged.setScanExcludedModules(parentConfig.getScanExcludedModules());
+        }
+        if (merged.isIgnoredRouteTemplates() == null) {
+            merged.setIgnoredRouteTemplates(parentConfig.isIgnoredRouteTemplates());
+        }
         if (merged.getUserDefinedOptions() == null) {
             merged.setUserDefinedOptions(parentConfig.getUserDefinedOptions());
         }
@@ -713,27 +983,320 @@ public class GenericOpenApiContext<T extends GenericOpenApiContext> implements O
     @Override
     public OpenAPI read() {
 
-        if (cacheTTL == 0) {
-            resetReader();
-            OpenAPI openAPI = getOpenApiReader().read(getOpenApiScanner().classes(), getOpenApiScanner().resources());
-            if (Boolean.TRUE.equals(convertToOpenAPI31)) {
-                openAPI = new SpecFilter().filter(openAPI, new OpenAPI31SpecFilter(), null, null, null);
+        if (isUncached()) {
+            return readUncached();
+        }
+        return readCached().openApi;
+    }
+
+    /**
+     * Serialized output is cached along with the spec it has been produced from, therefore it is invalidated
+     * whenever the spec cache entry is refreshed.
+     *
+     * @since 2.2.55
+     */
+    @Override
+    public SerializedOpenApi readSerialized(String type, boolean pretty) throws IOException {
+
+        if (isUncached()) {
+            return serializeUncached(readUncached(), type, pretty);
+        }
+        return readSerialized(readCached(), type, pretty);
+    }
+
+    /**
+     * If the configured filter is a {@link CacheableOpenAPISpecFilter}, a single filter instance is used and filtered
+     * specs are memoized per cache key, in a LRU cache bounded by <code>filterCacheSize</code> and invalidated
+     * together with the spec cache entry.
+     *
+     * Filtered specs are only serialized, and therefore share the elements kept unchanged by the filter with the
+     * source spec.
+     *
+     * If no filter class but a <code>filterDefinition</code> is configured, the definition is compiled once per spec
+     * cache entry and filtered specs are memoized per set of restrictions lifted by the request headers.
+     *
+     * @since 2.2.55
+     */
+    @Override
+    public SerializedOpenApi readSerialized(String type,
+                                            boolean pretty,
+                                            Map<String, List<String>> params,
+                                            Map<String, String> cookies,
+                                            Map<String, List<String>> headers) throws IOException {
+
+        if (openApiConfiguration == null) {
+            return readSerialized(type, pretty);
+        }
+        if (openApiConfiguration.getFilterClass() == null) {
+            if (openApiConfiguration.getFilterDefinition() == null) {
+                return readSerialized(type, pretty);
+            }
+            return readSerializedByDefinition(type, pretty, headers);
+        }
+        OpenAPISpecFilter filter = getSpecFilter();
+        String filterKey = null;
+        if (!isUncached() && filterCacheSize > 0 && filter instanceof CacheableOpenAPISpecFilter) {
+            filterKey = ((CacheableOpenAPISpecFilter) filter).getCacheKey(params, cookies, headers);
+        }
+        if (filterKey == null) {
+            OpenAPI oas = read();
+            if (oas != null && filter != null) {
+                oas = newSpecFilter().filter(oas, filter, params, cookies, headers);
+            }
+            return serializeUncached(oas, type, pretty);
+        }
+        Cache cached = readCached();
+        if (cached.openApi == null) {
+            return null;
+        }
+        Snapshot filtered = cached.filtered.get(filterKey);
+        if (filtered == null) {
+            filtered = new Snapshot();
+            SpecFilter specFilter = newSpecFilter();
+            if (filter.isRemovingUnreferencedDefinitions()) {
+                specFilter.referenceGraph(cached.getReferenceGraph());
+            }
+            filtered.openApi = specFilter.filter(cached.openApi, filter, params, cookies, headers);
+            cached.filtered.put(filterKey, filtered);
+        }
+        return readSerialized(filtered, type, pretty);
+    }
+
+    /**
+     * Returns a copy-on-write <code>SpecFilter</code>, filtering in the pool of the context if
+     * <code>filterParallelism</code> is set.
+     */
+    private SpecFilter newSpecFilter() {
+        SpecFilter specFilter = new SpecFilter().copyOnWrite(true);
+        Integer parallelism = openApiConfiguration.getFilterParallelism();
+        if (parallelism != null && parallelism > 1) {
+            ForkJoinPool pool = filterPool;
+            if (pool == null) {
+                synchronized (this) {
+                    pool = filterPool;
+                    if (pool == null) {
+                        pool = new ForkJoinPool(parallelism, filterThreadFactory(), null, false);
+                        filterPool = pool;
+                    }
+                }
+            }
+            specFilter.forkJoinPool(pool);
+        }
+        return specFilter;
+    }
+
+    private ForkJoinPool.ForkJoinWorkerThreadFactory filterThreadFactory() {
+        String name = "swagger-openapi-context-filter-" + id + "-";
+        AtomicInteger count = new AtomicInteger();
+        return pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName(name + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private SerializedOpenApi readSerializedByDefinition(String type, boolean pretty, Map<String, List<String>> headers) throws IOException {
+        if (isUncached() || filterCacheSize <= 0) {
+            OpenAPI oas = read();
+            if (oas != null) {
+                oas = CompiledSpecFilter.compile(oas, openApiConfiguration.getFilterDefinition()).filter(headers);
             }
-            return openAPI;
+            return serializeUncached(oas, type, pretty);
+        }
+        Cache cached = readCached();
+        if (cached.openApi == null) {
+            return null;
+        }
+        CompiledSpecFilter compiled = cached.compiledFilter;
+        if (compiled == null) {
+            compiled = CompiledSpecFilter.compile(cached.openApi, openApiConfiguration.getFilterDefinition());
+            cached.compiledFilter = compiled;
+        }
+        String filterKey = compiled.getCacheKey(headers);
+        Snapshot filtered = cached.filtered.get(filterKey);
+        if (filtered == null) {
+            filtered = new Snapshot();
+            filtered.openApi = compiled.filter(headers);
+            cached.filtered.put(filterKey, filtered);
+        }
+        return readSerialized(filtered, type, pretty);
+    }
+
+    /**
+     * Serializes a spec which is not going to be cached, streaming it if <code>streamOutput</code> is enabled.
+     */
+    protected SerializedOpenApi serializeUncached(OpenAPI openAPI, String type, boolean pretty) throws IOException {
+        if (openApiConfiguration != null && Boolean.TRUE.equals(openApiConfiguration.isStreamOutput())) {
+            Integer bufferSize = openApiConfiguration.getOutputBufferSize();
+            return SerializedOpenApi.streaming(openAPI, SerializedOpenApi.isYaml(type) ? getOutputYamlMapper() : getOutputJsonMapper(), pretty,
+                    bufferSize != null ? bufferSize : SerializedOpenApi.DEFAULT_OUTPUT_BUFFER_SIZE);
+        }
+        return serialize(openAPI, type, pretty);
+    }
+
+    private SerializedOpenApi readSerialized(Snapshot snapshot, String type, boolean pretty) throws IOException {
+        if (snapshot.openApi == null) {
+            return null;
+        }
+        String key = serializedKey(type, pretty, snapshot.openApi);
+        SerializedOpenApi serialized = snapshot.serialized.get(key);
+        if (serialized == null) {
+            serialized = SerializedOpenApi.serialize(snapshot.openApi, SerializedOpenApi.isYaml(type) ? getOutputYamlMapper() : getOutputJsonMapper(), pretty,
+                    openApiConfiguration != null && Boolean.TRUE.equals(openApiConfiguration.isPrecompressOutput()));
+            SerializedOpenApi existing = snapshot.serialized.putIfAbsent(key, serialized);
+            if (existing != null) {
+                serialized = existing;
+            }
+        }
+        return serialized;
+    }
+
+    private static String serializedKey(String type, boolean pretty, OpenAPI openApi) {
+        return (SerializedOpenApi.isYaml(type) ? SerializedOpenApi.TYPE_YAML : SerializedOpenApi.TYPE_JSON) + ":" + pretty + ":" + openApi.getOpenapi();
+    }
+
+    /**
+     * Returns the shared instance of the configured {@link CacheableOpenAPISpecFilter}, or a new instance for
+     * other filters.
+     */
+    protected OpenAPISpecFilter getSpecFilter() {
+        OpenAPISpecFilter filter = specFilter;
+        if (filter != null) {
+            return filter;
+        }
+        try {
+            filter = (OpenAPISpecFilter) Class.forName(openApiConfiguration.getFilterClass()).newInstance();
+        } catch (Exception e) {
+            LOGGER.error("failed to load filter", e);
+            return null;
+        }
+        if (filter instanceof CacheableOpenAPISpecFilter) {
+            specFilter = filter;
+        }
+        return filter;
+    }
 
+    protected OpenAPI readUncached() {
+        if (prebuiltOpenApi != null) {
+            try {
+                return prebuiltOpenApi.getOpenAPI();
+            } catch (IOException e) {
+                throw new IllegalStateException("error reading prebuilt spec: " + e.getMessage(), e);
+            }
         }
+        resetReader();
+        OpenAPI openAPI = getOpenApiReader().read(getOpenApiScanner().classes(), getOpenApiScanner().resources());
+        if (Boolean.TRUE.equals(convertToOpenAPI31)) {
+            openAPI = new SpecFilter().filter(openAPI, new OpenAPI31SpecFilter(), null, null, null);
+        }
+        return openAPI;
+    }
+
+    /**
+     * The spec is read for each call if <code>cacheTTL</code> is 0, unless it is a prebuilt spec, which never changes
+     * and is always served from a single cache entry along with its embedded output.
+     */
+    private boolean isUncached() {
+        return cacheTTL == 0 && prebuiltOpenApi == null;
+    }
+
+    private Cache readCached() {
         Cache cached = cache.get("openapi");
-        if (cached == null || cached.isStale(cacheTTL)) {
-            cached = new Cache();
-            cached.createdAt = System.currentTimeMillis();
-            resetReader();
-            cached.openApi = getOpenApiReader().read(getOpenApiScanner().classes(), getOpenApiScanner().resources());
-            if (Boolean.TRUE.equals(convertToOpenAPI31)) {
-                cached.openApi = new SpecFilter().filter(cached.openApi, new OpenAPI31SpecFilter(), null, null, null);
+        if (prebuiltOpenApi != null && cached != null) {
+            return cached;
+        }
+        if (cacheRefreshPolicy == null || OpenAPIConfiguration.CacheRefreshPolicy.BLOCKING.equals(cacheRefreshPolicy)) {
+            if (cached == null || cached.isStale(cacheTTL)) {
+                cached = refreshCache();
+            }
+            return cached;
+        }
+        if (cached == null) {
+            // nothing to serve yet, concurrent callers wait for a single build
+            synchronized (refreshLock) {
+                cached = cache.get("openapi");
+                if (cached == null) {
+                    cached = refreshCache();
+                }
+            }
+            return cached;
+        }
+        if (cached.isStale(cacheTTL)) {
+            Cache refreshed = triggerRefresh(OpenAPIConfiguration.CacheRefreshPolicy.BACKGROUND.equals(cacheRefreshPolicy));
+            if (refreshed != null) {
+                return refreshed;
+            }
+        } else if (cacheTTL > 0 && cacheRefreshAhead > 0 && cached.isStale(cacheTTL - cacheRefreshAhead)) {
+            triggerRefresh(true);
+        }
+        return cached;
+    }
+
+    /**
+     * Rebuilds the cached spec unless a rebuild is already in progress, in which case the caller keeps
+     * using the current cache entry.
+     *
+     * @return the refreshed cache entry if the refresh has been performed by the calling thread, null otherwise
+     */
+    private Cache triggerRefresh(boolean async) {
+        if (!refreshing.compareAndSet(false, true)) {
+            return null;
+        }
+        if (async) {
+            try {
+                (refreshExecutor != null ? refreshExecutor : DEFAULT_REFRESH_EXECUTOR).execute(() -> {
+                    try {
+                        refreshCache();
+                    } catch (RuntimeException e) {
+                        LOGGER.error("error refreshing OpenAPI cache: " + e.getMessage(), e);
+                    } finally {
+                        refreshing.set(false);
+                    }
+                });
+            } catch (RuntimeException e) {
+                refreshing.set(false);
+                LOGGER.error("error scheduling OpenAPI cache refresh: " + e.getMessage(), e);
             }
-            cache.put("openapi", cached);
+            return null;
+        }
+        try {
+            return refreshCache();
+        } catch (RuntimeException e) {
+            LOGGER.error("error refreshing OpenAPI cache: " + e.getMessage(), e);
+            return null;
+        } finally {
+            refreshing.set(false);
         }
-        return cached.openApi;
+    }
+
+    private Cache refreshCache() {
+        Cache cached = new Cache(filterCacheSize);
+        cached.openApi = readUncached();
+        // entry age is computed from build completion, so that a slow build doesn't produce an already stale entry
+        cached.createdAt = System.currentTimeMillis();
+        boolean precompress = openApiConfiguration != null && Boolean.TRUE.equals(openApiConfiguration.isPrecompressOutput());
+        if (prebuiltOpenApi != null && cached.openApi != null) {
+            // serve the output embedded along with the spec as is
+            cached.serialized.put(serializedKey(SerializedOpenApi.TYPE_JSON, prebuiltOpenApi.isPretty(), cached.openApi),
+                    new SerializedOpenApi(prebuiltOpenApi.getJson(), precompress));
+            if (prebuiltOpenApi.getYaml() != null) {
+                cached.serialized.put(serializedKey(SerializedOpenApi.TYPE_YAML, prebuiltOpenApi.isPretty(), cached.openApi),
+                        new SerializedOpenApi(prebuiltOpenApi.getYaml(), precompress));
+            }
+        }
+        if (precompress) {
+            // precompute encoded output before the entry is published, so that requests don't pay for compression
+            boolean pretty = Boolean.TRUE.equals(openApiConfiguration.isPrettyPrint());
+            try {
+                readSerialized(cached, SerializedOpenApi.TYPE_JSON, pretty);
+                readSerialized(cached, SerializedOpenApi.TYPE_YAML, pretty);
+            } catch (IOException e) {
+                LOGGER.error("error serializing OpenAPI: " + e.getMessage(), e);
+            }
+        }
+        cache.put("openapi", cached);
+        return cached;
     }
 
     protected void resetReader() {
@@ -747,13 +1310,41 @@ public class GenericOpenApiContext<T extends GenericOpenApiContext> implements O
         }
     }
 
-    static class Cache {
-        long createdAt = 0;
+    static class Snapshot {
         OpenAPI openApi;
+        final Map<String, SerializedOpenApi> serialized = new ConcurrentHashMap<>();
+    }
+
+    static class Cache extends Snapshot {
+        long createdAt = 0;
+        final Map<String, Snapshot> filtered;
+        volatile CompiledSpecFilter compiledFilter;
+        private volatile SchemaReferenceGraph referenceGraph;
+
+        Cache(int filterCacheSize) {
+            filtered = Collections.synchronizedMap(new LinkedHashMap<String, Snapshot>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Snapshot> eldest) {
+                    return size() > filterCacheSize;
+                }
+            });
+        }
 
         boolean isStale(long cacheTTL) {
             return (cacheTTL > 0 && System.currentTimeMillis() - createdAt > cacheTTL);
         }
+
+        /**
+         * Returns the reference graph of the cached spec, used to prune the specs filtered from it.
+         */
+        SchemaReferenceGraph getReferenceGraph() {
+            SchemaReferenceGraph graph = referenceGraph;
+            if (graph == null) {
+                graph = new SchemaReferenceGraph(openApi);
+                referenceGraph = graph;
+            }
+            return graph;
+        }
     }
 
     @JsonPropertyOrder(value = {"openapi", "info", "externalDocs", "servers", "security", "tags", "paths", "components"}, alphabetic = true)
@@ -34,7 +34,7 @@ public class GenericOpenApiScanner implements OpenApiScanner {
 
     @Override
     public Set<Class<?>> classes() {
-        ClassGraph graph = new ClassGraph().enableAllInfo();
+        ClassGraph graph = ClasspathScanning.classGraph(openApiConfiguration);
 
         Set<String> acceptablePackages = new HashSet<>();
 
@@ -69,7 +69,7 @@ public class GenericOpenApiScanner implements OpenApiScanner {
 
         // this is generic, specific Jaxrs scanner will also look for @Path
         final Set<Class<?>> classes;
-        try (ScanResult scanResult = graph.scan()) {
+        try (ScanResult scanResult = ClasspathScanning.scan(graph, openApiConfiguration)) {
             classes = new HashSet<>(scanResult.getClassesWithAnnotation(OpenAPIDefinition.class.getName()).loadClasses());
             classes.addAll(new HashSet<>(scanResult.getClassesWithAnnotation(Webhooks.class.getName()).loadClasses()));
         }
@@ -0,0 +1,322 @@
+package io.swagger.v3.oas.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Json31;
+import io.swagger.v3.oas.integration.api.OpenAPIConfiguration;
+import io.swagger.v3.oas.integration.api.OpenApiContext;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A spec resolved at build time and embedded in the artifact along with its serialized output, to be served by
+ * contexts configured with <code>prebuiltSpecLocation</code> instead of scanning and reading resources at runtime.
+ *
+ * The embedded spec holds a fingerprint of the class files of the classes directory it has been resolved from, and a
+ * hash of the configuration it has been resolved with; {@link #isCurrent(ClassLoader, OpenAPIConfiguration)} compares
+ * them with the classes visible at runtime and with the runtime configuration to detect a stale spec.
+ *
+ * @since 2.2.55
+ */
+public class PrebuiltOpenApi {
+
+    public static final String DEFAULT_LOCATION = "META-INF/swagger/prebuilt";
+
+    static final String JSON_FILE = "openapi.json";
+    static final String YAML_FILE = "openapi.yaml";
+    static final String PROPERTIES_FILE = "prebuilt.properties";
+    static final String CLASSES_FILE = "classes";
+
+    static final String FINGERPRINT_PROPERTY = "fingerprint";
+    static final String PRETTY_PROPERTY = "pretty";
+    static final String OPENAPI31_PROPERTY = "openapi31";
+    static final String CONFIGURATION_PROPERTY = "configuration";
+
+    /**
+     * Options of a configuration which don't change the resolved spec nor its output, left out of the configuration
+     * hash: the context id, and the cache, filter, prebuilt spec and scan options.
+     */
+    static final List<String> RUNTIME_OPTIONS = Collections.unmodifiableList(Arrays.asList(
+            "id",
+            "cacheTTL", "cacheRefreshPolicy", "cacheRefreshAhead",
+            "filterClass", "filterCacheSize", "filterDefinition", "filterParallelism",
+            "streamOutput", "outputBufferSize", "precompressOutput", "readerParallelism",
+            "prebuiltSpecLocation",
+            "scanCacheFile", "scanAnnotationsOnly", "scanThreads", "scanExcludedJars", "scanExcludedModules"));
+
+    private final byte[] json;
+    private final byte[] yaml;
+    private final boolean pretty;
+    private final boolean openapi31;
+    private final String fingerprint;
+    private final String configuration;
+    private final List<String> classFiles;
+    private volatile OpenAPI openAPI;
+
+    PrebuiltOpenApi(byte[] json, byte[] yaml, boolean pretty, boolean openapi31, String fingerprint, String configuration, List<String> classFiles) {
+        this.json = json;
+        this.yaml = yaml;
+        this.pretty = pretty;
+        this.openapi31 = openapi31;
+        this.fingerprint = fingerprint;
+        this.configuration = configuration;
+        this.classFiles = classFiles;
+    }
+
+    /**
+     * Writes the given spec, serialized with the output mappers of the context it has been read from, to
+     * {@value #DEFAULT_LOCATION} within the output directory.
+     *
+     * @param classesDirectory the directory holding the compiled classes the spec has been resolved from
+     * @param outputDirectory  the root directory of the written resources, usually the classes directory itself
+     */
+    public static void write(File classesDirectory, File outputDirectory, OpenApiContext context, OpenAPI openAPI, boolean pretty) throws IOException {
+        Path root = classesDirectory.toPath();
+        List<String> classFiles;
+        try (Stream<Path> files = Files.walk(root)) {
+            classFiles = files
+                    .filter(p -> Files.isRegularFile(p) && p.toString().endsWith(".class"))
+                    .map(p -> root.relativize(p).toString().replace(File.separatorChar, '/'))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+        String fingerprint = fingerprint(classFiles, name -> Files.newInputStream(root.resolve(name)));
+
+        Path location = outputDirectory.toPath().resolve(DEFAULT_LOCATION);
+        Files.createDirectories(location);
+        Files.write(location.resolve(JSON_FILE), pretty ?
+                context.getOutputJsonMapper().writerWithDefaultPrettyPrinter().writeValueAsBytes(openAPI) :
+                context.getOutputJsonMapper().writeValueAsBytes(openAPI));
+        Files.write(location.resolve(YAML_FILE), pretty ?
+                context.getOutputYamlMapper().writerWithDefaultPrettyPrinter().writeValueAsBytes(openAPI) :
+                context.getOutputYamlMapper().writeValueAsBytes(openAPI));
+        Files.write(location.resolve(CLASSES_FILE), classFiles, StandardCharsets.UTF_8);
+
+        Properties properties = new Properties();
+        properties.setProperty(FINGERPRINT_PROPERTY, fingerprint);
+        properties.setProperty(PRETTY_PROPERTY, String.valueOf(pretty));
+        properties.setProperty(OPENAPI31_PROPERTY, String.valueOf(isOpenAPI31(openAPI)));
+        properties.setProperty(CONFIGURATION_PROPERTY, configurationHash(context.getOpenApiConfiguration()));
+        try (OutputStream out = Files.newOutputStream(location.resolve(PROPERTIES_FILE))) {
+            properties.store(out, null);
+        }
+    }
+
+    /**
+     * Loads the spec embedded at the given classpath location.
+     *
+     * @return the embedded spec, or <code>null</code> if there is none at the location
+     */
+    public static PrebuiltOpenApi load(ClassLoader classLoader, String location) throws IOException {
+        String prefix = location.startsWith("/") ? location.substring(1) : location;
+        if (!prefix.endsWith("/")) {
+            prefix += "/";
+        }
+        byte[] propertiesBytes = readResource(classLoader, prefix + PROPERTIES_FILE);
+        byte[] json = readResource(classLoader, prefix + JSON_FILE);
+        if (propertiesBytes == null || json == null) {
+            return null;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = new ByteArrayInputStream(propertiesBytes)) {
+            properties.load(in);
+        }
+        byte[] classes = readResource(classLoader, prefix + CLASSES_FILE);
+        List<String> classFiles = new ArrayList<>();
+        if (classes != null) {
+            for (String line : new String(classes, StandardCharsets.UTF_8).split("\n")) {
+                if (StringUtils.isNotBlank(line)) {
+                    classFiles.add(line.trim());
+                }
+            }
+        }
+        return new PrebuiltOpenApi(
+                json,
+                readResource(classLoader, prefix + YAML_FILE),
+                Boolean.parseBoolean(properties.getProperty(PRETTY_PROPERTY)),
+                Boolean.parseBoolean(properties.getProperty(OPENAPI31_PROPERTY)),
+                properties.getProperty(FINGERPRINT_PROPERTY),
+                properties.getProperty(CONFIGURATION_PROPERTY),
+                classFiles);
+    }
+
+    /**
+     * Checks that the spec has been resolved with a configuration resolving the same spec as the given runtime
+     * configuration, from class files all visible to the given class loader and unchanged.
+     */
+    public boolean isCurrent(ClassLoader classLoader, OpenAPIConfiguration configuration) throws IOException {
+        return configurationHash(configuration).equals(this.configuration) && isCurrent(classLoader);
+    }
+
+    /**
+     * Checks that the class files the spec has been resolved from are all visible to the given class loader and
+     * unchanged.
+     */
+    public boolean isCurrent(ClassLoader classLoader) throws IOException {
+        if (fingerprint == null) {
+            return false;
+        }
+        try {
+            return fingerprint.equals(fingerprint(classFiles, name -> {
+                InputStream in = classLoader.getResourceAsStream(name);
+                if (in == null) {
+                    throw new MissingClassFileException();
+                }
+                return in;
+            }));
+        } catch (MissingClassFileException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the embedded spec, deserialized once and shared by all callers.
+     */
+    public OpenAPI getOpenAPI() throws IOException {
+        OpenAPI result = openAPI;
+        if (result == null) {
+            synchronized (this) {
+                result = openAPI;
+                if (result == null) {
+                    result = readOpenAPI();
+                    openAPI = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Deserializes a new instance of the embedded spec.
+     */
+    public OpenAPI readOpenAPI() throws IOException {
+        return (openapi31 ? Json31.mapper() : Json.mapper()).readValue(json, OpenAPI.class);
+    }
+
+    public byte[] getJson() {
+        return json;
+    }
+
+    /**
+     * @return the embedded YAML output, or <code>null</code> if not available
+     */
+    public byte[] getYaml() {
+        return yaml;
+    }
+
+    public boolean isPretty() {
+        return pretty;
+    }
+
+    public boolean isOpenAPI31() {
+        return openapi31;
+    }
+
+    static boolean isOpenAPI31(OpenAPI openAPI) {
+        return openAPI.getOpenapi() != null && openAPI.getOpenapi().startsWith("3.1");
+    }
+
+    /**
+     * Returns a hash of the options of a configuration which change the resolved spec or its output, i.e. of the
+     * whole serialized configuration except for the {@link #RUNTIME_OPTIONS}.
+     */
+    static String configurationHash(OpenAPIConfiguration configuration) throws IOException {
+        if (configuration == null) {
+            return hash(Collections.emptyList(), null);
+        }
+        ObjectMapper mapper = Json.mapper().copy().enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+        ObjectNode node = mapper.valueToTree(configuration);
+        node.remove(RUNTIME_OPTIONS);
+        for (Map.Entry<String, JsonNode> option : new ArrayList<>(node.properties())) {
+            // collection options are unordered
+            if (option.getValue().isArray()) {
+                List<String> values = new ArrayList<>();
+                option.getValue().forEach(value -> values.add(value.toString()));
+                Collections.sort(values);
+                node.put(option.getKey(), String.join(",", values));
+            }
+        }
+        return hash(Collections.singletonList(mapper.writeValueAsString(node)), null);
+    }
+
+    private static byte[] readResource(ClassLoader classLoader, String name) throws IOException {
+        try (InputStream in = classLoader.getResourceAsStream(name)) {
+            return in == null ? null : readAll(in);
+        }
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    private static String fingerprint(List<String> classFiles, ClassFileOpener opener) throws IOException {
+        return hash(classFiles, opener);
+    }
+
+    /**
+     * Hashes the given names, followed by the contents opened with the given opener if any.
+     */
+    private static String hash(List<String> names, ClassFileOpener opener) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        byte[] buffer = new byte[8192];
+        for (String name : names) {
+            digest.update(name.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            if (opener == null) {
+                continue;
+            }
+            try (InputStream in = opener.open(name)) {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                }
+            }
+        }
+        StringBuilder hex = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    private interface ClassFileOpener {
+        InputStream open(String name) throws IOException;
+    }
+
+    private static class MissingClassFileException extends IOException {
+    }
+}
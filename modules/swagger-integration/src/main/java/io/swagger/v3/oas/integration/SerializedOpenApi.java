@@ -0,0 +1,287 @@
+package io.swagger.v3.oas.integration;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialized representation of an {@link OpenAPI} spec, together with a strong ETag computed from its content.
+ *
+ * Instances are shared between requests, the returned byte array must not be modified.
+ *
+ * Instances created via {@link #streaming(OpenAPI, ObjectMapper, boolean, int)} are not materialized: the spec is
+ * serialized straight to the output stream passed to {@link #writeTo(OutputStream)}, and neither bytes nor ETag are
+ * available.
+ *
+ * Instances created with <code>precompress</code> also hold gzip and deflate encoded variants of the content, see
+ * {@link #negotiateEncoding(String)}.
+ *
+ * @since 2.2.55
+ */
+public class SerializedOpenApi {
+
+    public static final String TYPE_JSON = "json";
+    public static final String TYPE_YAML = "yaml";
+
+    public static final String ENCODING_GZIP = "gzip";
+    public static final String ENCODING_DEFLATE = "deflate";
+
+    public static final int DEFAULT_OUTPUT_BUFFER_SIZE = 8192;
+
+    private final byte[] bytes;
+    private final String eTag;
+
+    private final byte[] gzipBytes;
+    private final byte[] deflateBytes;
+
+    private final OpenAPI openAPI;
+    private final ObjectWriter writer;
+    private final int bufferSize;
+
+    public SerializedOpenApi(byte[] bytes) {
+        this(bytes, false);
+    }
+
+    public SerializedOpenApi(byte[] bytes, boolean precompress) {
+        this.bytes = bytes;
+        this.eTag = computeETag(bytes);
+        this.gzipBytes = precompress ? gzip(bytes) : null;
+        this.deflateBytes = precompress ? deflate(bytes) : null;
+        this.openAPI = null;
+        this.writer = null;
+        this.bufferSize = 0;
+    }
+
+    private SerializedOpenApi(OpenAPI openAPI, ObjectWriter writer, int bufferSize) {
+        this.bytes = null;
+        this.eTag = null;
+        this.gzipBytes = null;
+        this.deflateBytes = null;
+        this.openAPI = openAPI;
+        this.writer = writer.without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.bufferSize = bufferSize > 0 ? bufferSize : DEFAULT_OUTPUT_BUFFER_SIZE;
+    }
+
+    public static SerializedOpenApi streaming(OpenAPI openAPI, ObjectMapper mapper, boolean pretty, int bufferSize) {
+        if (openAPI == null) {
+            return null;
+        }
+        return new SerializedOpenApi(openAPI, pretty ? mapper.writerWithDefaultPrettyPrinter() : mapper.writer(), bufferSize);
+    }
+
+    public static SerializedOpenApi serialize(OpenAPI openAPI, ObjectMapper mapper, boolean pretty) throws IOException {
+        return serialize(openAPI, mapper, pretty, false);
+    }
+
+    public static SerializedOpenApi serialize(OpenAPI openAPI, ObjectMapper mapper, boolean pretty, boolean precompress) throws IOException {
+        if (openAPI == null) {
+            return null;
+        }
+        return new SerializedOpenApi(pretty ?
+                mapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(openAPI) :
+                mapper.writeValueAsBytes(openAPI), precompress);
+    }
+
+    public static boolean isYaml(String type) {
+        return StringUtils.isNotBlank(type) && type.trim().equalsIgnoreCase(TYPE_YAML);
+    }
+
+    public static String computeETag(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is required to be available on every Java platform
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Evaluates an <code>If-None-Match</code> request header against the ETag of this instance, using the weak
+     * comparison mandated by RFC 7232 for this header.
+     *
+     * @return true if the client representation is current and a 304 can be returned
+     */
+    public boolean matches(String ifNoneMatch) {
+        return matches(ifNoneMatch, null);
+    }
+
+    /**
+     * Same as {@link #matches(String)}, for the ETag of the given content encoding.
+     */
+    public boolean matches(String ifNoneMatch, String encoding) {
+        String current = getETag(encoding);
+        if (current == null || StringUtils.isBlank(ifNoneMatch)) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            String candidate = tag.trim();
+            if ("*".equals(candidate)) {
+                return true;
+            }
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (current.equals(candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Selects the precompressed variant to serve for the given <code>Accept-Encoding</code> request header as per
+     * RFC 9110 section 12.5.3, preferring gzip over deflate, and both over the unencoded content, when equally
+     * acceptable. <code>*</code> stands for any coding not listed, including <code>identity</code>; the unencoded
+     * content is served unless excluded with <code>identity;q=0</code> or <code>*;q=0</code>, or listed with a lower
+     * weight than an available coding. If it is excluded and no listed coding is available, a precompressed variant
+     * not refused with a zero weight is served instead.
+     *
+     * @return <code>gzip</code>, <code>deflate</code> or null if content is to be served without encoding
+     */
+    public String negotiateEncoding(String acceptEncoding) {
+        if (!isPrecompressed() || StringUtils.isBlank(acceptEncoding)) {
+            return null;
+        }
+        Map<String, Double> weights = new HashMap<>();
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            String coding = parts[0].trim().toLowerCase();
+            if ("x-gzip".equals(coding)) {
+                coding = ENCODING_GZIP;
+            }
+            double q = 1;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        q = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        q = 0;
+                    }
+                }
+            }
+            if (!coding.isEmpty()) {
+                weights.put(coding, q);
+            }
+        }
+        Double any = weights.get("*");
+        double unlisted = any != null ? any : 0;
+        double gzip = weights.getOrDefault(ENCODING_GZIP, unlisted);
+        double deflate = weights.getOrDefault(ENCODING_DEFLATE, unlisted);
+        // identity is acceptable when not listed, but only ranked against other codings when listed
+        Double identity = weights.containsKey("identity") ? weights.get("identity") : any;
+
+        if (identity != null && identity <= 0 && gzip <= 0 && deflate <= 0 && any == null) {
+            // the unencoded content is excluded and no listed coding is available, serve a coding not refused
+            if (!weights.containsKey(ENCODING_GZIP)) {
+                return ENCODING_GZIP;
+            }
+            if (!weights.containsKey(ENCODING_DEFLATE)) {
+                return ENCODING_DEFLATE;
+            }
+        }
+        String encoding = gzip > 0 && gzip >= deflate ? ENCODING_GZIP : deflate > 0 ? ENCODING_DEFLATE : null;
+        if (encoding == null || identity != null && identity > Math.max(gzip, deflate)) {
+            return null;
+        }
+        return encoding;
+    }
+
+    /**
+     * Writes the serialized spec to the given stream, which is flushed but not closed.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        if (bytes != null) {
+            out.write(bytes);
+        } else {
+            BufferedOutputStream buffered = new BufferedOutputStream(out, bufferSize);
+            writer.writeValue(buffered, openAPI);
+            buffered.flush();
+        }
+        out.flush();
+    }
+
+    public boolean isStreaming() {
+        return bytes == null;
+    }
+
+    public boolean isPrecompressed() {
+        return gzipBytes != null;
+    }
+
+    /**
+     * @return the serialized spec, or null for streaming instances
+     */
+    public byte[] getBytes() {
+        return bytes;
+    }
+
+    /**
+     * @return the serialized spec encoded with the given content encoding as returned by
+     * {@link #negotiateEncoding(String)}, or the unencoded spec if <code>encoding</code> is null
+     */
+    public byte[] getBytes(String encoding) {
+        if (ENCODING_GZIP.equals(encoding)) {
+            return gzipBytes;
+        }
+        if (ENCODING_DEFLATE.equals(encoding)) {
+            return deflateBytes;
+        }
+        return bytes;
+    }
+
+    /**
+     * @return the quoted ETag, or null for streaming instances
+     */
+    public String getETag() {
+        return eTag;
+    }
+
+    /**
+     * @return the quoted ETag of the variant with the given content encoding; encoded variants are distinct
+     * representations and therefore get distinct strong ETags
+     */
+    public String getETag(String encoding) {
+        if (eTag == null || encoding == null) {
+            return eTag;
+        }
+        return eTag.substring(0, eTag.length() - 1) + "-" + encoding + "\"";
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            // not thrown by in memory streams
+            throw new IllegalStateException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] deflate(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (DeflaterOutputStream deflate = new DeflaterOutputStream(out)) {
+            deflate.write(bytes);
+        } catch (IOException e) {
+            // not thrown by in memory streams
+            throw new IllegalStateException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -1,5 +1,6 @@
 package io.swagger.v3.oas.integration;
 
+import io.swagger.v3.core.filter.SpecFilterDefinition;
 import io.swagger.v3.core.util.Configuration;
 import io.swagger.v3.oas.integration.api.OpenAPIConfiguration;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -50,6 +51,38 @@ public class SwaggerConfiguration implements OpenAPIConfiguration {
 
     private String validatorProcessorClass;
 
+    private CacheRefreshPolicy cacheRefreshPolicy;
+
+    private Long cacheRefreshAhead;
+
+    private Integer filterCacheSize;
+
+    private SpecFilterDefinition filterDefinition;
+
+    private Integer filterParallelism;
+
+    private Boolean streamOutput;
+
+    private Integer outputBufferSize;
+
+    private Boolean precompressOutput;
+
+    private Integer readerParallelism;
+
+    private String prebuiltSpecLocation;
+
+    private String scanCacheFile;
+
+    private Boolean scanAnnotationsOnly;
+
+    private Integer scanThreads;
+
+    private Set<String> scanExcludedJars;
+
+    private Set<String> scanExcludedModules;
+
+    private Boolean ignoredRouteTemplates;
+
 
     @Override
     public String getDefaultResponseCode() {
@@ -471,6 +504,420 @@ public class SwaggerConfiguration implements OpenAPIConfiguration {
         return this;
     }
 
+    /**
+     * @since 2.2.55
+     */
+    @Override
+    public CacheRefreshPolicy getCacheRefreshPolicy() {
+        return cacheRefreshPolicy;
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public void setCacheRefreshPolicy(CacheRefreshPolicy cacheRefreshPolicy) {
+        this.cacheRefreshPolicy = cacheRefreshPolicy;
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public SwaggerConfiguration cacheRefreshPolicy(CacheRefreshPolicy cacheRefreshPolicy) {
+        this.cacheRefreshPolicy = cacheRefreshPolicy;
+        return this;
+    }
+
+    /**
+     * Milliseconds before <code>cacheTTL</code> expiry at which the spec is proactively rebuilt in background,
+     * applies to <code>SINGLE_FLIGHT</code> and <code>BACKGROUND</code> refresh policies. Must be lower than
+     * <code>cacheTTL</code>, larger values are clamped to half of it.
+     *
+     * @since 2.2.55
+     */
+    @Override
+    public Long getCacheRefreshAhead() {
+        return cacheRefreshAhead;
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public void setCacheRefreshAhead(Long cacheRefreshAhead) {
+        this.cacheRefreshAhead = cacheRefreshAhead;
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public SwaggerConfiguration cacheRefreshAhead(Long cacheRefreshAhead) {
+        this.cacheRefreshAhead = cacheRefreshAhead;
+        return this;
+    }
+
+    /**
+     * Maximum number of filtered specs memoized per context when the configured filter implements
+     * io.swagger.v3.core.filter.CacheableOpenAPISpecFilter
+     *
+     * @since 2.2.55
+     */
+    @Override
+    public Integer getFilterCacheSize() {
+        return filterCacheSize;
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public void setFilterCacheSize(Integer filterCacheSize) {
+        this.filterCacheSize = filterCacheSize;
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public SwaggerConfiguration filterCacheSize(Integer filterCacheSize) {
+        this.filterCacheSize = filterCacheSize;
+        return this;
+    }
+
+    /**
+     * Declarative rules filtering the served spec per request, compiled once per cached spec and applied when no
+     * <code>filterClass</code> is set; filtered specs are memoized like those of cacheable filters
+     *
+     * @since 2.2.55
+     */
+    @Override
+    public SpecFilterDefinition getFilterDefinition() {
+        return filterDefinition;
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public void setFilterDefinition(SpecFilterDefinition filterDefinition) {
+        this.filterDefinition = filterDefinition;
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public SwaggerConfiguration filterDefinition(SpecFilterDefinition filterDefinition) {
+        this.filterDefinition = filterDefinition;
+        return this;
+    }
+
+    /**
+     * Number of threads filtering path items and component schemas in parallel when the configured filter is
+     * thread-safe, see io.swagger.v3.core.filter.OpenAPISpecFilter#isThreadSafe(); when not set or lower than 2
+     * filtering runs on the request thread.
+     *
+     * @since 2.2.55
+     */
+    @Override
+    public Integer getFilterParallelism() {
+        return filterParallelism;
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public void setFilterParallelism(Integer filterParallelism) {
+        this.filterParallelism = filterParallelism;
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public SwaggerConfiguration filterParallelism(Integer filterParallelism) {
+        this.filterParallelism = filterParallelism;
+        return this;
+    }
+
+    /**
+     * When true, specs which are not served from the context cache are serialized straight to the response
+     * output stream instead of being materialized in memory first.
+     *
+     * @since 2.2.55
+     */
+    @Override
+    public Boolean isStreamOutput() {
+        return streamOutput;
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public void setStreamOutput(Boolean streamOutput) {
+        this.streamOutput = streamOutput;
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public SwaggerConfiguration streamOutput(Boolean streamOutput) {
+        this.streamOutput = streamOutput;
+        return this;
+    }
+
+    /**
+     * Size in bytes of the buffer used when streaming output, see {@link #isStreamOutput()}
+     *
+     * @since 2.2.55
+     */
+    @Override
+    public Integer getOutputBufferSize() {
+        return outputBufferSize;
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public void setOutputBufferSize(Integer outputBufferSize) {
+        this.outputBufferSize = outputBufferSize;
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public SwaggerConfiguration outputBufferSize(Integer outputBufferSize) {
+        this.outputBufferSize = outputBufferSize;
+        return this;
+    }
+
+    /**
+     * When true, gzip and deflate encodings of the cached serialized output are computed along with it and served
+     * to clients accepting them.
+     *
+     * @since 2.2.55
+     */
+    @Override
+    public Boolean isPrecompressOutput() {
+        return precompressOutput;
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public void setPrecompressOutput(Boolean precompressOutput) {
+        this.precompressOutput = precompressOutput;
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public SwaggerConfiguration precompressOutput(Boolean precompressOutput) {
+        this.precompressOutput = precompressOutput;
+        return this;
+    }
+
+    /**
+     * Number of threads used by readers supporting it to process resource classes in parallel; when not set or lower
+     * than 2 classes are read sequentially. The resulting definition is the same in both cases.
+     *
+     * @since 2.2.55
+     */
+    @Override
+    public Integer getReaderParallelism() {
+        return readerParallelism;
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public void setReaderParallelism(Integer readerParallelism) {
+        this.readerParallelism = readerParallelism;
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public SwaggerConfiguration readerParallelism(Integer readerParallelism) {
+        this.readerParallelism = readerParallelism;
+        return this;
+    }
+
+    /**
+     * Classpath location of a spec resolved at build time (see {@link PrebuiltOpenApi}); when set and the spec is
+     * up to date with the classes it has been resolved from, contexts serve it instead of scanning and reading
+     * resources.
+     *
+     * @since 2.2.55
+     */
+    @Override
+    public String getPrebuiltSpecLocation() {
+        return prebuiltSpecLocation;
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public void setPrebuiltSpecLocation(String prebuiltSpecLocation) {
+        this.prebuiltSpecLocation = prebuiltSpecLocation;
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public SwaggerConfiguration prebuiltSpecLocation(String prebuiltSpecLocation) {
+        this.prebuiltSpecLocation = prebuiltSpecLocation;
+        return this;
+    }
+
+    /**
+     * Path of a local file where scanners supporting it persist the classes found by scanning the classpath; the
+     * persisted classes are used instead of scanning as long as the classpath entries and the scanned packages are
+     * unchanged.
+     *
+     * @since 2.2.55
+     */
+    @Override
+    public String getScanCacheFile() {
+        return scanCacheFile;
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public void setScanCacheFile(String scanCacheFile) {
+        this.scanCacheFile = scanCacheFile;
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public SwaggerConfiguration scanCacheFile(String scanCacheFile) {
+        this.scanCacheFile = scanCacheFile;
+        return this;
+    }
+
+    /**
+     * If set, classpath scans only collect the class and annotation info needed to find classes by annotation,
+     * instead of all field, method and annotation parameter info.
+     *
+     * @since 2.2.55
+     */
+    @Override
+    public Boolean isScanAnnotationsOnly() {
+        return scanAnnotationsOnly;
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public void setScanAnnotationsOnly(Boolean scanAnnotationsOnly) {
+        this.scanAnnotationsOnly = scanAnnotationsOnly;
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public SwaggerConfiguration scanAnnotationsOnly(Boolean scanAnnotationsOnly) {
+        this.scanAnnotationsOnly = scanAnnotationsOnly;
+        return this;
+    }
+
+    /**
+     * Number of worker threads of classpath scans; when not set the ClassGraph default is used.
+     *
+     * @since 2.2.55
+     */
+    @Override
+    public Integer getScanThreads() {
+        return scanThreads;
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public void setScanThreads(Integer scanThreads) {
+        this.scanThreads = scanThreads;
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public SwaggerConfiguration scanThreads(Integer scanThreads) {
+        this.scanThreads = scanThreads;
+        return this;
+    }
+
+    /**
+     * Names of the jars skipped by classpath scans, possibly including <code>*</code> wildcards (e.g.
+     * <code>hibernate-*.jar</code>).
+     *
+     * @since 2.2.55
+     */
+    @Override
+    public Set<String> getScanExcludedJars() {
+        return scanExcludedJars;
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public void setScanExcludedJars(Set<String> scanExcludedJars) {
+        this.scanExcludedJars = scanExcludedJars;
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public SwaggerConfiguration scanExcludedJars(Set<String> scanExcludedJars) {
+        this.scanExcludedJars = scanExcludedJars;
+        return this;
+    }
+
+    /**
+     * Names of the JPMS modules skipped by classpath scans, possibly including <code>*</code> wildcards.
+     *
+     * @since 2.2.55
+     */
+    @Override
+    public Set<String> getScanExcludedModules() {
+        return scanExcludedModules;
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public void setScanExcludedModules(Set<String> scanExcludedModules) {
+        this.scanExcludedModules = scanExcludedModules;
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public SwaggerConfiguration scanExcludedModules(Set<String> scanExcludedModules) {
+        this.scanExcludedModules = scanExcludedModules;
+        return this;
+    }
+
+    /**
+     * When true, segments of ignored routes enclosed in braces, like <code>{id}</code>, match any single path
+     * segment; by default ignored routes only match paths starting with the very same segments.
+     *
+     * @since 2.2.55
+     */
+    @Override
+    public Boolean isIgnoredRouteTemplates() {
+        return ignoredRouteTemplates;
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public void setIgnoredRouteTemplates(Boolean ignoredRouteTemplates) {
+        this.ignoredRouteTemplates = ignoredRouteTemplates;
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public SwaggerConfiguration ignoredRouteTemplates(Boolean ignoredRouteTemplates) {
+        this.ignoredRouteTemplates = ignoredRouteTemplates;
+        return this;
+    }
+
     public Configuration toConfiguration() {
         Configuration configuration = new Configuration();
 
@@ -1,5 +1,6 @@
 package io.swagger.v3.oas.integration.api;
 
+import io.swagger.v3.core.filter.SpecFilterDefinition;
 import io.swagger.v3.core.util.Configuration;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.Schema;
@@ -95,4 +96,104 @@ public interface OpenAPIConfiguration {
      * @since 2.2.29
      */
     public Configuration toConfiguration();
+
+    /**
+     * @since 2.2.55
+     */
+    public CacheRefreshPolicy getCacheRefreshPolicy();
+
+    /**
+     * @since 2.2.55
+     */
+    public Long getCacheRefreshAhead();
+
+    /**
+     * @since 2.2.55
+     */
+    public Integer getFilterCacheSize();
+
+    /**
+     * @since 2.2.55
+     */
+    public SpecFilterDefinition getFilterDefinition();
+
+    /**
+     * @since 2.2.55
+     */
+    public Integer getFilterParallelism();
+
+    /**
+     * @since 2.2.55
+     */
+    public Boolean isStreamOutput();
+
+    /**
+     * @since 2.2.55
+     */
+    public Integer getOutputBufferSize();
+
+    /**
+     * @since 2.2.55
+     */
+    public Boolean isPrecompressOutput();
+
+    /**
+     * @since 2.2.55
+     */
+    public Integer getReaderParallelism();
+
+    /**
+     * @since 2.2.55
+     */
+    public String getPrebuiltSpecLocation();
+
+    /**
+     * @since 2.2.55
+     */
+    public String getScanCacheFile();
+
+    /**
+     * @since 2.2.55
+     */
+    public Boolean isScanAnnotationsOnly();
+
+    /**
+     * @since 2.2.55
+     */
+    public Integer getScanThreads();
+
+    /**
+     * @since 2.2.55
+     */
+    public Set<String> getScanExcludedJars();
+
+    /**
+     * @since 2.2.55
+     */
+    public Set<String> getScanExcludedModules();
+
+    /**
+     * @since 2.2.55
+     */
+    public Boolean isIgnoredRouteTemplates();
+
+    /**
+     * Defines how a context rebuilds its cached spec once <code>cacheTTL</code> has expired.
+     *
+     * @since 2.2.55
+     */
+    enum CacheRefreshPolicy {
+        /**
+         * every caller finding a stale cache entry rebuilds the spec (default)
+         */
+        BLOCKING,
+        /**
+         * a single caller rebuilds the spec, concurrent callers are served the previous spec meanwhile
+         */
+        SINGLE_FLIGHT,
+        /**
+         * the spec is rebuilt by a background thread, all callers are served the previous spec meanwhile
+         */
+        BACKGROUND
+    }
 }
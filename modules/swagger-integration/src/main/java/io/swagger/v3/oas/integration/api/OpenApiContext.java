@@ -2,9 +2,16 @@ package io.swagger.v3.oas.integration.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.core.converter.ModelConverter;
+import io.swagger.v3.core.filter.OpenAPISpecFilter;
+import io.swagger.v3.core.filter.SpecFilter;
 import io.swagger.v3.oas.integration.OpenApiConfigurationException;
+import io.swagger.v3.oas.integration.SerializedOpenApi;
 import io.swagger.v3.oas.models.OpenAPI;
+import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 public interface OpenApiContext {
@@ -61,4 +68,49 @@ public interface OpenApiContext {
      */
     void setOutputYamlMapper(ObjectMapper outputYamlMapper);
 
+    /**
+     * Serializes the given spec with the output mapper matching the requested type (<code>json</code> or <code>yaml</code>).
+     *
+     * @since 2.2.55
+     */
+    default SerializedOpenApi serialize(OpenAPI openAPI, String type, boolean pretty) throws IOException {
+        return SerializedOpenApi.serialize(openAPI, SerializedOpenApi.isYaml(type) ? getOutputYamlMapper() : getOutputJsonMapper(), pretty);
+    }
+
+    /**
+     * Returns the serialized spec as returned by {@link #read()}; implementations may cache the result
+     * as long as the underlying spec is cached.
+     *
+     * @since 2.2.55
+     */
+    default SerializedOpenApi readSerialized(String type, boolean pretty) throws IOException {
+        return serialize(read(), type, pretty);
+    }
+
+    /**
+     * Returns the serialized spec as returned by {@link #read()}, filtered for the given request by the filter
+     * configured in <code>filterClass</code>, if any.
+     *
+     * @since 2.2.55
+     */
+    default SerializedOpenApi readSerialized(String type,
+                                             boolean pretty,
+                                             Map<String, List<String>> params,
+                                             Map<String, String> cookies,
+                                             Map<String, List<String>> headers) throws IOException {
+        if (getOpenApiConfiguration() == null || getOpenApiConfiguration().getFilterClass() == null) {
+            return readSerialized(type, pretty);
+        }
+        OpenAPI oas = read();
+        if (oas != null) {
+            try {
+                OpenAPISpecFilter filterImpl = (OpenAPISpecFilter) Class.forName(getOpenApiConfiguration().getFilterClass()).newInstance();
+                SpecFilter f = new SpecFilter().copyOnWrite(true);
+                oas = f.filter(oas, filterImpl, params, cookies, headers);
+            } catch (Exception e) {
+                LoggerFactory.getLogger(OpenApiContext.class).error("failed to load filter", e);
+            }
+        }
+        return serialize(oas, type, pretty);
+    }
 }
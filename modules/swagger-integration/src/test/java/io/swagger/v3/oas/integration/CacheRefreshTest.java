@@ -0,0 +1,195 @@
+package io.swagger.v3.oas.integration;
+
+import io.swagger.v3.oas.integration.api.OpenAPIConfiguration;
+import io.swagger.v3.oas.integration.api.OpenApiReader;
+import io.swagger.v3.oas.integration.api.OpenApiScanner;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.info.Info;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class CacheRefreshTest {
+
+    static class CountingReader implements OpenApiReader {
+
+        final AtomicInteger reads = new AtomicInteger();
+        volatile CountDownLatch gate;
+
+        @Override
+        public void setConfiguration(OpenAPIConfiguration openApiConfiguration) {
+        }
+
+        @Override
+        public OpenAPI read(Set<Class<?>> classes, Map<String, Object> resources) {
+            int count = reads.incrementAndGet();
+            CountDownLatch latch = gate;
+            if (latch != null) {
+                try {
+                    latch.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return new OpenAPI().info(new Info().version(String.valueOf(count)));
+        }
+    }
+
+    static class EmptyScanner implements OpenApiScanner {
+
+        @Override
+        public void setConfiguration(OpenAPIConfiguration openApiConfiguration) {
+        }
+
+        @Override
+        public Set<Class<?>> classes() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public Map<String, Object> resources() {
+            return Collections.emptyMap();
+        }
+    }
+
+    private GenericOpenApiContext context(CountingReader reader, OpenAPIConfiguration.CacheRefreshPolicy policy, long ttl) throws Exception {
+        return new GenericOpenApiContext<>()
+                .id("cache.refresh.test." + policy)
+                .openApiConfiguration(new SwaggerConfiguration()
+                        .cacheTTL(ttl)
+                        .cacheRefreshPolicy(policy))
+                .openApiReader(reader)
+                .openApiScanner(new EmptyScanner())
+                .init();
+    }
+
+    @Test(description = "with single flight refresh only one caller rebuilds an expired spec")
+    public void testSingleFlightRefresh() throws Exception {
+        CountingReader reader = new CountingReader();
+        GenericOpenApiContext ctx = context(reader, OpenAPIConfiguration.CacheRefreshPolicy.SINGLE_FLIGHT, 2000);
+
+        OpenAPI first = ctx.read();
+        assertEquals(reader.reads.get(), 1);
+        Thread.sleep(2100);
+
+        reader.gate = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<OpenAPI>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(ctx::read));
+            }
+            // all callers but the one rebuilding the spec are served the previous snapshot
+            int stale = 0;
+            for (Future<OpenAPI> result : results) {
+                if (waitFor(result)) {
+                    assertSame(result.get(), first);
+                    stale++;
+                }
+            }
+            assertEquals(stale, 7);
+            reader.gate.countDown();
+            for (Future<OpenAPI> result : results) {
+                result.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(reader.reads.get(), 2);
+        assertNotSame(ctx.read(), first);
+        assertEquals(ctx.read().getInfo().getVersion(), "2");
+    }
+
+    @Test(description = "with background refresh callers never wait for an expired spec to be rebuilt")
+    public void testBackgroundRefresh() throws Exception {
+        CountingReader reader = new CountingReader();
+        GenericOpenApiContext ctx = context(reader, OpenAPIConfiguration.CacheRefreshPolicy.BACKGROUND, 2000);
+
+        OpenAPI first = ctx.read();
+        Thread.sleep(2100);
+
+        reader.gate = new CountDownLatch(1);
+        for (int i = 0; i < 10; i++) {
+            assertSame(ctx.read(), first);
+        }
+        reader.gate.countDown();
+
+        long deadline = System.currentTimeMillis() + 10000;
+        while (ctx.read() == first && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(ctx.read().getInfo().getVersion(), "2");
+        assertEquals(reader.reads.get(), 2);
+    }
+
+    @Test(description = "refresh ahead rebuilds the spec before it expires")
+    public void testRefreshAhead() throws Exception {
+        CountingReader reader = new CountingReader();
+        GenericOpenApiContext ctx = context(reader, OpenAPIConfiguration.CacheRefreshPolicy.SINGLE_FLIGHT, 500)
+                .cacheRefreshAhead(450);
+
+        OpenAPI first = ctx.read();
+        Thread.sleep(100);
+        assertSame(ctx.read(), first);
+
+        long deadline = System.currentTimeMillis() + 10000;
+        while (ctx.read() == first && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(reader.reads.get() >= 2);
+        assertNotSame(ctx.read(), first);
+    }
+
+    @Test(description = "refresh ahead not lower than the cache TTL is clamped, so that the spec is still rebuilt before it expires")
+    public void testRefreshAheadClamped() throws Exception {
+        CountingReader reader = new CountingReader();
+        GenericOpenApiContext ctx = new GenericOpenApiContext<>()
+                .id("cache.refresh.test.clamped")
+                .openApiConfiguration(new SwaggerConfiguration()
+                        .cacheTTL(500L)
+                        .cacheRefreshAhead(500L)
+                        .cacheRefreshPolicy(OpenAPIConfiguration.CacheRefreshPolicy.SINGLE_FLIGHT))
+                .openApiReader(reader)
+                .openApiScanner(new EmptyScanner())
+                .init();
+        assertEquals(ctx.getCacheRefreshAhead(), 250);
+        assertEquals(ctx.cacheRefreshAhead(2000).getCacheRefreshAhead(), 250);
+        assertEquals(ctx.cacheTTL(4000).cacheRefreshAhead(2000).getCacheRefreshAhead(), 2000);
+        assertEquals(ctx.cacheTTL(500).getCacheRefreshAhead(), 250);
+
+        OpenAPI first = ctx.read();
+        assertSame(ctx.read(), first);
+        assertEquals(reader.reads.get(), 1);
+
+        long deadline = System.currentTimeMillis() + 10000;
+        while (ctx.read() == first && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(reader.reads.get() >= 2);
+        assertNotSame(ctx.read(), first);
+    }
+
+    private static boolean waitFor(Future<?> future) {
+        try {
+            future.get(500, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package io.swagger.v3.oas.integration;
+
+import io.swagger.v3.core.filter.AbstractSpecFilter;
+import io.swagger.v3.core.filter.CacheableOpenAPISpecFilter;
+import io.swagger.v3.oas.integration.api.OpenAPIConfiguration;
+import io.swagger.v3.oas.integration.api.OpenApiReader;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class FilterPoolTest {
+
+    public static class ThreadSafeFilter extends AbstractSpecFilter implements CacheableOpenAPISpecFilter {
+
+        @Override
+        public String getCacheKey(Map<String, List<String>> params, Map<String, String> cookies, Map<String, List<String>> headers) {
+            return null;
+        }
+    }
+
+    static class PathsReader implements OpenApiReader {
+
+        @Override
+        public void setConfiguration(OpenAPIConfiguration openApiConfiguration) {
+        }
+
+        @Override
+        public OpenAPI read(Set<Class<?>> classes, Map<String, Object> resources) {
+            Paths paths = new Paths();
+            for (int i = 0; i < 4; i++) {
+                paths.addPathItem("/path" + i, new PathItem().get(new Operation().operationId("get" + i)));
+            }
+            return new OpenAPI().paths(paths);
+        }
+    }
+
+    private GenericOpenApiContext context(String id) throws Exception {
+        return new GenericOpenApiContext<>()
+                .id(id)
+                .openApiConfiguration(new SwaggerConfiguration()
+                        .filterClass(ThreadSafeFilter.class.getName())
+                        .filterParallelism(2))
+                .openApiReader(new PathsReader())
+                .openApiScanner(new CacheRefreshTest.EmptyScanner());
+    }
+
+    @Test(description = "the filter pool created by a context has daemon threads named after the context")
+    public void testContextFilterPool() throws Exception {
+        GenericOpenApiContext ctx = context("filter.pool.test").init();
+
+        assertNotNull(ctx.readSerialized("json", false, null, null, Collections.emptyMap()));
+
+        ForkJoinPool pool = ctx.getFilterPool();
+        assertNotNull(pool);
+        ForkJoinWorkerThread thread = pool.getFactory().newThread(pool);
+        assertTrue(thread.getName().startsWith("swagger-openapi-context-filter-filter.pool.test-"), thread.getName());
+        assertTrue(thread.isDaemon());
+    }
+
+    @Test(description = "a context filters in the pool supplied by the caller")
+    public void testSuppliedFilterPool() throws Exception {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            GenericOpenApiContext ctx = context("filter.pool.supplied.test").filterPool(pool).init();
+
+            assertNotNull(ctx.readSerialized("json", false, null, null, Collections.emptyMap()));
+            assertSame(ctx.getFilterPool(), pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -8,6 +8,7 @@ import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
 import com.fasterxml.jackson.databind.introspect.AnnotationMap;
 import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
 
+import io.swagger.v3.core.util.Configuration;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.core.util.ParameterProcessor;
 import io.swagger.v3.jaxrs2.ext.AbstractOpenAPIExtension;
@@ -49,6 +50,20 @@ public class DefaultParameterExtension extends AbstractOpenAPIExtension {
                                                boolean includeRequestBody,
                                                JsonView jsonViewAnnotation,
                                                Iterator<OpenAPIExtension> chain) {
+        return extractParameters(annotations, type, typesToSkip, components, classConsumes, methodConsumes, includeRequestBody, jsonViewAnnotation, chain, configuration);
+    }
+
+    @Override
+    public ResolvedParameter extractParameters(List<Annotation> annotations,
+                                               Type type,
+                                               Set<Type> typesToSkip,
+                                               Components components,
+                                               javax.ws.rs.Consumes classConsumes,
+                                               javax.ws.rs.Consumes methodConsumes,
+                                               boolean includeRequestBody,
+                                               JsonView jsonViewAnnotation,
+                                               Iterator<OpenAPIExtension> chain,
+                                               Configuration configuration) {
         if (shouldIgnoreType(type, typesToSkip)) {
             return new ResolvedParameter();
         }
@@ -100,7 +115,7 @@ public class DefaultParameterExtension extends AbstractOpenAPIExtension {
             } else {
                 List<Parameter> formParameters = new ArrayList<>();
                 List<Parameter> parameters = new ArrayList<>();
-                if (handleAdditionalAnnotation(parameters, formParameters, annotation, type, typesToSkip, classConsumes, methodConsumes, components, includeRequestBody, jsonViewAnnotation)) {
+                if (handleAdditionalAnnotation(parameters, formParameters, annotation, type, typesToSkip, classConsumes, methodConsumes, components, includeRequestBody, jsonViewAnnotation, configuration)) {
                     ResolvedParameter extractParametersResult = new ResolvedParameter();
                     extractParametersResult.parameters.addAll(parameters);
                     extractParametersResult.formParameters.addAll(formParameters);
@@ -141,8 +156,8 @@ public class DefaultParameterExtension extends AbstractOpenAPIExtension {
                     classConsumes == null ? new String[0] : classConsumes.value(),
                     methodConsumes == null ? new String[0] : methodConsumes.value(),
                     jsonViewAnnotation,
-                    openapi31,
-                    this.schemaResolution);
+                    configuration != null && Boolean.TRUE.equals(configuration.isOpenAPI31()),
+                    configuration == null ? null : configuration.getSchemaResolution());
             if (processedParameter != null) {
                 extractParametersResult.parameters.add(processedParameter);
             }
@@ -161,7 +176,8 @@ public class DefaultParameterExtension extends AbstractOpenAPIExtension {
 
     private boolean handleAdditionalAnnotation(List<Parameter> parameters, List<Parameter> formParameters, Annotation annotation,
                                                final Type type, Set<Type> typesToSkip, javax.ws.rs.Consumes classConsumes,
-                                               javax.ws.rs.Consumes methodConsumes, Components components, boolean includeRequestBody, JsonView jsonViewAnnotation) {
+                                               javax.ws.rs.Consumes methodConsumes, Components components, boolean includeRequestBody, JsonView jsonViewAnnotation,
+                                               Configuration configuration) {
         boolean processed = false;
         if (BeanParam.class.isAssignableFrom(annotation.getClass())) {
             // Use Jackson's logic for processing Beans
@@ -252,7 +268,8 @@ public class DefaultParameterExtension extends AbstractOpenAPIExtension {
                         methodConsumes,
                         includeRequestBody,
                         jsonViewAnnotation,
-                        extensions);
+                        extensions,
+                        configuration);
 
                 List<Parameter> extractedParameters =
                         resolvedParameter.parameters;
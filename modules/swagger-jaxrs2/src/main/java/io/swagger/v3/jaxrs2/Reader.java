@@ -10,6 +10,7 @@ import io.swagger.v3.core.converter.AnnotatedType;
 import io.swagger.v3.core.converter.ModelConverters;
 import io.swagger.v3.core.converter.ResolvedSchema;
 import io.swagger.v3.core.util.AnnotationsUtils;
+import io.swagger.v3.core.util.Configuration;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.core.util.Json31;
 import io.swagger.v3.core.util.KotlinDetector;
@@ -18,6 +19,7 @@ import io.swagger.v3.core.util.PathUtils;
 import io.swagger.v3.core.util.ReflectionUtils;
 import io.swagger.v3.jaxrs2.ext.OpenAPIExtension;
 import io.swagger.v3.jaxrs2.ext.OpenAPIExtensions;
+import io.swagger.v3.jaxrs2.util.IgnoredRoutesMatcher;
 import io.swagger.v3.jaxrs2.util.ReaderUtils;
 import io.swagger.v3.oas.annotations.ExternalDocumentation;
 import io.swagger.v3.oas.annotations.Hidden;
@@ -53,7 +55,6 @@ import javax.ws.rs.ApplicationPath;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.Application;
-import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
@@ -68,11 +69,18 @@ import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 public class Reader implements OpenApiReader {
@@ -88,9 +96,24 @@ public class Reader implements OpenApiReader {
     private Components components;
     private Paths paths;
     private Set<Tag> openApiTags;
+    // operation ids assigned and operations added, in order, when reading a class in parallel
+    private List<OperationIdEvent> operationIdEvents;
+
+    // number of operations using each operation id in indexedPaths, rebuilt when openAPI paths are replaced
+    private Map<String, Integer> operationIdIndex;
+    // for a base operation id, the highest n such that the ids suffixed with _1 to _n are all in use
+    private Map<String, Integer> operationIdSuffixes;
+    private Paths indexedPaths;
 
     private String defaultResponseKey = ApiResponses.DEFAULT;
 
+    // configuration passed to parameter extensions, created once per read instead of once per parameter
+    private Configuration parameterConfiguration;
+    // matcher of the configured ignored routes, compiled on first use after the configuration is set
+    private IgnoredRoutesMatcher ignoredRoutesMatcher;
+    // extensions resolved once per read
+    private List<OpenAPIExtension> extensions;
+
     private static final String GET_METHOD = "get";
     private static final String POST_METHOD = "post";
     private static final String PUT_METHOD = "put";
@@ -137,6 +160,7 @@ public class Reader implements OpenApiReader {
      * Scans a single class for Swagger annotations - does not invoke ReaderListeners
      */
     public OpenAPI read(Class<?> cls) {
+        operationIdIndex = null;
         return read(cls, resolveApplicationPath(), null, false, null, null, new LinkedHashSet<String>(), new ArrayList<Parameter>(), new HashSet<Class<?>>());
     }
 
@@ -149,6 +173,8 @@ public class Reader implements OpenApiReader {
      * @return the generated OpenAPI definition
      */
     public OpenAPI read(Set<Class<?>> classes) {
+        parameterConfiguration = null;
+        extensions = null;
 
         Set<Class<?>> sortedClasses = new TreeSet<>((class1, class2) -> {
             if (class1.equals(class2)) {
@@ -191,13 +217,17 @@ public class Reader implements OpenApiReader {
                 LOGGER.error("Unexpected error invoking beforeScan listener [" + listener.getClass().getName() + "]", e);
             }
         }
+        operationIdIndex = null;
         String appPathRuntime = resolveApplicationPath();
         if (StringUtils.isNotBlank(appPathRuntime)) {
             appPath = appPathRuntime;
         }
 
-        for (Class<?> cls : sortedClasses) {
-            read(cls, appPath, null, false, null, null, new LinkedHashSet<String>(), new ArrayList<Parameter>(), new HashSet<Class<?>>());
+        Integer parallelism = config == null ? null : config.getReaderParallelism();
+        if (parallelism == null || parallelism < 2 || sortedClasses.size() < 2 || !readInParallel(sortedClasses, appPath, parallelism)) {
+            for (Class<?> cls : sortedClasses) {
+                read(cls, appPath, null, false, null, null, new LinkedHashSet<String>(), new ArrayList<Parameter>(), new HashSet<Class<?>>());
+            }
         }
 
         for (ReaderListener listener : listeners.values()) {
@@ -210,6 +240,224 @@ public class Reader implements OpenApiReader {
         return openAPI;
     }
 
+    /**
+     * Reads each of the given classes into a separate reader created by {@link #newContributionReader()}, using up to
+     * <code>parallelism</code> threads, and merges the results into this reader in the iteration order of
+     * <code>classes</code>.
+     *
+     * The merge replays what a sequential read does at the end of each class, so the resulting definition is the same.
+     * The only state a class read depends on is the operation ids already in use, which get a numeric suffix when
+     * taken; the operation ids of each class are therefore assigned again when merging it, in the order they were
+     * assigned while reading it, against the operation ids of the classes preceding it.
+     *
+     * @return true if the classes have been read and merged into this reader, false if this reader cannot read classes
+     * in parallel
+     * @since 2.2.55
+     */
+    protected boolean readInParallel(Set<Class<?>> classes, String appPath, int parallelism) {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, classes.size()), r -> {
+            Thread thread = new Thread(r, "swagger-reader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        List<Future<Reader>> futures = new ArrayList<>();
+        List<Reader> contributions = new ArrayList<>();
+        try {
+            for (Class<?> cls : classes) {
+                futures.add(executor.submit(() -> {
+                    Reader contribution = newContributionReader();
+                    if (contribution == null) {
+                        return null;
+                    }
+                    contribution.openAPI = new OpenAPI(openAPI.getSpecVersion()).openapi(openAPI.getOpenapi());
+                    contribution.paths = new Paths();
+                    contribution.components = new Components();
+                    contribution.openApiTags = new LinkedHashSet<>();
+                    contribution.application = application;
+                    contribution.operationIdEvents = new ArrayList<>();
+                    contribution.read(cls, appPath, null, false, null, null, new LinkedHashSet<String>(), new ArrayList<Parameter>(), new HashSet<Class<?>>());
+                    return contribution;
+                }));
+            }
+            for (Future<Reader> future : futures) {
+                Reader contribution = future.get();
+                if (contribution == null) {
+                    return false;
+                }
+                contributions.add(contribution);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.debug("Interrupted while reading classes in parallel, reading them sequentially");
+            return false;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Iterator<Class<?>> classIterator = classes.iterator();
+        for (Reader contribution : contributions) {
+            reassignOperationIds(contribution);
+            mergeContribution(contribution, classIterator.next().getAnnotation(Hidden.class) != null);
+        }
+        return true;
+    }
+
+    /**
+     * Creates the reader used to read a single class in {@link #readInParallel(Set, String, int)}, or returns null
+     * if classes can only be read sequentially by this reader. Subclasses need to return an instance of their own
+     * type for their customizations to apply when reading in parallel.
+     *
+     * @since 2.2.55
+     */
+    protected Reader newContributionReader() {
+        return getClass() == Reader.class ? new Reader(config) : null;
+    }
+
+    /**
+     * Assigns the operation ids of a class read in parallel as a sequential read following the classes already merged
+     * would have: operations get the first of their base id, <code>id_1</code>, <code>id_2</code>... not used by the
+     * operations merged so far, nor by the operations of the class added before them.
+     */
+    private void reassignOperationIds(Reader contribution) {
+        Map<String, Integer> used = new HashMap<>(getOperationIdIndex());
+        Map<String, Operation> added = new HashMap<>();
+        for (OperationIdEvent event : contribution.operationIdEvents) {
+            if (event.path == null) {
+                String operationId = event.operationId;
+                for (int counter = 1; used.containsKey(operationId); counter++) {
+                    operationId = String.format("%s_%d", event.operationId, counter);
+                }
+                event.operation.setOperationId(operationId);
+                continue;
+            }
+            PathItem.HttpMethod method = getIndexedMethod(event.method);
+            if (method == null) {
+                continue;
+            }
+            String key = method + " " + event.path;
+            Operation previous = added.containsKey(key) ? added.get(key) : getOperation(event.path, method);
+            added.put(key, event.operation);
+            if (previous != event.operation) {
+                countOperationId(used, event.operation, 1);
+                countOperationId(used, previous, -1);
+            }
+        }
+    }
+
+    private static PathItem.HttpMethod getIndexedMethod(String method) {
+        for (PathItem.HttpMethod httpMethod : PathItem.HttpMethod.values()) {
+            if (httpMethod != PathItem.HttpMethod.TRACE && httpMethod.name().equalsIgnoreCase(method)) {
+                return httpMethod;
+            }
+        }
+        return null;
+    }
+
+    private Operation getOperation(String path, PathItem.HttpMethod method) {
+        PathItem pathItem = openAPI.getPaths() == null ? null : openAPI.getPaths().get(path);
+        return pathItem == null ? null : pathItem.readOperationsMap().get(method);
+    }
+
+    private static void countOperationId(Map<String, Integer> used, Operation operation, int delta) {
+        if (operation == null || StringUtils.isBlank(operation.getOperationId())) {
+            return;
+        }
+        int count = used.getOrDefault(operation.getOperationId(), 0) + delta;
+        if (count > 0) {
+            used.put(operation.getOperationId(), count);
+        } else {
+            used.remove(operation.getOperationId());
+        }
+    }
+
+    private void mergeContribution(Reader contribution, boolean hidden) {
+        OpenAPI read = contribution.openAPI;
+        openAPI.setOpenapi(read.getOpenapi());
+        if (hidden) {
+            return;
+        }
+        if (read.getInfo() != null) {
+            openAPI.setInfo(read.getInfo());
+        }
+        if (read.getSecurity() != null) {
+            openAPI.setSecurity(read.getSecurity());
+        }
+        if (read.getExternalDocs() != null) {
+            openAPI.setExternalDocs(read.getExternalDocs());
+        }
+        if (read.getServers() != null) {
+            openAPI.setServers(read.getServers());
+        }
+        if (read.getExtensions() != null) {
+            openAPI.setExtensions(read.getExtensions());
+        }
+
+        Components readComponents = contribution.components;
+        if (readComponents.getSecuritySchemes() != null && !readComponents.getSecuritySchemes().isEmpty()) {
+            if (components.getSecuritySchemes() != null && !components.getSecuritySchemes().isEmpty()) {
+                components.getSecuritySchemes().putAll(readComponents.getSecuritySchemes());
+            } else {
+                components.setSecuritySchemes(new HashMap<>(readComponents.getSecuritySchemes()));
+            }
+        }
+        mergeComponents(readComponents.getSchemas(), components::getSchemas, components::setSchemas);
+        mergeComponents(readComponents.getResponses(), components::getResponses, components::setResponses);
+        mergeComponents(readComponents.getParameters(), components::getParameters, components::setParameters);
+        mergeComponents(readComponents.getExamples(), components::getExamples, components::setExamples);
+        mergeComponents(readComponents.getRequestBodies(), components::getRequestBodies, components::setRequestBodies);
+        mergeComponents(readComponents.getHeaders(), components::getHeaders, components::setHeaders);
+        mergeComponents(readComponents.getLinks(), components::getLinks, components::setLinks);
+        mergeComponents(readComponents.getCallbacks(), components::getCallbacks, components::setCallbacks);
+        mergeComponents(readComponents.getPathItems(), components::getPathItems, components::setPathItems);
+        mergeComponents(readComponents.getExtensions(), components::getExtensions, components::setExtensions);
+
+        for (Map.Entry<String, PathItem> entry : contribution.paths.entrySet()) {
+            PathItem pathItemObject = entry.getValue();
+            if (openAPI.getPaths() != null && openAPI.getPaths().get(entry.getKey()) != null) {
+                pathItemObject = openAPI.getPaths().get(entry.getKey());
+                for (Map.Entry<PathItem.HttpMethod, Operation> operation : entry.getValue().readOperationsMap().entrySet()) {
+                    addPathItemOperation(pathItemObject, operation.getKey().name().toLowerCase(Locale.ROOT), operation.getValue());
+                }
+            } else {
+                indexOperationIds(pathItemObject);
+            }
+            paths.addPathItem(entry.getKey(), pathItemObject);
+            if (openAPI.getPaths() != null) {
+                this.paths.putAll(openAPI.getPaths());
+            }
+            openAPI.setPaths(this.paths);
+        }
+
+        if (read.getWebhooks() != null) {
+            openAPI.setWebhooks(read.getWebhooks());
+        }
+        if (!isEmptyComponents(components) && openAPI.getComponents() == null) {
+            openAPI.setComponents(components);
+        }
+        openApiTags.addAll(contribution.openApiTags);
+        if (!openApiTags.isEmpty()) {
+            mergeTags();
+        }
+    }
+
+    private static <T> void mergeComponents(Map<String, T> read, Supplier<Map<String, T>> getter, Consumer<Map<String, T>> setter) {
+        if (read == null || read.isEmpty()) {
+            return;
+        }
+        if (getter.get() == null) {
+            setter.accept(new LinkedHashMap<>());
+        }
+        getter.get().putAll(read);
+    }
+
     @Override
     public void setConfiguration(OpenAPIConfiguration openApiConfiguration) {
         if (openApiConfiguration != null) {
@@ -224,7 +472,37 @@ public class Reader implements OpenApiReader {
                 this.openAPI.openapi(openApiConfiguration.getOpenAPIVersion());
             }
             this.defaultResponseKey = StringUtils.isBlank(config.getDefaultResponseCode()) ? ApiResponses.DEFAULT : config.getDefaultResponseCode();
+            this.parameterConfiguration = null;
+            this.ignoredRoutesMatcher = null;
+        }
+    }
+
+    private IgnoredRoutesMatcher getIgnoredRoutesMatcher() {
+        if (ignoredRoutesMatcher == null) {
+            ignoredRoutesMatcher = IgnoredRoutesMatcher.compile(config.getIgnoredRoutes(), Boolean.TRUE.equals(config.isIgnoredRouteTemplates()));
+        }
+        return ignoredRoutesMatcher;
+    }
+
+    /**
+     * Returns the configuration passed to parameter extensions, a snapshot of the reader configuration taken on first
+     * use after the configuration is set.
+     */
+    protected Configuration getParameterConfiguration() {
+        if (parameterConfiguration == null) {
+            parameterConfiguration = config.toConfiguration();
         }
+        return parameterConfiguration;
+    }
+
+    /**
+     * Returns a new chain of the extensions resolved for the current read.
+     */
+    protected Iterator<OpenAPIExtension> extensionChain() {
+        if (extensions == null) {
+            extensions = OpenAPIExtensions.getExtensions();
+        }
+        return extensions.iterator();
     }
 
     @Override
@@ -463,13 +741,13 @@ public class Reader implements OpenApiReader {
             Map<String, String> regexMap = new LinkedHashMap<>();
             operationPath = PathUtils.parsePath(operationPath, regexMap);
             if (operationPath != null) {
-                if (config != null && ReaderUtils.isIgnored(operationPath, config)) {
+                if (config != null && config.getIgnoredRoutes() != null && getIgnoredRoutesMatcher().matches(operationPath)) {
                     continue;
                 }
 
                 final Class<?> subResource = getSubResourceWithJaxRsSubresourceLocatorSpecs(method);
 
-                String httpMethod = ReaderUtils.extractOperationMethod(method, OpenAPIExtensions.chain());
+                String httpMethod = ReaderUtils.extractOperationMethod(method, extensionChain());
                 httpMethod = (httpMethod == null && isSubresource) ? parentMethod : httpMethod;
 
                 if (StringUtils.isBlank(httpMethod) && subResource == null) {
@@ -660,7 +938,7 @@ public class Reader implements OpenApiReader {
                         continue;
                     }
 
-                    final Iterator<OpenAPIExtension> chain = OpenAPIExtensions.chain();
+                    final Iterator<OpenAPIExtension> chain = extensionChain();
                     if (chain.hasNext()) {
                         final OpenAPIExtension extension = chain.next();
                         extension.decorateOperation(operation, method, chain);
@@ -676,7 +954,10 @@ public class Reader implements OpenApiReader {
                     if (StringUtils.isBlank(httpMethod)) {
                         continue;
                     }
-                    setPathItemOperation(pathItemObject, httpMethod, operation);
+                    addPathItemOperation(pathItemObject, httpMethod, operation);
+                    if (operationIdEvents != null) {
+                        operationIdEvents.add(new OperationIdEvent(operation, null, operationPath, httpMethod));
+                    }
                     applyPathParamsPatterns(operation, regexMap);
                     paths.addPathItem(operationPath, pathItemObject);
                     if (openAPI.getPaths() != null) {
@@ -716,23 +997,27 @@ public class Reader implements OpenApiReader {
                 .getTags(apiTags, true).ifPresent(tags -> openApiTags.addAll(tags));
 
         if (!openApiTags.isEmpty()) {
-            Set<Tag> tagsSet = new LinkedHashSet<>();
-            if (openAPI.getTags() != null) {
-                for (Tag tag : openAPI.getTags()) {
-                    if (tagsSet.stream().noneMatch(t -> t.getName().equals(tag.getName()))) {
-                        tagsSet.add(tag);
-                    }
-                }
-            }
-            for (Tag tag : openApiTags) {
+            mergeTags();
+        }
+
+        return openAPI;
+    }
+
+    private void mergeTags() {
+        Set<Tag> tagsSet = new LinkedHashSet<>();
+        if (openAPI.getTags() != null) {
+            for (Tag tag : openAPI.getTags()) {
                 if (tagsSet.stream().noneMatch(t -> t.getName().equals(tag.getName()))) {
                     tagsSet.add(tag);
                 }
             }
-            openAPI.setTags(new ArrayList<>(tagsSet));
         }
-
-        return openAPI;
+        for (Tag tag : openApiTags) {
+            if (tagsSet.stream().noneMatch(t -> t.getName().equals(tag.getName()))) {
+                tagsSet.add(tag);
+            }
+        }
+        openAPI.setTags(new ArrayList<>(tagsSet));
     }
 
     protected void applyPathParamsPatterns(Operation operation, Map<String, String> patternsMap) {
@@ -1090,7 +1375,7 @@ public class Reader implements OpenApiReader {
 
         // operation id
         if (StringUtils.isBlank(operation.getOperationId())) {
-            operation.setOperationId(getOperationId(method.getName()));
+            assignOperationId(operation, method.getName());
         }
 
         // classResponses
@@ -1259,19 +1544,12 @@ public class Reader implements OpenApiReader {
     private MediaType clone(MediaType mediaType) {
         if(mediaType == null)
             return mediaType;
-        try {
-            if(config.isOpenAPI31()) {
-                mediaType = Json31.mapper().readValue(Json31.pretty(mediaType), MediaType.class);
-            } else {
-                mediaType = Json.mapper().readValue(Json.pretty(mediaType), MediaType.class);
-            }
-        } catch (IOException e) {
-            LOGGER.error("Could not clone mediaType", e);
-        }
-        return mediaType;
+        return mediaType.copy();
     }
     private Schema<?> clone(Schema<?> schema) {
-        return AnnotationsUtils.clone(schema, config.isOpenAPI31());
+        if(schema == null)
+            return schema;
+        return schema.copy();
     }
 
     protected void resolveResponseSchemaFromReturnType(
@@ -1403,6 +1681,41 @@ public class Reader implements OpenApiReader {
         }
     }
 
+    private void addPathItemOperation(PathItem pathItemObject, String method, Operation operation) {
+        Map<PathItem.HttpMethod, Operation> previous = pathItemObject.readOperationsMap();
+        setPathItemOperation(pathItemObject, method, operation);
+        for (Map.Entry<PathItem.HttpMethod, Operation> entry : pathItemObject.readOperationsMap().entrySet()) {
+            if (entry.getKey() != PathItem.HttpMethod.TRACE && previous.get(entry.getKey()) != entry.getValue()) {
+                indexOperationId(entry.getValue(), 1);
+                indexOperationId(previous.get(entry.getKey()), -1);
+            }
+        }
+    }
+
+    private void indexOperationIds(PathItem pathItem) {
+        indexOperationId(pathItem.getGet(), 1);
+        indexOperationId(pathItem.getPost(), 1);
+        indexOperationId(pathItem.getPut(), 1);
+        indexOperationId(pathItem.getDelete(), 1);
+        indexOperationId(pathItem.getOptions(), 1);
+        indexOperationId(pathItem.getHead(), 1);
+        indexOperationId(pathItem.getPatch(), 1);
+    }
+
+    private void indexOperationId(Operation operation, int delta) {
+        if (operationIdIndex == null || operation == null || StringUtils.isBlank(operation.getOperationId())) {
+            return;
+        }
+        int count = operationIdIndex.getOrDefault(operation.getOperationId(), 0) + delta;
+        if (count > 0) {
+            operationIdIndex.put(operation.getOperationId(), count);
+        } else {
+            operationIdIndex.remove(operation.getOperationId());
+            // freed ids are reused, so suffixes below the recorded ones may be available again
+            operationIdSuffixes.clear();
+        }
+    }
+
     protected void setOperationObjectFromApiOperationAnnotation(
             Operation operation,
             io.swagger.v3.oas.annotations.Operation apiOperation,
@@ -1418,7 +1731,7 @@ public class Reader implements OpenApiReader {
             operation.setDescription(apiOperation.description());
         }
         if (StringUtils.isNotBlank(apiOperation.operationId())) {
-            operation.setOperationId(getOperationId(apiOperation.operationId()));
+            assignOperationId(operation, apiOperation.operationId());
         }
         if (apiOperation.deprecated()) {
             operation.setDeprecated(apiOperation.deprecated());
@@ -1478,15 +1791,23 @@ public class Reader implements OpenApiReader {
         }
     }
 
+    private void assignOperationId(Operation operation, String operationId) {
+        operation.setOperationId(getOperationId(operationId));
+        if (operationIdEvents != null) {
+            operationIdEvents.add(new OperationIdEvent(operation, operationId, null, null));
+        }
+    }
+
     protected String getOperationId(String operationId) {
         boolean operationIdUsed = existOperationId(operationId);
         String operationIdToFind = null;
-        int counter = 0;
+        int counter = operationIdUsed ? operationIdSuffixes.getOrDefault(operationId, 0) : 0;
         while (operationIdUsed) {
             operationIdToFind = String.format("%s_%d", operationId, ++counter);
             operationIdUsed = existOperationId(operationIdToFind);
         }
         if (operationIdToFind != null) {
+            operationIdSuffixes.put(operationId, counter - 1);
             operationId = operationIdToFind;
         }
         return operationId;
@@ -1496,16 +1817,19 @@ public class Reader implements OpenApiReader {
         if (openAPI == null) {
             return false;
         }
-        if (openAPI.getPaths() == null || openAPI.getPaths().isEmpty()) {
-            return false;
-        }
-        for (PathItem path : openAPI.getPaths().values()) {
-            Set<String> pathOperationIds = extractOperationIdFromPathItem(path);
-            if (pathOperationIds.contains(operationId)) {
-                return true;
+        return getOperationIdIndex().containsKey(operationId);
+    }
+
+    private Map<String, Integer> getOperationIdIndex() {
+        if (operationIdIndex == null || indexedPaths != openAPI.getPaths()) {
+            operationIdIndex = new HashMap<>();
+            operationIdSuffixes = new HashMap<>();
+            indexedPaths = openAPI.getPaths();
+            if (indexedPaths != null) {
+                indexedPaths.values().forEach(this::indexOperationIds);
             }
         }
-        return false;
+        return operationIdIndex;
     }
 
     protected Optional<List<Parameter>> getParametersListFromAnnotation(io.swagger.v3.oas.annotations.Parameter[] parameters, Consumes classConsumes, Consumes methodConsumes, Operation operation, JsonView jsonViewAnnotation) {
@@ -1526,7 +1850,7 @@ public class Reader implements OpenApiReader {
 
     protected ResolvedParameter getParameters(Type type, List<Annotation> annotations, Operation operation, javax.ws.rs.Consumes classConsumes,
                                               javax.ws.rs.Consumes methodConsumes, JsonView jsonViewAnnotation) {
-        final Iterator<OpenAPIExtension> chain = OpenAPIExtensions.chain();
+        final Iterator<OpenAPIExtension> chain = extensionChain();
         if (!chain.hasNext()) {
             return new ResolvedParameter();
         }
@@ -1535,37 +1859,7 @@ public class Reader implements OpenApiReader {
         final OpenAPIExtension extension = chain.next();
         LOGGER.debug("trying extension {}", extension);
 
-        Schema.SchemaResolution curSchemaResolution = config.getSchemaResolution();
-        extension.setConfiguration(config.toConfiguration());
-        ResolvedParameter resolvedParameter = extension.extractParameters(annotations, type, typesToSkip, components, classConsumes, methodConsumes, true, jsonViewAnnotation, chain);
-        ((SwaggerConfiguration)config).setSchemaResolution(curSchemaResolution);
-        return resolvedParameter;
-    }
-
-    private Set<String> extractOperationIdFromPathItem(PathItem path) {
-        Set<String> ids = new HashSet<>();
-        if (path.getGet() != null && StringUtils.isNotBlank(path.getGet().getOperationId())) {
-            ids.add(path.getGet().getOperationId());
-        }
-        if (path.getPost() != null && StringUtils.isNotBlank(path.getPost().getOperationId())) {
-            ids.add(path.getPost().getOperationId());
-        }
-        if (path.getPut() != null && StringUtils.isNotBlank(path.getPut().getOperationId())) {
-            ids.add(path.getPut().getOperationId());
-        }
-        if (path.getDelete() != null && StringUtils.isNotBlank(path.getDelete().getOperationId())) {
-            ids.add(path.getDelete().getOperationId());
-        }
-        if (path.getOptions() != null && StringUtils.isNotBlank(path.getOptions().getOperationId())) {
-            ids.add(path.getOptions().getOperationId());
-        }
-        if (path.getHead() != null && StringUtils.isNotBlank(path.getHead().getOperationId())) {
-            ids.add(path.getHead().getOperationId());
-        }
-        if (path.getPatch() != null && StringUtils.isNotBlank(path.getPatch().getOperationId())) {
-            ids.add(path.getPatch().getOperationId());
-        }
-        return ids;
+        return extension.extractParameters(annotations, type, typesToSkip, components, classConsumes, methodConsumes, true, jsonViewAnnotation, chain, getParameterConfiguration());
     }
 
     private boolean isEmptyComponents(Components components) {
@@ -1739,4 +2033,20 @@ public class Reader implements OpenApiReader {
             return val;
         }
     }
+
+    private static final class OperationIdEvent {
+        final Operation operation;
+        // base operation id of an assignment
+        final String operationId;
+        // path and method of an addition
+        final String path;
+        final String method;
+
+        OperationIdEvent(Operation operation, String operationId, String path, String method) {
+            this.operation = operation;
+            this.operationId = operationId;
+            this.path = path;
+            this.method = method;
+        }
+    }
 }
@@ -36,7 +36,7 @@ public abstract class AbstractOpenAPIExtension implements OpenAPIExtension {
                                                Components components, javax.ws.rs.Consumes classConsumes,
                                                javax.ws.rs.Consumes methodConsumes, boolean includeRequestBody, JsonView jsonViewAnnotation, Iterator<OpenAPIExtension> chain) {
         if (chain.hasNext()) {
-            return chain.next().extractParameters(annotations, type, typesToSkip, components, classConsumes, methodConsumes, includeRequestBody, jsonViewAnnotation, chain);
+            return chain.next().extractParameters(annotations, type, typesToSkip, components, classConsumes, methodConsumes, includeRequestBody, jsonViewAnnotation, chain, configuration);
         } else {
             return new ResolvedParameter();
         }
@@ -71,11 +71,13 @@ public abstract class AbstractOpenAPIExtension implements OpenAPIExtension {
     @Override
     public void setOpenAPI31(boolean openapi31) {
         this.openapi31 = openapi31;
+        this.configuration = copy(configuration).openAPI31(openapi31);
     }
 
     @Override
     public void setSchemaResolution(Schema.SchemaResolution schemaResolution) {
         this.schemaResolution = schemaResolution;
+        this.configuration = copy(configuration).schemaResolution(schemaResolution);
     }
     @Override
     public void setConfiguration(Configuration configuration) {
@@ -86,4 +88,22 @@ public abstract class AbstractOpenAPIExtension implements OpenAPIExtension {
         }
     }
 
+    /**
+     * Copies a configuration, so that setters don't change the one given to {@link #setConfiguration(Configuration)}.
+     */
+    private static Configuration copy(Configuration configuration) {
+        Configuration copy = new Configuration();
+        if (configuration != null) {
+            copy.setUserDefinedOptions(configuration.getUserDefinedOptions());
+            copy.setOpenAPI(configuration.getOpenAPI());
+            copy.setModelConverterClasses(configuration.getModelConverterClasses());
+            copy.setObjectMapperProcessorClass(configuration.getObjectMapperProcessorClass());
+            copy.setOpenAPI31(configuration.isOpenAPI31());
+            copy.setSchemaResolution(configuration.getSchemaResolution());
+            copy.setOpenAPIVersion(configuration.getOpenAPIVersion());
+            copy.setGroupsValidationStrategy(configuration.getGroupsValidationStrategy());
+            copy.setValidatorProcessorClass(configuration.getValidatorProcessorClass());
+        }
+        return copy;
+    }
 }
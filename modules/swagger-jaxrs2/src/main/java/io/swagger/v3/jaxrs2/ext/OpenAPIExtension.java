@@ -21,6 +21,22 @@ public interface OpenAPIExtension {
     ResolvedParameter extractParameters(List<Annotation> annotations, Type type, Set<Type> typesToSkip, Components components,
                                         javax.ws.rs.Consumes classConsumes, javax.ws.rs.Consumes methodConsumes, boolean includeRequestBody, JsonView jsonViewAnnotation, Iterator<OpenAPIExtension> chain);
 
+    /**
+     * Extracts parameters using the given configuration rather than the one set on this extension, so that readers
+     * using different configurations can share extension instances.
+     *
+     * The default implementation sets the configuration on this extension before extracting the parameters;
+     * extensions overriding this method must pass the configuration along the chain instead.
+     *
+     * @since 2.2.55
+     */
+    default ResolvedParameter extractParameters(List<Annotation> annotations, Type type, Set<Type> typesToSkip, Components components,
+                                                javax.ws.rs.Consumes classConsumes, javax.ws.rs.Consumes methodConsumes, boolean includeRequestBody, JsonView jsonViewAnnotation, Iterator<OpenAPIExtension> chain,
+                                                Configuration configuration) {
+        setConfiguration(configuration);
+        return extractParameters(annotations, type, typesToSkip, components, classConsumes, methodConsumes, includeRequestBody, jsonViewAnnotation, chain);
+    }
+
     /**
      * Decorates operation with additional vendor based extensions.
      *
@@ -5,6 +5,7 @@ import io.github.classgraph.ScanResult;
 import io.swagger.v3.jaxrs2.integration.api.JaxrsOpenApiScanner;
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.Webhooks;
+import io.swagger.v3.oas.integration.ClasspathScanning;
 import io.swagger.v3.oas.integration.IgnoredPackages;
 import io.swagger.v3.oas.integration.SwaggerConfiguration;
 import io.swagger.v3.oas.integration.api.OpenAPIConfiguration;
@@ -14,10 +15,16 @@ import org.slf4j.LoggerFactory;
 
 import javax.ws.rs.ApplicationPath;
 import javax.ws.rs.core.Application;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 public class JaxrsAnnotationScanner<T extends JaxrsAnnotationScanner<T>> implements JaxrsOpenApiScanner {
 
@@ -59,7 +66,6 @@ public class JaxrsAnnotationScanner<T extends JaxrsAnnotationScanner<T>> impleme
             openApiConfiguration = new SwaggerConfiguration();
         }
 
-        ClassGraph graph = new ClassGraph().enableAllInfo();
         Set<String> acceptablePackages = new HashSet<>();
         Set<Class<?>> output = new HashSet<>();
 
@@ -82,7 +88,6 @@ public class JaxrsAnnotationScanner<T extends JaxrsAnnotationScanner<T>> impleme
             for (String pkg : openApiConfiguration.getResourcePackages()) {
                 if (!isIgnored(pkg)) {
                     acceptablePackages.add(pkg);
-                    graph.whitelistPackages(pkg);
                 }
             }
         } else {
@@ -90,15 +95,7 @@ public class JaxrsAnnotationScanner<T extends JaxrsAnnotationScanner<T>> impleme
                 allowAllPackages = true;
             }
         }
-        final Set<Class<?>> classes;
-        try (ScanResult scanResult = graph.scan()) {
-            classes = new HashSet<>(scanResult.getClassesWithAnnotation(javax.ws.rs.Path.class.getName()).loadClasses());
-            classes.addAll(new HashSet<>(scanResult.getClassesWithAnnotation(OpenAPIDefinition.class.getName()).loadClasses()));
-            classes.addAll(new HashSet<>(scanResult.getClassesWithAnnotation(Webhooks.class.getName()).loadClasses()));
-            if (Boolean.TRUE.equals(openApiConfiguration.isAlwaysResolveAppPath())) {
-                classes.addAll(new HashSet<>(scanResult.getClassesWithAnnotation(ApplicationPath.class.getName()).loadClasses()));
-            }
-        }
+        final Set<Class<?>> classes = findAnnotatedClasses(acceptablePackages);
 
         for (Class<?> cls : classes) {
             if (allowAllPackages) {
@@ -115,6 +112,109 @@ public class JaxrsAnnotationScanner<T extends JaxrsAnnotationScanner<T>> impleme
         return output;
     }
 
+    /**
+     * Returns the classes annotated with <code>@Path</code>, <code>@OpenAPIDefinition</code> or <code>@Webhooks</code>,
+     * and with <code>@ApplicationPath</code> if <code>alwaysResolveAppPath</code> is set, within the given packages or
+     * within all packages if none is given. Classes may also be returned from outside the given packages, as they
+     * are filtered by {@link #classes()}.
+     *
+     * If <code>scanCacheFile</code> is set, the found classes are persisted to it and reused instead of scanning
+     * as long as the classpath entries and the scanned packages are unchanged.
+     *
+     * @since 2.2.55
+     */
+    protected Set<Class<?>> findAnnotatedClasses(Set<String> packages) {
+        return findAnnotatedClasses(packages, Collections.emptySet());
+    }
+
+    /**
+     * Same as {@link #findAnnotatedClasses(Set)}, without scanning the given classpath elements, identified as by
+     * {@link ResourceIndex#element(java.net.URL)}.
+     *
+     * @since 2.2.55
+     */
+    protected Set<Class<?>> findAnnotatedClasses(Set<String> packages, Set<String> excludedElements) {
+        if (StringUtils.isBlank(openApiConfiguration.getScanCacheFile())) {
+            return scanAnnotatedClasses(packages, excludedElements);
+        }
+        ScanResultCache cache = new ScanResultCache(Paths.get(openApiConfiguration.getScanCacheFile()));
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = getClass().getClassLoader();
+        }
+        String fingerprint = null;
+        try {
+            List<String> settings = new ArrayList<>();
+            for (String pkg : packages) {
+                settings.add("package:" + pkg);
+            }
+            settings.add("alwaysResolveAppPath:" + Boolean.TRUE.equals(openApiConfiguration.isAlwaysResolveAppPath()));
+            if (openApiConfiguration.getScanExcludedJars() != null) {
+                for (String jar : openApiConfiguration.getScanExcludedJars()) {
+                    settings.add("excludedJar:" + jar);
+                }
+            }
+            if (openApiConfiguration.getScanExcludedModules() != null) {
+                for (String module : openApiConfiguration.getScanExcludedModules()) {
+                    settings.add("excludedModule:" + module);
+                }
+            }
+            fingerprint = ScanResultCache.fingerprint(classGraph(excludedElements).getClasspathFiles(), settings);
+            List<String> classNames = cache.read(fingerprint);
+            if (classNames != null) {
+                Set<Class<?>> classes = new HashSet<>();
+                for (String className : classNames) {
+                    classes.add(Class.forName(className, false, classLoader));
+                }
+                LOGGER.debug("read {} classes from scan cache {}", classes.size(), openApiConfiguration.getScanCacheFile());
+                return classes;
+            }
+        } catch (IOException | ClassNotFoundException | LinkageError e) {
+            LOGGER.warn("error reading scan cache, scanning classpath: " + e.getMessage(), e);
+        }
+
+        Set<Class<?>> classes = scanAnnotatedClasses(packages, excludedElements);
+        if (fingerprint != null) {
+            try {
+                cache.write(fingerprint, classes.stream().map(Class::getName).collect(Collectors.toList()));
+            } catch (IOException e) {
+                LOGGER.warn("error writing scan cache: " + e.getMessage(), e);
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * Returns a new <code>ClassGraph</code> for scanning the classpath but the given elements, identified as by
+     * {@link ResourceIndex#element(java.net.URL)}, configured by the scan options of the configuration.
+     *
+     * @since 2.2.55
+     */
+    protected ClassGraph classGraph(Set<String> excludedElements) {
+        ClassGraph graph = ClasspathScanning.classGraph(openApiConfiguration);
+        if (!excludedElements.isEmpty()) {
+            graph.filterClasspathElementsByURL(url -> !excludedElements.contains(ResourceIndex.element(url)));
+        }
+        return graph;
+    }
+
+    private Set<Class<?>> scanAnnotatedClasses(Set<String> packages, Set<String> excludedElements) {
+        ClassGraph graph = classGraph(excludedElements);
+        for (String pkg : packages) {
+            graph.whitelistPackages(pkg);
+        }
+        final Set<Class<?>> classes;
+        try (ScanResult scanResult = ClasspathScanning.scan(graph, openApiConfiguration)) {
+            classes = new HashSet<>(scanResult.getClassesWithAnnotation(javax.ws.rs.Path.class.getName()).loadClasses());
+            classes.addAll(new HashSet<>(scanResult.getClassesWithAnnotation(OpenAPIDefinition.class.getName()).loadClasses()));
+            classes.addAll(new HashSet<>(scanResult.getClassesWithAnnotation(Webhooks.class.getName()).loadClasses()));
+            if (Boolean.TRUE.equals(openApiConfiguration.isAlwaysResolveAppPath())) {
+                classes.addAll(new HashSet<>(scanResult.getClassesWithAnnotation(ApplicationPath.class.getName()).loadClasses()));
+            }
+        }
+        return classes;
+    }
+
     protected boolean isIgnored(String classOrPackageName) {
         if (StringUtils.isBlank(classOrPackageName)) {
             return true;
@@ -0,0 +1,59 @@
+package io.swagger.v3.jaxrs2.integration;
+
+import javax.ws.rs.ApplicationPath;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Scanner resolving the annotated classes of the classpath elements holding a {@link ResourceIndex} written at build
+ * time from their index, and scanning the other classpath elements; the whole classpath is scanned if no index is
+ * available.
+ *
+ * @since 2.2.55
+ */
+public class JaxrsResourceIndexScanner extends JaxrsAnnotationScanner<JaxrsResourceIndexScanner> {
+
+    @Override
+    protected Set<Class<?>> findAnnotatedClasses(Set<String> packages) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = getClass().getClassLoader();
+        }
+        Map<String, Map<String, Set<String>>> indexes;
+        try {
+            indexes = ResourceIndex.readElements(classLoader);
+        } catch (IOException e) {
+            LOGGER.warn("error reading resource index, scanning classpath: " + e.getMessage(), e);
+            indexes = null;
+        }
+        if (indexes == null) {
+            LOGGER.debug("no resource index found at {}, scanning classpath", ResourceIndex.LOCATION);
+            return super.findAnnotatedClasses(packages);
+        }
+        LOGGER.info("resolving annotated classes of {} from resource index, scanning other classpath elements", indexes.keySet());
+
+        // classpath elements without an index are scanned, skipping the indexed ones
+        Set<Class<?>> classes = new HashSet<>(findAnnotatedClasses(packages, indexes.keySet()));
+        for (Map<String, Set<String>> index : indexes.values()) {
+            for (String annotation : ResourceIndex.ANNOTATIONS) {
+                if (ApplicationPath.class.getName().equals(annotation) && !Boolean.TRUE.equals(openApiConfiguration.isAlwaysResolveAppPath())) {
+                    continue;
+                }
+                for (String className : index.getOrDefault(annotation, Collections.emptySet())) {
+                    if (!packages.isEmpty() && packages.stream().noneMatch(className::startsWith)) {
+                        continue;
+                    }
+                    try {
+                        classes.add(Class.forName(className, false, classLoader));
+                    } catch (ClassNotFoundException | LinkageError e) {
+                        LOGGER.warn("error loading class from resource index: " + e.getMessage(), e);
+                    }
+                }
+            }
+        }
+        return classes;
+    }
+}
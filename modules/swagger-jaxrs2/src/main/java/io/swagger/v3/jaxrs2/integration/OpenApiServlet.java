@@ -1,12 +1,10 @@
 package io.swagger.v3.jaxrs2.integration;
 
-import io.swagger.v3.core.filter.OpenAPISpecFilter;
-import io.swagger.v3.core.filter.SpecFilter;
 import io.swagger.v3.jaxrs2.util.ServletUtils;
 import io.swagger.v3.oas.integration.OpenApiConfigurationException;
 import io.swagger.v3.oas.integration.OpenApiContextLocator;
+import io.swagger.v3.oas.integration.SerializedOpenApi;
 import io.swagger.v3.oas.integration.api.OpenApiContext;
-import io.swagger.v3.oas.models.OpenAPI;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,7 +15,7 @@ import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.io.OutputStream;
 
 import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.getContextIdFromServletConfig;
 
@@ -28,6 +26,11 @@ public class OpenApiServlet extends HttpServlet {
     public static final String APPLICATION_JSON = "application/json";
     public static final String APPLICATION_YAML = "application/yaml";
     public static final String ACCEPT_HEADER = "Accept";
+    public static final String ETAG_HEADER = "ETag";
+    public static final String IF_NONE_MATCH_HEADER = "If-None-Match";
+    public static final String ACCEPT_ENCODING_HEADER = "Accept-Encoding";
+    public static final String CONTENT_ENCODING_HEADER = "Content-Encoding";
+    public static final String VARY_HEADER = "Vary";
 
     @Override
     public void init(ServletConfig config) throws ServletException {
@@ -51,20 +54,6 @@ public class OpenApiServlet extends HttpServlet {
 
         String ctxId = getContextIdFromServletConfig(getServletConfig());
         OpenApiContext ctx = OpenApiContextLocator.getInstance().getOpenApiContext(ctxId);
-        OpenAPI oas = ctx.read();
-
-        if (oas != null && ctx.getOpenApiConfiguration() != null) {
-            if (ctx.getOpenApiConfiguration().getFilterClass() != null) {
-                try {
-                    OpenAPISpecFilter filterImpl = (OpenAPISpecFilter) Class.forName(ctx.getOpenApiConfiguration().getFilterClass()).newInstance();
-                    SpecFilter f = new SpecFilter();
-                    oas = f.filter(oas, filterImpl, ServletUtils.getQueryParams(req.getParameterMap()),
-                            ServletUtils.getCookies(req.getCookies()), ServletUtils.getHeaders(req));
-                } catch (Exception e) {
-                    LOGGER.error("failed to load filter", e);
-                }
-            }
-        }
 
         String type = "json";
 
@@ -80,19 +69,42 @@ public class OpenApiServlet extends HttpServlet {
 
         boolean pretty = ctx.getOpenApiConfiguration() != null && Boolean.TRUE.equals(ctx.getOpenApiConfiguration().isPrettyPrint());
 
-        resp.setStatus(200);
+        SerializedOpenApi serialized = ctx.readSerialized(type, pretty, ServletUtils.getQueryParams(req.getParameterMap()),
+                ServletUtils.getCookies(req.getCookies()), ServletUtils.getHeaders(req));
 
-        if (type.equalsIgnoreCase("yaml")) {
-            resp.setContentType(APPLICATION_YAML);
-            try (PrintWriter pw = resp.getWriter()) {
-                pw.write(pretty ? ctx.getOutputYamlMapper().writerWithDefaultPrettyPrinter().writeValueAsString(oas) : ctx.getOutputYamlMapper().writeValueAsString(oas));
-            }
-        } else {
-            resp.setContentType(APPLICATION_JSON);
-            try (PrintWriter pw = resp.getWriter()) {
-                pw.write(pretty ? ctx.getOutputJsonMapper().writerWithDefaultPrettyPrinter().writeValueAsString(oas) : ctx.getOutputJsonMapper().writeValueAsString(oas));
+        if (serialized == null) {
+            resp.setStatus(404);
+            return;
+        }
+
+        String encoding = serialized.negotiateEncoding(req.getHeader(ACCEPT_ENCODING_HEADER));
+        if (serialized.isPrecompressed()) {
+            resp.setHeader(VARY_HEADER, ACCEPT_ENCODING_HEADER);
+        }
+        if (serialized.getETag() != null) {
+            resp.setHeader(ETAG_HEADER, serialized.getETag(encoding));
+            if (serialized.matches(req.getHeader(IF_NONE_MATCH_HEADER), encoding)) {
+                resp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
             }
         }
 
+        resp.setStatus(200);
+        resp.setContentType(type.equalsIgnoreCase("yaml") ? APPLICATION_YAML : APPLICATION_JSON);
+        resp.setCharacterEncoding("UTF-8");
+        if (serialized.isStreaming()) {
+            try (OutputStream out = resp.getOutputStream()) {
+                serialized.writeTo(out);
+            }
+            return;
+        }
+        if (encoding != null) {
+            resp.setHeader(CONTENT_ENCODING_HEADER, encoding);
+        }
+        byte[] bytes = serialized.getBytes(encoding);
+        resp.setContentLength(bytes.length);
+        try (OutputStream out = resp.getOutputStream()) {
+            out.write(bytes);
+        }
     }
 }
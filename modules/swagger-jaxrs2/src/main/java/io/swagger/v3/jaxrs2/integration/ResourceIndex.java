@@ -0,0 +1,177 @@
+package io.swagger.v3.jaxrs2.integration;
+
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ClassInfo;
+import io.github.classgraph.ScanResult;
+import io.swagger.v3.oas.annotations.OpenAPIDefinition;
+import io.swagger.v3.oas.annotations.Webhooks;
+
+import javax.ws.rs.ApplicationPath;
+import javax.ws.rs.Path;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Index of the classes annotated with <code>@Path</code>, <code>@OpenAPIDefinition</code>, <code>@Webhooks</code>
+ * and <code>@ApplicationPath</code>, written at build time to {@value #LOCATION} and read at runtime by
+ * {@link JaxrsResourceIndexScanner} in place of a classpath scan.
+ *
+ * Each line of the index holds the name of an annotation and the name of a class annotated with it, separated by a
+ * space; lines starting with <code>#</code> are ignored.
+ *
+ * @since 2.2.55
+ */
+public final class ResourceIndex {
+
+    public static final String LOCATION = "META-INF/swagger/resource-index";
+
+    static final List<String> ANNOTATIONS = Collections.unmodifiableList(Arrays.asList(
+            Path.class.getName(),
+            OpenAPIDefinition.class.getName(),
+            Webhooks.class.getName(),
+            ApplicationPath.class.getName()));
+
+    private ResourceIndex() {
+    }
+
+    /**
+     * Writes the index of the annotated classes compiled into the given directory, to {@value #LOCATION} within the
+     * same directory.
+     *
+     * @param classesDirectory the directory holding the compiled classes, which must be on the classpath
+     * @return the written index file
+     */
+    public static File write(File classesDirectory) throws IOException {
+        return write(classesDirectory, classesDirectory);
+    }
+
+    /**
+     * Writes the index of the annotated classes compiled into the given directory, to {@value #LOCATION} within the
+     * output directory.
+     *
+     * @param classesDirectory the directory holding the compiled classes, which must be on the classpath
+     * @param outputDirectory  the root directory of the index file
+     * @return the written index file
+     */
+    public static File write(File classesDirectory, File outputDirectory) throws IOException {
+        File classes = classesDirectory.getCanonicalFile();
+        Map<String, Set<String>> index = new TreeMap<>();
+        // the whole classpath is scanned so that annotations inherited from classes in dependencies are resolved
+        try (ScanResult scanResult = new ClassGraph().enableAnnotationInfo().scan()) {
+            for (String annotation : ANNOTATIONS) {
+                for (ClassInfo classInfo : scanResult.getClassesWithAnnotation(annotation)) {
+                    File element = classInfo.getClasspathElementFile();
+                    if (element != null && classes.equals(element.getCanonicalFile())) {
+                        index.computeIfAbsent(annotation, k -> new TreeSet<>()).add(classInfo.getName());
+                    }
+                }
+            }
+        }
+
+        File file = new File(outputDirectory, LOCATION);
+        Files.createDirectories(file.getParentFile().toPath());
+        try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            writer.write("# annotation class\n");
+            for (Map.Entry<String, Set<String>> entry : index.entrySet()) {
+                for (String className : entry.getValue()) {
+                    writer.write(entry.getKey() + " " + className + "\n");
+                }
+            }
+        }
+        return file;
+    }
+
+    /**
+     * Reads and merges all the indexes visible to the given class loader.
+     *
+     * @return the names of the indexed classes by annotation name, or <code>null</code> if no index is available
+     */
+    public static Map<String, Set<String>> read(ClassLoader classLoader) throws IOException {
+        Map<String, Map<String, Set<String>>> indexes = readElements(classLoader);
+        if (indexes == null) {
+            return null;
+        }
+        Map<String, Set<String>> index = new LinkedHashMap<>();
+        for (Map<String, Set<String>> elementIndex : indexes.values()) {
+            for (Map.Entry<String, Set<String>> entry : elementIndex.entrySet()) {
+                index.computeIfAbsent(entry.getKey(), k -> new TreeSet<>()).addAll(entry.getValue());
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Reads all the indexes visible to the given class loader, each covering the classpath element it is found in.
+     *
+     * @return the names of the indexed classes by annotation name, by classpath element as returned by
+     * {@link #element(URL)}, or <code>null</code> if no index is available
+     */
+    public static Map<String, Map<String, Set<String>>> readElements(ClassLoader classLoader) throws IOException {
+        Enumeration<URL> resources = classLoader.getResources(LOCATION);
+        if (!resources.hasMoreElements()) {
+            return null;
+        }
+        Map<String, Map<String, Set<String>>> indexes = new LinkedHashMap<>();
+        while (resources.hasMoreElements()) {
+            URL resource = resources.nextElement();
+            String url = resource.toString();
+            Map<String, Set<String>> index = indexes.computeIfAbsent(
+                    element(new URL(url.substring(0, url.length() - LOCATION.length()))), k -> new LinkedHashMap<>());
+            try (InputStream in = resource.openStream();
+                 BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    line = line.trim();
+                    if (line.isEmpty() || line.startsWith("#")) {
+                        continue;
+                    }
+                    String[] entry = line.split("\\s+");
+                    if (entry.length == 2) {
+                        index.computeIfAbsent(entry[0], k -> new TreeSet<>()).add(entry[1]);
+                    }
+                }
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * Returns a key identifying the classpath element at the given URL, the same for the URL of a directory or jar
+     * and for the URL of its root as a resource, e.g. <code>file:/app.jar</code> and <code>jar:file:/app.jar!/</code>.
+     */
+    public static String element(URL url) {
+        String element = url.toString();
+        if (element.startsWith("jar:")) {
+            element = element.substring("jar:".length());
+        }
+        while (element.endsWith("/") || element.endsWith("!")) {
+            element = element.substring(0, element.length() - 1);
+        }
+        if (element.startsWith("file:") && !element.contains("!")) {
+            try {
+                return new File(new URI(element)).getAbsoluteFile().toPath().normalize().toString();
+            } catch (URISyntaxException | IllegalArgumentException e) {
+                return element;
+            }
+        }
+        return element;
+    }
+}
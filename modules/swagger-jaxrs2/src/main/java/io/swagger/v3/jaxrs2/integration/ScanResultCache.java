@@ -0,0 +1,115 @@
+package io.swagger.v3.jaxrs2.integration;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Local file holding the names of the classes found by a classpath scan, along with a fingerprint of the classpath
+ * entries and scan settings they have been found with.
+ *
+ * The first line of the file holds the fingerprint, each following line a class name.
+ */
+class ScanResultCache {
+
+    private final Path file;
+
+    ScanResultCache(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Computes a fingerprint of the path, size and modification time of the given classpath entries, and of the files
+     * within directory entries, together with the given scan settings.
+     */
+    static String fingerprint(List<File> classpath, Collection<String> settings) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        for (String setting : new TreeSet<>(settings)) {
+            update(digest, "setting", setting);
+        }
+        for (File entry : classpath) {
+            update(digest, "entry", entry.getAbsolutePath());
+            if (entry.isDirectory()) {
+                List<Path> files;
+                try (Stream<Path> paths = Files.walk(entry.toPath())) {
+                    files = paths.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+                }
+                for (Path path : files) {
+                    File f = path.toFile();
+                    update(digest, "file", f.getPath() + "|" + f.length() + "|" + f.lastModified());
+                }
+            } else {
+                update(digest, "jar", entry.length() + "|" + entry.lastModified());
+            }
+        }
+        StringBuilder hex = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    private static void update(MessageDigest digest, String kind, String value) {
+        digest.update(kind.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    /**
+     * @return the cached class names, or <code>null</code> if the file is missing or has a different fingerprint
+     */
+    List<String> read(String fingerprint) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        if (lines.isEmpty() || !fingerprint.equals(lines.get(0))) {
+            return null;
+        }
+        List<String> classNames = new ArrayList<>();
+        for (String line : lines.subList(1, lines.size())) {
+            if (!line.trim().isEmpty()) {
+                classNames.add(line.trim());
+            }
+        }
+        return classNames;
+    }
+
+    /**
+     * Replaces the cache file content, writing to a temporary file first so that concurrent readers never see a
+     * partially written file.
+     */
+    void write(String fingerprint, Collection<String> classNames) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        List<String> lines = new ArrayList<>();
+        lines.add(fingerprint);
+        lines.addAll(new TreeSet<>(classNames));
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temp, lines, StandardCharsets.UTF_8);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
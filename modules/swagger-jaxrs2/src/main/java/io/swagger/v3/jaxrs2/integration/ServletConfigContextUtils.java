@@ -83,6 +83,71 @@ public class ServletConfigContextUtils {
      */
     public static final String OPENAPI_CONFIGURATION_OPENAPI_VERSION_KEY = "openApi.configuration.openAPIVersion";
 
+    /**
+     * @since 2.2.55
+     */
+    public static final String OPENAPI_CONFIGURATION_CACHE_REFRESH_POLICY_KEY = "openApi.configuration.cacheRefreshPolicy";
+
+    /**
+     * @since 2.2.55
+     */
+    public static final String OPENAPI_CONFIGURATION_CACHE_REFRESH_AHEAD_KEY = "openApi.configuration.cacheRefreshAhead";
+
+    /**
+     * @since 2.2.55
+     */
+    public static final String OPENAPI_CONFIGURATION_STREAM_OUTPUT_KEY = "openApi.configuration.streamOutput";
+
+    /**
+     * @since 2.2.55
+     */
+    public static final String OPENAPI_CONFIGURATION_OUTPUT_BUFFER_SIZE_KEY = "openApi.configuration.outputBufferSize";
+
+    /**
+     * @since 2.2.55
+     */
+    public static final String OPENAPI_CONFIGURATION_PRECOMPRESS_OUTPUT_KEY = "openApi.configuration.precompressOutput";
+
+    /**
+     * @since 2.2.55
+     */
+    public static final String OPENAPI_CONFIGURATION_READER_PARALLELISM_KEY = "openApi.configuration.readerParallelism";
+
+    /**
+     * @since 2.2.55
+     */
+    public static final String OPENAPI_CONFIGURATION_PREBUILT_SPEC_LOCATION_KEY = "openApi.configuration.prebuiltSpecLocation";
+
+    /**
+     * @since 2.2.55
+     */
+    public static final String OPENAPI_CONFIGURATION_SCAN_CACHE_FILE_KEY = "openApi.configuration.scanCacheFile";
+
+    /**
+     * @since 2.2.55
+     */
+    public static final String OPENAPI_CONFIGURATION_SCAN_ANNOTATIONS_ONLY_KEY = "openApi.configuration.scanAnnotationsOnly";
+
+    /**
+     * @since 2.2.55
+     */
+    public static final String OPENAPI_CONFIGURATION_SCAN_THREADS_KEY = "openApi.configuration.scanThreads";
+
+    /**
+     * @since 2.2.55
+     */
+    public static final String OPENAPI_CONFIGURATION_FILTER_PARALLELISM_KEY = "openApi.configuration.filterParallelism";
+
+    /**
+     * @since 2.2.55
+     */
+    public static final String OPENAPI_CONFIGURATION_SCAN_EXCLUDED_JARS_KEY = "openApi.configuration.scanExcludedJars";
+
+    /**
+     * @since 2.2.55
+     */
+    public static final String OPENAPI_CONFIGURATION_SCAN_EXCLUDED_MODULES_KEY = "openApi.configuration.scanExcludedModules";
+
 
     public static Set<String> resolveResourcePackages(ServletConfig servletConfig) {
         if (!isServletConfigAvailable(servletConfig)) {
@@ -147,6 +212,31 @@ public class ServletConfigContextUtils {
 
     }
 
+    /**
+     * @since 2.2.55
+     */
+    public static Set<String> resolveScanExcludedJars(ServletConfig servletConfig) {
+        return getSetInitParam(servletConfig, OPENAPI_CONFIGURATION_SCAN_EXCLUDED_JARS_KEY);
+    }
+
+    /**
+     * @since 2.2.55
+     */
+    public static Set<String> resolveScanExcludedModules(ServletConfig servletConfig) {
+        return getSetInitParam(servletConfig, OPENAPI_CONFIGURATION_SCAN_EXCLUDED_MODULES_KEY);
+    }
+
+    private static Set<String> getSetInitParam(ServletConfig servletConfig, String paramKey) {
+        String param = getInitParam(servletConfig, paramKey);
+        if (param != null) {
+            param = param.replace(';', ',');
+        }
+        if (StringUtils.isBlank(param)) {
+            return null;
+        }
+        return Arrays.stream(param.split(",")).map(String::trim).filter(StringUtils::isNotBlank).collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
     public static String getInitParam(ServletConfig sc, String paramKey) {
         if (!isServletConfigAvailable(sc)) {
             return null;
@@ -174,6 +264,21 @@ public class ServletConfigContextUtils {
         }
     }
 
+    /**
+     * @since 2.2.55
+     */
+    public static Integer getIntegerInitParam(ServletConfig sc, String paramKey) {
+        String param = getInitParam(sc, paramKey);
+        if (StringUtils.isBlank(param)) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(param);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     public static String getContextIdFromServletConfig(ServletConfig config) {
 
         String ctxId = null;
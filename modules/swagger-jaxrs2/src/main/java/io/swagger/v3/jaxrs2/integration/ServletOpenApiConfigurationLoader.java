@@ -16,6 +16,8 @@ import javax.servlet.ServletConfig;
 import java.io.IOException;
 
 import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_BUILDER_KEY;
+import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_CACHE_REFRESH_AHEAD_KEY;
+import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_CACHE_REFRESH_POLICY_KEY;
 import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_CACHE_TTL_KEY;
 import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_FILTER_KEY;
 import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_OBJECT_MAPPER_PROCESSOR_KEY;
@@ -32,13 +34,25 @@ import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI
 import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_OPENAPI_VERSION_KEY;
 import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_SKIPRESOLVEAPPPATH_KEY;
 import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_SORTOUTPUT_KEY;
+import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_OUTPUT_BUFFER_SIZE_KEY;
+import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_PRECOMPRESS_OUTPUT_KEY;
+import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_READER_PARALLELISM_KEY;
+import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_PREBUILT_SPEC_LOCATION_KEY;
+import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_SCAN_ANNOTATIONS_ONLY_KEY;
+import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_FILTER_PARALLELISM_KEY;
+import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_SCAN_CACHE_FILE_KEY;
+import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_SCAN_THREADS_KEY;
+import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_STREAM_OUTPUT_KEY;
 import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_ALWAYSRESOLVEAPPPATH_KEY;
 import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.getBooleanInitParam;
 import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.getInitParam;
+import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.getIntegerInitParam;
 import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.getLongInitParam;
 import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.resolveModelConverterClasses;
 import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.resolveResourceClasses;
 import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.resolveResourcePackages;
+import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.resolveScanExcludedJars;
+import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.resolveScanExcludedModules;
 
 public class ServletOpenApiConfigurationLoader implements OpenApiConfigurationLoader {
 
@@ -62,14 +76,26 @@ public class ServletOpenApiConfigurationLoader implements OpenApiConfigurationLo
             SwaggerConfiguration configuration = new SwaggerConfiguration()
                     .resourcePackages(resolveResourcePackages(servletConfig))
                     .filterClass(getInitParam(servletConfig, OPENAPI_CONFIGURATION_FILTER_KEY))
+                    .filterParallelism(getIntegerInitParam(servletConfig, OPENAPI_CONFIGURATION_FILTER_PARALLELISM_KEY))
                     .resourceClasses(resolveResourceClasses(servletConfig))
                     .readAllResources(getBooleanInitParam(servletConfig, OPENAPI_CONFIGURATION_READALLRESOURCES_KEY))
                     .prettyPrint(getBooleanInitParam(servletConfig, OPENAPI_CONFIGURATION_PRETTYPRINT_KEY))
                     .sortOutput(getBooleanInitParam(servletConfig, OPENAPI_CONFIGURATION_SORTOUTPUT_KEY))
+                    .streamOutput(getBooleanInitParam(servletConfig, OPENAPI_CONFIGURATION_STREAM_OUTPUT_KEY))
+                    .outputBufferSize(getIntegerInitParam(servletConfig, OPENAPI_CONFIGURATION_OUTPUT_BUFFER_SIZE_KEY))
+                    .precompressOutput(getBooleanInitParam(servletConfig, OPENAPI_CONFIGURATION_PRECOMPRESS_OUTPUT_KEY))
+                    .readerParallelism(getIntegerInitParam(servletConfig, OPENAPI_CONFIGURATION_READER_PARALLELISM_KEY))
+                    .prebuiltSpecLocation(getInitParam(servletConfig, OPENAPI_CONFIGURATION_PREBUILT_SPEC_LOCATION_KEY))
+                    .scanCacheFile(getInitParam(servletConfig, OPENAPI_CONFIGURATION_SCAN_CACHE_FILE_KEY))
+                    .scanAnnotationsOnly(getBooleanInitParam(servletConfig, OPENAPI_CONFIGURATION_SCAN_ANNOTATIONS_ONLY_KEY))
+                    .scanThreads(getIntegerInitParam(servletConfig, OPENAPI_CONFIGURATION_SCAN_THREADS_KEY))
+                    .scanExcludedJars(resolveScanExcludedJars(servletConfig))
+                    .scanExcludedModules(resolveScanExcludedModules(servletConfig))
                     .alwaysResolveAppPath(getBooleanInitParam(servletConfig, OPENAPI_CONFIGURATION_ALWAYSRESOLVEAPPPATH_KEY))
                     .skipResolveAppPath(getBooleanInitParam(servletConfig, OPENAPI_CONFIGURATION_SKIPRESOLVEAPPPATH_KEY))
                     .readerClass(getInitParam(servletConfig, OPENAPI_CONFIGURATION_READER_KEY))
                     .cacheTTL(getLongInitParam(servletConfig, OPENAPI_CONFIGURATION_CACHE_TTL_KEY))
+                    .cacheRefreshAhead(getLongInitParam(servletConfig, OPENAPI_CONFIGURATION_CACHE_REFRESH_AHEAD_KEY))
                     .scannerClass(getInitParam(servletConfig, OPENAPI_CONFIGURATION_SCANNER_KEY))
                     .objectMapperProcessorClass(getInitParam(servletConfig, OPENAPI_CONFIGURATION_OBJECT_MAPPER_PROCESSOR_KEY))
                     .defaultResponseCode(getInitParam(servletConfig, OPENAPI_CONFIGURATION_DEFAULT_RESPONSE_CODE_KEY))
@@ -86,6 +112,9 @@ public class ServletOpenApiConfigurationLoader implements OpenApiConfigurationLo
             if (StringUtils.isNotBlank(getInitParam(servletConfig, OPENAPI_CONFIGURATION_GROUPS_VALIDATION_STRATEGY))) {
                 configuration.groupsValidationStrategy(Configuration.GroupsValidationStrategy.valueOf(getInitParam(servletConfig, OPENAPI_CONFIGURATION_GROUPS_VALIDATION_STRATEGY)));
             }
+            if (StringUtils.isNotBlank(getInitParam(servletConfig, OPENAPI_CONFIGURATION_CACHE_REFRESH_POLICY_KEY))) {
+                configuration.cacheRefreshPolicy(OpenAPIConfiguration.CacheRefreshPolicy.valueOf(getInitParam(servletConfig, OPENAPI_CONFIGURATION_CACHE_REFRESH_POLICY_KEY)));
+            }
             return configuration;
 
         }
@@ -137,6 +166,39 @@ public class ServletOpenApiConfigurationLoader implements OpenApiConfigurationLo
             if (getBooleanInitParam(servletConfig, OPENAPI_CONFIGURATION_SORTOUTPUT_KEY) != null) {
                 return true;
             }
+            if (getBooleanInitParam(servletConfig, OPENAPI_CONFIGURATION_STREAM_OUTPUT_KEY) != null) {
+                return true;
+            }
+            if (getIntegerInitParam(servletConfig, OPENAPI_CONFIGURATION_OUTPUT_BUFFER_SIZE_KEY) != null) {
+                return true;
+            }
+            if (getBooleanInitParam(servletConfig, OPENAPI_CONFIGURATION_PRECOMPRESS_OUTPUT_KEY) != null) {
+                return true;
+            }
+            if (getIntegerInitParam(servletConfig, OPENAPI_CONFIGURATION_READER_PARALLELISM_KEY) != null) {
+                return true;
+            }
+            if (getInitParam(servletConfig, OPENAPI_CONFIGURATION_PREBUILT_SPEC_LOCATION_KEY) != null) {
+                return true;
+            }
+            if (getInitParam(servletConfig, OPENAPI_CONFIGURATION_SCAN_CACHE_FILE_KEY) != null) {
+                return true;
+            }
+            if (getBooleanInitParam(servletConfig, OPENAPI_CONFIGURATION_SCAN_ANNOTATIONS_ONLY_KEY) != null) {
+                return true;
+            }
+            if (getIntegerInitParam(servletConfig, OPENAPI_CONFIGURATION_SCAN_THREADS_KEY) != null) {
+                return true;
+            }
+            if (getIntegerInitParam(servletConfig, OPENAPI_CONFIGURATION_FILTER_PARALLELISM_KEY) != null) {
+                return true;
+            }
+            if (resolveScanExcludedJars(servletConfig) != null) {
+                return true;
+            }
+            if (resolveScanExcludedModules(servletConfig) != null) {
+                return true;
+            }
             if (getBooleanInitParam(servletConfig, OPENAPI_CONFIGURATION_ALWAYSRESOLVEAPPPATH_KEY) != null) {
                 return true;
             }
@@ -149,6 +211,12 @@ public class ServletOpenApiConfigurationLoader implements OpenApiConfigurationLo
             if (getLongInitParam(servletConfig, OPENAPI_CONFIGURATION_CACHE_TTL_KEY) != null) {
                 return true;
             }
+            if (getInitParam(servletConfig, OPENAPI_CONFIGURATION_CACHE_REFRESH_POLICY_KEY) != null) {
+                return true;
+            }
+            if (getLongInitParam(servletConfig, OPENAPI_CONFIGURATION_CACHE_REFRESH_AHEAD_KEY) != null) {
+                return true;
+            }
             if (getInitParam(servletConfig, OPENAPI_CONFIGURATION_SCANNER_KEY) != null) {
                 return true;
             }
@@ -7,12 +7,14 @@ import io.swagger.v3.core.util.Json;
 import io.swagger.v3.core.util.Yaml;
 import io.swagger.v3.oas.integration.GenericOpenApiContextBuilder;
 import io.swagger.v3.oas.integration.OpenApiConfigurationException;
+import io.swagger.v3.oas.integration.PrebuiltOpenApi;
 import io.swagger.v3.oas.integration.SwaggerConfiguration;
 import io.swagger.v3.oas.integration.api.OpenApiContext;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.Schema;
 import org.apache.commons.lang3.StringUtils;
 
+import java.io.File;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -58,6 +60,10 @@ public class SwaggerLoader {
 
     private String openAPIVersion;
 
+    private String prebuiltClassesDirectory;
+
+    private String prebuiltOutputDirectory;
+
     /**
      * @since 2.0.6
      */
@@ -317,6 +323,38 @@ public class SwaggerLoader {
         this.openAPIVersion = openAPIVersion;
     }
 
+    /**
+     *  @since 2.2.55
+     */
+    public String getPrebuiltClassesDirectory() {
+        return prebuiltClassesDirectory;
+    }
+
+    /**
+     * Directory of the compiled classes the spec is resolved from; when set along with
+     * <code>prebuiltOutputDirectory</code>, the resolved spec is embedded in the output directory, see
+     * {@link PrebuiltOpenApi}.
+     *
+     *  @since 2.2.55
+     */
+    public void setPrebuiltClassesDirectory(String prebuiltClassesDirectory) {
+        this.prebuiltClassesDirectory = prebuiltClassesDirectory;
+    }
+
+    /**
+     *  @since 2.2.55
+     */
+    public String getPrebuiltOutputDirectory() {
+        return prebuiltOutputDirectory;
+    }
+
+    /**
+     *  @since 2.2.55
+     */
+    public void setPrebuiltOutputDirectory(String prebuiltOutputDirectory) {
+        this.prebuiltOutputDirectory = prebuiltOutputDirectory;
+    }
+
     public Map<String, String> resolve() throws Exception{
 
         Set<String> ignoredRoutesSet = null;
@@ -385,6 +423,10 @@ public class SwaggerLoader {
 
             OpenApiContext context = builder.buildContext(true);
             OpenAPI openAPI = context.read();
+            if (StringUtils.isNotBlank(prebuiltClassesDirectory) && StringUtils.isNotBlank(prebuiltOutputDirectory)) {
+                // the unfiltered spec is embedded, as the filter is applied on each request at runtime
+                PrebuiltOpenApi.write(new File(prebuiltClassesDirectory), new File(prebuiltOutputDirectory), context, openAPI, Boolean.TRUE.equals(prettyPrint));
+            }
             if (StringUtils.isNotBlank(filterClass)) {
                 try {
                     OpenAPISpecFilter filterImpl = (OpenAPISpecFilter) this.getClass().getClassLoader().loadClass(filterClass).newInstance();
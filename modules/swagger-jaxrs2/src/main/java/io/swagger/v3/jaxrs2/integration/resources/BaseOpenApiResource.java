@@ -1,14 +1,9 @@
 package io.swagger.v3.jaxrs2.integration.resources;
 
-import io.swagger.v3.core.filter.OpenAPISpecFilter;
-import io.swagger.v3.core.filter.SpecFilter;
 import io.swagger.v3.jaxrs2.integration.JaxrsOpenApiContextBuilder;
+import io.swagger.v3.oas.integration.SerializedOpenApi;
 import io.swagger.v3.oas.integration.api.OpenAPIConfiguration;
 import io.swagger.v3.oas.integration.api.OpenApiContext;
-import io.swagger.v3.oas.models.OpenAPI;
-import org.apache.commons.lang3.StringUtils;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import javax.servlet.ServletConfig;
 import javax.ws.rs.core.Application;
@@ -16,6 +11,7 @@ import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
 import java.util.HashMap;
 import java.util.List;
@@ -26,7 +22,7 @@ import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.getCont
 
 public abstract class BaseOpenApiResource {
 
-    private static Logger LOGGER = LoggerFactory.getLogger(BaseOpenApiResource.class);
+    private static final MediaType APPLICATION_YAML_TYPE = new MediaType("application", "yaml");
 
     protected String getContextId(ServletConfig config) {
         return getContextIdFromServletConfig(config);
@@ -47,41 +43,40 @@ public abstract class BaseOpenApiResource {
                 .openApiConfiguration(openApiConfiguration)
                 .ctxId(ctxId)
                 .buildContext(true);
-        OpenAPI oas = ctx.read();
         boolean pretty = ctx.getOpenApiConfiguration() != null && Boolean.TRUE.equals(ctx.getOpenApiConfiguration().isPrettyPrint());
 
-        if (oas != null && ctx.getOpenApiConfiguration() != null) {
-            if (ctx.getOpenApiConfiguration().getFilterClass() != null) {
-                try {
-                    OpenAPISpecFilter filterImpl = (OpenAPISpecFilter) Class.forName(ctx.getOpenApiConfiguration().getFilterClass()).newInstance();
-                    SpecFilter f = new SpecFilter();
-                    oas = f.filter(oas, filterImpl, getQueryParams(uriInfo.getQueryParameters()), getCookies(headers),
-                            getHeaders(headers));
-                } catch (Exception e) {
-                    LOGGER.error("failed to load filter", e);
-                }
-            }
-        }
+        SerializedOpenApi serialized = ctx.readSerialized(type, pretty, getQueryParams(uriInfo.getQueryParameters()),
+                getCookies(headers), getHeaders(headers));
 
-        if (oas == null) {
+        if (serialized == null) {
             return Response.status(404).build();
         }
 
-        if (StringUtils.isNotBlank(type) && type.trim().equalsIgnoreCase("yaml")) {
+        if (serialized.isStreaming()) {
             return Response.status(Response.Status.OK)
-                    .entity(pretty ?
-                            ctx.getOutputYamlMapper().writerWithDefaultPrettyPrinter().writeValueAsString(oas) :
-                            ctx.getOutputYamlMapper().writeValueAsString(oas))
-                    .type("application/yaml")
+                    .type(SerializedOpenApi.isYaml(type) ? APPLICATION_YAML_TYPE : MediaType.APPLICATION_JSON_TYPE)
+                    .entity((StreamingOutput) serialized::writeTo)
                     .build();
+        }
+
+        String encoding = headers != null ? serialized.negotiateEncoding(headers.getHeaderString(HttpHeaders.ACCEPT_ENCODING)) : null;
+        Response.ResponseBuilder builder;
+        if (headers != null && serialized.matches(headers.getHeaderString(HttpHeaders.IF_NONE_MATCH), encoding)) {
+            builder = Response.notModified();
         } else {
-            return Response.status(Response.Status.OK)
-                    .entity(pretty ?
-                            ctx.getOutputJsonMapper().writerWithDefaultPrettyPrinter().writeValueAsString(oas) :
-                            ctx.getOutputJsonMapper().writeValueAsString(oas))
-                    .type(MediaType.APPLICATION_JSON_TYPE)
-                    .build();
+            builder = Response.status(Response.Status.OK)
+                    .type(SerializedOpenApi.isYaml(type) ? APPLICATION_YAML_TYPE : MediaType.APPLICATION_JSON_TYPE)
+                    .entity(serialized.getBytes(encoding));
+            if (encoding != null) {
+                builder.header(HttpHeaders.CONTENT_ENCODING, encoding);
+            }
+        }
+        if (serialized.isPrecompressed()) {
+            builder.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
         }
+        return builder
+                .header(HttpHeaders.ETAG, serialized.getETag(encoding))
+                .build();
     }
 
     private static Map<String, List<String>> getQueryParams(MultivaluedMap<String, String> params) {
@@ -0,0 +1,95 @@
+package io.swagger.v3.jaxrs2.util;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Matches paths against a set of ignored routes compiled into a trie of path segments, in time proportional to the
+ * length of the path rather than to the number of routes.
+ *
+ * A path is ignored if it is equal to a route or starts with a route followed by <code>/</code>. If template
+ * matching is enabled, route segments enclosed in braces, like <code>{id}</code>, match any single path segment;
+ * otherwise they only match the same segment.
+ *
+ * @since 2.2.55
+ */
+public class IgnoredRoutesMatcher {
+
+    private static final char PATH_DELIMITER = '/';
+
+    private static class Node {
+        Map<String, Node> children;
+        Node wildcard;
+        boolean route;
+
+        Node child(String segment, boolean templates) {
+            if (templates && isTemplate(segment)) {
+                if (wildcard == null) {
+                    wildcard = new Node();
+                }
+                return wildcard;
+            }
+            if (children == null) {
+                children = new HashMap<>();
+            }
+            return children.computeIfAbsent(segment, s -> new Node());
+        }
+    }
+
+    private final Node root = new Node();
+
+    private IgnoredRoutesMatcher() {
+    }
+
+    public static IgnoredRoutesMatcher compile(Collection<String> routes) {
+        return compile(routes, false);
+    }
+
+    public static IgnoredRoutesMatcher compile(Collection<String> routes, boolean templates) {
+        IgnoredRoutesMatcher matcher = new IgnoredRoutesMatcher();
+        if (routes != null) {
+            for (String route : routes) {
+                if (route != null) {
+                    matcher.add(route, templates);
+                }
+            }
+        }
+        return matcher;
+    }
+
+    private void add(String route, boolean templates) {
+        Node node = root;
+        int start = 0;
+        while (true) {
+            int end = route.indexOf(PATH_DELIMITER, start);
+            node = node.child(route.substring(start, end == -1 ? route.length() : end), templates);
+            if (end == -1) {
+                break;
+            }
+            start = end + 1;
+        }
+        node.route = true;
+    }
+
+    public boolean matches(String path) {
+        return path != null && matches(root, path, 0);
+    }
+
+    private static boolean matches(Node node, String path, int start) {
+        int end = path.indexOf(PATH_DELIMITER, start);
+        int segmentEnd = end == -1 ? path.length() : end;
+        if (node.children != null) {
+            Node child = node.children.get(path.substring(start, segmentEnd));
+            if (child != null && (child.route || (end != -1 && matches(child, path, end + 1)))) {
+                return true;
+            }
+        }
+        Node wildcard = node.wildcard;
+        return wildcard != null && (wildcard.route || (end != -1 && matches(wildcard, path, end + 1)));
+    }
+
+    private static boolean isTemplate(String segment) {
+        return segment.length() > 1 && segment.charAt(0) == '{' && segment.charAt(segment.length() - 1) == '}';
+    }
+}
@@ -160,6 +160,9 @@ public class ReaderUtils {
         if (config.getIgnoredRoutes() == null) {
             return false;
         }
+        if (Boolean.TRUE.equals(config.isIgnoredRouteTemplates())) {
+            return IgnoredRoutesMatcher.compile(config.getIgnoredRoutes(), true).matches(path);
+        }
         for (String item : config.getIgnoredRoutes()) {
             final int length = item.length();
             if (path.startsWith(item) && (path.length() == length || path.startsWith(PATH_DELIMITER, length))) {
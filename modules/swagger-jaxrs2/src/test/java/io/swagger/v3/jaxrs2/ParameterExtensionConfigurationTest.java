@@ -0,0 +1,120 @@
+package io.swagger.v3.jaxrs2;
+
+import io.swagger.v3.core.converter.ModelConverters;
+import io.swagger.v3.core.util.Configuration;
+import io.swagger.v3.jaxrs2.ext.AbstractOpenAPIExtension;
+import io.swagger.v3.jaxrs2.ext.OpenAPIExtension;
+import io.swagger.v3.jaxrs2.ext.OpenAPIExtensions;
+import io.swagger.v3.jaxrs2.resources.Ticket4804Resource;
+import io.swagger.v3.oas.integration.SwaggerConfiguration;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.SpecVersion;
+import io.swagger.v3.oas.models.media.Schema;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import javax.ws.rs.QueryParam;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+
+public class ParameterExtensionConfigurationTest {
+
+    private List<OpenAPIExtension> previousExtensions;
+    private RecordingParameterExtension parameterExtension;
+
+    static class RecordingParameterExtension extends DefaultParameterExtension {
+        final AtomicInteger configurations = new AtomicInteger();
+
+        @Override
+        public void setConfiguration(Configuration configuration) {
+            configurations.incrementAndGet();
+            super.setConfiguration(configuration);
+        }
+    }
+
+    @BeforeMethod
+    public void setUp() {
+        ModelConverters.reset();
+        previousExtensions = OpenAPIExtensions.getExtensions();
+        parameterExtension = new RecordingParameterExtension();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        OpenAPIExtensions.setExtensions(previousExtensions);
+        ModelConverters.reset();
+    }
+
+    @Test(description = "readers pass their own configuration to shared parameter extensions")
+    public void testConfigurationSnapshot() {
+        OpenAPIExtensions.setExtensions(new ArrayList<>(Arrays.asList(parameterExtension)));
+        assertReadersKeepConfiguration();
+    }
+
+    @Test(description = "extensions not aware of the configuration pass it along the chain")
+    public void testConfigurationPassedAlongChain() {
+        OpenAPIExtensions.setExtensions(new ArrayList<>(Arrays.asList(new AbstractOpenAPIExtension() {
+        }, parameterExtension)));
+        assertReadersKeepConfiguration();
+    }
+
+    @Test(description = "the OpenAPI 3.1 and schema resolution setters apply to the configuration used to extract parameters")
+    public void testSetters() throws Exception {
+        Configuration shared = new Configuration();
+        parameterExtension.setConfiguration(shared);
+        parameterExtension.setOpenAPI31(true);
+        parameterExtension.setSchemaResolution(Schema.SchemaResolution.INLINE);
+
+        Method method = getClass().getDeclaredMethod("query", String.class);
+        ResolvedParameter resolved = parameterExtension.extractParameters(
+                Arrays.asList(method.getParameterAnnotations()[0]), String.class, new HashSet<>(), new Components(),
+                null, null, false, null, Collections.<OpenAPIExtension>emptyIterator());
+
+        assertEquals(resolved.parameters.size(), 1);
+        assertEquals(resolved.parameters.get(0).getSchema().getSpecVersion(), SpecVersion.V31);
+        assertFalse(shared.isOpenAPI31());
+        assertEquals(shared.getSchemaResolution(), Schema.SchemaResolution.DEFAULT);
+
+        parameterExtension.setOpenAPI31(false);
+        ModelConverters.reset();
+        resolved = parameterExtension.extractParameters(
+                Arrays.asList(method.getParameterAnnotations()[0]), String.class, new HashSet<>(), new Components(),
+                null, null, false, null, Collections.<OpenAPIExtension>emptyIterator());
+        assertEquals(resolved.parameters.get(0).getSchema().getSpecVersion(), SpecVersion.V30);
+    }
+
+    @SuppressWarnings("unused")
+    private static void query(@QueryParam("id") String id) {
+    }
+
+    private void assertReadersKeepConfiguration() {
+        SwaggerConfiguration inlineConfig = new SwaggerConfiguration().schemaResolution(Schema.SchemaResolution.INLINE);
+        Reader inlineReader = new Reader(inlineConfig);
+        Reader defaultReader = new Reader(new SwaggerConfiguration());
+
+        // resolved models are cached by the shared model converters, which are reset between reads
+        assertNull(requestBodySchema(inlineReader.read(Ticket4804Resource.class)).get$ref());
+        ModelConverters.reset();
+        assertNotNull(requestBodySchema(defaultReader.read(Ticket4804Resource.class)).get$ref());
+        ModelConverters.reset();
+        assertNull(requestBodySchema(inlineReader.read(Ticket4804Resource.class)).get$ref());
+        assertEquals(parameterExtension.configurations.get(), 0);
+        assertEquals(inlineConfig.getSchemaResolution(), Schema.SchemaResolution.INLINE);
+    }
+
+    private Schema<?> requestBodySchema(OpenAPI openAPI) {
+        return openAPI.getPaths().get("/test/barcart").getPut().getRequestBody().getContent().get("*/*").getSchema();
+    }
+}
@@ -0,0 +1,148 @@
+package io.swagger.v3.jaxrs2;
+
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Json31;
+import io.swagger.v3.jaxrs2.integration.JaxrsAnnotationScanner;
+import io.swagger.v3.jaxrs2.resources.ResponsesResource;
+import io.swagger.v3.jaxrs2.resources.SecurityResource;
+import io.swagger.v3.jaxrs2.resources.SimpleUserResource;
+import io.swagger.v3.jaxrs2.resources.TagsResource;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.integration.SwaggerConfiguration;
+import io.swagger.v3.oas.integration.api.OpenAPIConfiguration;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class ReaderParallelismTest {
+
+    private static class RecordingReader extends Reader {
+        private Boolean readInParallel;
+
+        RecordingReader(OpenAPIConfiguration configuration) {
+            super(configuration);
+        }
+
+        @Override
+        protected boolean readInParallel(Set<Class<?>> classes, String appPath, int parallelism) {
+            readInParallel = super.readInParallel(classes, appPath, parallelism);
+            return readInParallel;
+        }
+
+        @Override
+        protected Reader newContributionReader() {
+            return new Reader(config);
+        }
+    }
+
+    @Path("/first")
+    public static class FirstResource {
+        @GET
+        @Operation(operationId = "shared")
+        public String get() {
+            return null;
+        }
+    }
+
+    @Path("/second")
+    public static class SecondResource {
+        @GET
+        @Operation(operationId = "shared")
+        public String get() {
+            return null;
+        }
+    }
+
+    @Path("/third")
+    public static class ThirdResource {
+        @GET
+        @Operation(operationId = "shared_1")
+        public String get() {
+            return null;
+        }
+
+        @POST
+        @Operation(operationId = "shared")
+        public String post() {
+            return null;
+        }
+    }
+
+    @DataProvider
+    public Object[][] packages() {
+        return new Object[][]{
+                {"io.swagger.v3.jaxrs2.resources", false},
+                {"io.swagger.v3.jaxrs2.resources", true},
+                {"io.swagger.v3.jaxrs2.petstore", false},
+                {"io.swagger.v3.jaxrs2.petstore31", true},
+        };
+    }
+
+    @Test(dataProvider = "packages", description = "reading in parallel produces the same definition as reading sequentially")
+    public void testParallelReadMatchesSequentialRead(String resourcePackage, boolean openapi31) {
+        SwaggerConfiguration config = new SwaggerConfiguration()
+                .openAPI31(openapi31)
+                .resourcePackages(Collections.singleton(resourcePackage));
+        Set<Class<?>> classes = new JaxrsAnnotationScanner<>().openApiConfiguration(config).classes();
+        assertTrue(classes.size() > 1);
+
+        String sequential = serialize(new Reader(config).read(classes), openapi31);
+        RecordingReader reader = new RecordingReader(config.readerParallelism(4));
+        String parallel = serialize(reader.read(classes), openapi31);
+
+        assertTrue(reader.readInParallel);
+        assertEquals(parallel, sequential);
+    }
+
+    @Test(description = "classes with distinct operation ids are merged from parallel reads")
+    public void testParallelReadMerge() {
+        Set<Class<?>> classes = new HashSet<>(Arrays.asList(
+                SimpleUserResource.class, ResponsesResource.class, SecurityResource.class, TagsResource.class));
+        RecordingReader reader = new RecordingReader(new SwaggerConfiguration().readerParallelism(4));
+
+        String parallel = serialize(reader.read(classes), false);
+
+        assertTrue(reader.readInParallel);
+        assertEquals(parallel, serialize(new Reader(new SwaggerConfiguration()).read(classes), false));
+    }
+
+    @Test(description = "operation ids shared among classes read in parallel are suffixed as when reading sequentially")
+    public void testParallelReadSharedOperationIds() {
+        Set<Class<?>> classes = new HashSet<>(Arrays.asList(
+                FirstResource.class, SecondResource.class, ThirdResource.class, TagsResource.class));
+        RecordingReader reader = new RecordingReader(new SwaggerConfiguration().readerParallelism(2));
+
+        String parallel = serialize(reader.read(classes), false);
+
+        assertTrue(reader.readInParallel);
+        assertTrue(parallel.contains("shared_1_1"));
+        assertTrue(parallel.contains("shared_2"));
+        assertEquals(parallel, serialize(new Reader(new SwaggerConfiguration()).read(classes), false));
+    }
+
+    @Test(description = "subclasses not providing contribution readers read sequentially")
+    public void testSubclassReadsSequentially() {
+        Reader reader = new Reader(new SwaggerConfiguration().readerParallelism(4)) {
+        };
+        Set<Class<?>> classes = new HashSet<>(Arrays.asList(SimpleUserResource.class, TagsResource.class));
+
+        assertEquals(serialize(reader.read(classes), false), serialize(new Reader(new SwaggerConfiguration()).read(classes), false));
+        assertNull(reader.newContributionReader());
+    }
+
+    private static String serialize(OpenAPI openAPI, boolean openapi31) {
+        return openapi31 ? Json31.pretty(openAPI) : Json.pretty(openAPI);
+    }
+}
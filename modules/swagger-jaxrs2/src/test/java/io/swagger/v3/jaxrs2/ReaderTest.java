@@ -309,6 +309,23 @@ public class ReaderTest {
 
     }
 
+    @Test(description = "Operation ids of replaced operations are available again")
+    public void testResolveDuplicatedOperationIdAcrossReads() {
+        Reader reader = new Reader(new OpenAPI());
+        reader.read(DuplicatedOperationIdResource.class);
+        reader.read(DuplicatedOperationIdResource.class);
+        reader.read(DuplicatedOperationMethodNameResource.class);
+        OpenAPI openAPI = reader.read(DuplicatedOperationIdResource.class);
+
+        Paths paths = openAPI.getPaths();
+        assertEquals(paths.get(PATH_REF).getPost().getOperationId(), "operationId");
+        assertEquals(paths.get(PATH_REF).getGet().getOperationId(), "operationId_3");
+        assertEquals(paths.get(PATH_2_REF).getGet().getOperationId(), "operationId_2");
+        assertEquals(paths.get("/2").getGet().getOperationId(), "getSummaryAndDescription2_1");
+        assertEquals(paths.get("/3").getPost().getOperationId(), "postSummaryAndDescription3_1");
+        assertEquals(paths.get("/4").getGet().getOperationId(), "getSummaryAndDescription3_1");
+    }
+
     @Test(description = "Test a Set of classes")
     public void testSetOfClasses() {
         Set<Class<?>> classes = new HashSet<>();
@@ -0,0 +1,81 @@
+package io.swagger.v3.jaxrs2.integration;
+
+import io.swagger.v3.jaxrs2.resources.SimpleUserResource;
+import io.swagger.v3.oas.integration.SwaggerConfiguration;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+
+public class JaxrsAnnotationScannerScanCacheTest {
+
+    private Path directory;
+    private Path cacheFile;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("scan-cache");
+        cacheFile = directory.resolve("scan-cache");
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        Files.deleteIfExists(cacheFile);
+        Files.deleteIfExists(directory);
+    }
+
+    @Test(description = "classes found by scanning are persisted and read back instead of scanning")
+    public void testScanCache() throws Exception {
+        SwaggerConfiguration config = config("io.swagger.v3.jaxrs2.resources");
+        Set<Class<?>> scanned = new JaxrsAnnotationScanner<>().openApiConfiguration(config("io.swagger.v3.jaxrs2.resources").scanCacheFile(null)).classes();
+
+        assertEquals(new JaxrsAnnotationScanner<>().openApiConfiguration(config).classes(), scanned);
+        List<String> lines = Files.readAllLines(cacheFile, StandardCharsets.UTF_8);
+        assertEquals(lines.size(), scanned.size() + 1);
+
+        // a cache entry matching the classpath is used as is
+        Files.write(cacheFile, Arrays.asList(lines.get(0), SimpleUserResource.class.getName()), StandardCharsets.UTF_8);
+        assertEquals(new JaxrsAnnotationScanner<>().openApiConfiguration(config).classes(), Collections.singleton(SimpleUserResource.class));
+    }
+
+    @Test(description = "the classpath is scanned again when the scanned packages change")
+    public void testScanCacheMismatch() throws Exception {
+        new JaxrsAnnotationScanner<>().openApiConfiguration(config("io.swagger.v3.jaxrs2.resources")).classes();
+        String fingerprint = Files.readAllLines(cacheFile, StandardCharsets.UTF_8).get(0);
+
+        Set<Class<?>> classes = new JaxrsAnnotationScanner<>().openApiConfiguration(config("com.my.project.resources")).classes();
+
+        assertFalse(classes.isEmpty());
+        assertEquals(classes, new JaxrsAnnotationScanner<>().openApiConfiguration(config("com.my.project.resources").scanCacheFile(null)).classes());
+        assertNotEquals(Files.readAllLines(cacheFile, StandardCharsets.UTF_8).get(0), fingerprint);
+    }
+
+    @Test(description = "the classpath is scanned again when a cached class is missing")
+    public void testScanCacheMissingClass() throws Exception {
+        SwaggerConfiguration config = config("io.swagger.v3.jaxrs2.resources");
+        Set<Class<?>> scanned = new JaxrsAnnotationScanner<>().openApiConfiguration(config).classes();
+        String fingerprint = Files.readAllLines(cacheFile, StandardCharsets.UTF_8).get(0);
+
+        Files.write(cacheFile, Arrays.asList(fingerprint, "io.swagger.v3.jaxrs2.resources.Missing"), StandardCharsets.UTF_8);
+
+        assertEquals(new JaxrsAnnotationScanner<>().openApiConfiguration(config).classes(), scanned);
+        assertEquals(Files.readAllLines(cacheFile, StandardCharsets.UTF_8).size(), scanned.size() + 1);
+    }
+
+    private SwaggerConfiguration config(String resourcePackage) {
+        return new SwaggerConfiguration()
+                .resourcePackages(Collections.singleton(resourcePackage))
+                .scanCacheFile(cacheFile.toString());
+    }
+}
@@ -0,0 +1,41 @@
+package io.swagger.v3.jaxrs2.integration;
+
+import io.swagger.v3.oas.integration.SwaggerConfiguration;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.Set;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+
+public class JaxrsAnnotationScannerScanOptionsTest {
+
+    @DataProvider
+    public Object[][] packages() {
+        return new Object[][]{
+                {"io.swagger.v3.jaxrs2", false},
+                {"io.swagger.v3.jaxrs2", true},
+                {"com.my.project.resources", false},
+        };
+    }
+
+    @Test(dataProvider = "packages", description = "scanning annotation info only finds the same classes as scanning all info")
+    public void testScanAnnotationsOnly(String resourcePackage, boolean alwaysResolveAppPath) {
+        SwaggerConfiguration config = new SwaggerConfiguration()
+                .resourcePackages(Collections.singleton(resourcePackage))
+                .alwaysResolveAppPath(alwaysResolveAppPath);
+        Set<Class<?>> scanned = new JaxrsAnnotationScanner<>().openApiConfiguration(config).classes();
+
+        SwaggerConfiguration restricted = new SwaggerConfiguration()
+                .resourcePackages(Collections.singleton(resourcePackage))
+                .alwaysResolveAppPath(alwaysResolveAppPath)
+                .scanAnnotationsOnly(true)
+                .scanThreads(2)
+                .scanExcludedJars(Collections.singleton("jackson-*.jar"));
+
+        assertFalse(scanned.isEmpty());
+        assertEquals(new JaxrsAnnotationScanner<>().openApiConfiguration(restricted).classes(), scanned);
+    }
+}
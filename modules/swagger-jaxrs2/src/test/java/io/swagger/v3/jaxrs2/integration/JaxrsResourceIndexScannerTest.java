@@ -0,0 +1,130 @@
+package io.swagger.v3.jaxrs2.integration;
+
+import io.github.classgraph.ClassGraph;
+import io.swagger.v3.jaxrs2.integration.resources.OpenApiResource;
+import io.swagger.v3.jaxrs2.resources.BasicClass;
+import io.swagger.v3.jaxrs2.resources.ResourceWithKnownInjections;
+import io.swagger.v3.oas.integration.SwaggerConfiguration;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class JaxrsResourceIndexScannerTest {
+
+    private File indexDirectory;
+    private URLClassLoader indexClassLoader;
+
+    @BeforeClass
+    public void writeIndex() throws Exception {
+        indexDirectory = Files.createTempDirectory("resource-index").toFile();
+        ResourceIndex.write(testClassesDirectory(), indexDirectory);
+        indexClassLoader = new URLClassLoader(new URL[]{indexDirectory.toURI().toURL()}, getClass().getClassLoader());
+    }
+
+    @AfterClass
+    public void deleteIndex() throws Exception {
+        indexClassLoader.close();
+        try (Stream<java.nio.file.Path> files = Files.walk(indexDirectory.toPath())) {
+            files.sorted(Comparator.reverseOrder()).map(java.nio.file.Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Test(description = "the index lists the annotated classes of the classes directory only")
+    public void testWriteIndex() throws Exception {
+        Map<String, Set<String>> index = ResourceIndex.read(indexClassLoader);
+
+        assertNotNull(index);
+        assertTrue(index.get(javax.ws.rs.Path.class.getName()).contains(ResourceWithKnownInjections.class.getName()));
+        assertFalse(index.get(javax.ws.rs.Path.class.getName()).contains(OpenApiResource.class.getName()));
+    }
+
+    @Test(description = "resources resolved from the index are the same as the ones resolved by scanning")
+    public void testClassesFromIndex() throws Exception {
+        for (String pkg : new String[]{"io.swagger.v3.jaxrs2.resources", "com.my.project.resources"}) {
+            SwaggerConfiguration config = new SwaggerConfiguration().resourcePackages(Collections.singleton(pkg));
+            Set<Class<?>> scanned = new JaxrsAnnotationScanner<>().openApiConfiguration(config).classes();
+            Set<Class<?>> indexed = withContextClassLoader(indexClassLoader,
+                    () -> new JaxrsResourceIndexScanner().openApiConfiguration(config).classes());
+
+            assertFalse(scanned.isEmpty());
+            assertEquals(indexed, scanned);
+        }
+    }
+
+    @Test(description = "resources are resolved by scanning if no index is available")
+    public void testClassesWithoutIndex() throws Exception {
+        assertNull(ResourceIndex.read(getClass().getClassLoader()));
+
+        SwaggerConfiguration config = new SwaggerConfiguration()
+                .resourcePackages(Collections.singleton("io.swagger.v3.jaxrs2.resources"));
+        assertEquals(new JaxrsResourceIndexScanner().openApiConfiguration(config).classes(),
+                new JaxrsAnnotationScanner<>().openApiConfiguration(config).classes());
+    }
+
+    @Test(description = "classes of indexed classpath elements are read from their index, the other elements are scanned")
+    public void testClassesWithPartialIndex() throws Exception {
+        File directory = Files.createTempDirectory("partial-resource-index").toFile();
+        File index = new File(directory, ResourceIndex.LOCATION);
+        Files.createDirectories(index.getParentFile().toPath());
+        Files.write(index.toPath(), Collections.singletonList(javax.ws.rs.Path.class.getName() + " " + BasicClass.class.getName()));
+        SwaggerConfiguration config = new SwaggerConfiguration()
+                .resourcePackages(Collections.singleton("io.swagger.v3.jaxrs2.resources"));
+        List<File> scannedElements = new ArrayList<>();
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{directory.toURI().toURL()}, getClass().getClassLoader())) {
+            Set<Class<?>> classes = withContextClassLoader(classLoader, () -> new JaxrsResourceIndexScanner() {
+                @Override
+                protected ClassGraph classGraph(Set<String> excludedElements) {
+                    ClassGraph graph = super.classGraph(excludedElements);
+                    scannedElements.addAll(graph.getClasspathFiles());
+                    return graph;
+                }
+            }.openApiConfiguration(config).classes());
+
+            assertTrue(classes.contains(BasicClass.class));
+            assertTrue(classes.containsAll(new JaxrsAnnotationScanner<>().openApiConfiguration(config).classes()));
+            assertTrue(scannedElements.contains(testClassesDirectory()));
+            assertFalse(scannedElements.contains(directory));
+        } finally {
+            index.delete();
+            index.getParentFile().delete();
+            index.getParentFile().getParentFile().delete();
+            directory.delete();
+        }
+    }
+
+    private File testClassesDirectory() throws URISyntaxException {
+        return new File(getClass().getProtectionDomain().getCodeSource().getLocation().toURI());
+    }
+
+    private static <V> V withContextClassLoader(ClassLoader classLoader, Callable<V> callable) throws Exception {
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        thread.setContextClassLoader(classLoader);
+        try {
+            return callable.call();
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+    }
+}
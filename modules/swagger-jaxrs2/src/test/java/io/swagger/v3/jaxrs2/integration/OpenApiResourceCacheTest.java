@@ -0,0 +1,272 @@
+package io.swagger.v3.jaxrs2.integration;
+
+import io.swagger.v3.core.filter.AbstractSpecFilter;
+import io.swagger.v3.core.filter.CacheableOpenAPISpecFilter;
+import io.swagger.v3.core.model.ApiDescription;
+import io.swagger.v3.jaxrs2.integration.resources.BaseOpenApiResource;
+import io.swagger.v3.oas.integration.OpenApiContextLocator;
+import io.swagger.v3.oas.integration.SerializedOpenApi;
+import io.swagger.v3.oas.integration.SwaggerConfiguration;
+import io.swagger.v3.oas.integration.api.OpenApiContext;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import org.apache.commons.io.IOUtils;
+import org.testng.annotations.Test;
+
+import javax.servlet.ServletConfig;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import javax.ws.rs.core.UriInfo;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class OpenApiResourceCacheTest {
+
+    static class TestOpenApiResource extends BaseOpenApiResource {
+
+        private final String ctxId;
+
+        TestOpenApiResource(String ctxId) {
+            this.ctxId = ctxId;
+        }
+
+        @Override
+        protected String getContextId(ServletConfig config) {
+            return ctxId;
+        }
+
+        Response get(HttpHeaders headers, String type) throws Exception {
+            UriInfo uriInfo = mock(UriInfo.class);
+            when(uriInfo.getQueryParameters()).thenReturn(new MultivaluedHashMap<>());
+            return getOpenApi(headers, null, null, uriInfo, type);
+        }
+    }
+
+    public static class TenantFilter extends AbstractSpecFilter implements CacheableOpenAPISpecFilter {
+
+        static final AtomicInteger INSTANCES = new AtomicInteger();
+        static final AtomicInteger FILTERED = new AtomicInteger();
+
+        public TenantFilter() {
+            INSTANCES.incrementAndGet();
+        }
+
+        @Override
+        public String getCacheKey(Map<String, List<String>> params, Map<String, String> cookies, Map<String, List<String>> headers) {
+            List<String> tenant = headers.get("X-Tenant");
+            return tenant == null ? null : tenant.get(0);
+        }
+
+        @Override
+        public Optional<OpenAPI> filterOpenAPI(OpenAPI openAPI, Map<String, List<String>> params, Map<String, String> cookies, Map<String, List<String>> headers) {
+            FILTERED.incrementAndGet();
+            return Optional.of(openAPI);
+        }
+
+        @Override
+        public Optional<Operation> filterOperation(Operation operation, ApiDescription api, Map<String, List<String>> params, Map<String, String> cookies, Map<String, List<String>> headers) {
+            List<String> tenant = headers.get("X-Tenant");
+            return tenant != null && tenant.contains("a") ? Optional.of(operation) : Optional.empty();
+        }
+    }
+
+    private static HttpHeaders headers(String ifNoneMatch) {
+        return headers(ifNoneMatch, new MultivaluedHashMap<>());
+    }
+
+    private static HttpHeaders headers(String ifNoneMatch, MultivaluedHashMap<String, String> requestHeaders) {
+        HttpHeaders headers = mock(HttpHeaders.class);
+        when(headers.getHeaderString(HttpHeaders.IF_NONE_MATCH)).thenReturn(ifNoneMatch);
+        when(headers.getHeaderString(HttpHeaders.ACCEPT_ENCODING)).thenReturn(requestHeaders.getFirst(HttpHeaders.ACCEPT_ENCODING));
+        when(headers.getRequestHeaders()).thenReturn(requestHeaders);
+        when(headers.getCookies()).thenReturn(Collections.emptyMap());
+        return headers;
+    }
+
+    private static HttpHeaders acceptEncoding(String acceptEncoding, String ifNoneMatch) {
+        MultivaluedHashMap<String, String> requestHeaders = new MultivaluedHashMap<>();
+        requestHeaders.putSingle(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        return headers(ifNoneMatch, requestHeaders);
+    }
+
+    private static HttpHeaders tenant(String tenant) {
+        MultivaluedHashMap<String, String> requestHeaders = new MultivaluedHashMap<>();
+        requestHeaders.putSingle("X-Tenant", tenant);
+        return headers(null, requestHeaders);
+    }
+
+    @Test(description = "serialized output is cached along with the spec and reused across requests")
+    public void testSerializedOutputIsCached() throws Exception {
+        TestOpenApiResource resource = new TestOpenApiResource("serialized.cache.test");
+        resource.openApiConfiguration(new SwaggerConfiguration()
+                .resourcePackages(Collections.singleton("com.my.project.resources")));
+
+        Response response = resource.get(headers(null), "json");
+        assertEquals(response.getStatus(), 200);
+        assertNotNull(response.getHeaderString(HttpHeaders.ETAG));
+        assertTrue(new String((byte[]) response.getEntity(), StandardCharsets.UTF_8).contains("/packageA"));
+
+        OpenApiContext ctx = OpenApiContextLocator.getInstance().getOpenApiContext("serialized.cache.test");
+        SerializedOpenApi json = ctx.readSerialized("json", false);
+        assertSame(ctx.readSerialized("json", false), json);
+        assertSame(response.getEntity(), json.getBytes());
+        SerializedOpenApi yaml = ctx.readSerialized("yaml", false);
+        assertFalse(yaml.getETag().equals(json.getETag()));
+        assertFalse(ctx.readSerialized("json", true).getETag().equals(json.getETag()));
+    }
+
+    @Test(description = "a matching If-None-Match header results in a 304 response")
+    public void testNotModified() throws Exception {
+        TestOpenApiResource resource = new TestOpenApiResource("serialized.etag.test");
+        resource.openApiConfiguration(new SwaggerConfiguration()
+                .resourcePackages(Collections.singleton("com.my.project.resources")));
+
+        Response response = resource.get(headers(null), "yaml");
+        assertEquals(response.getStatus(), 200);
+        String eTag = response.getHeaderString(HttpHeaders.ETAG);
+
+        response = resource.get(headers("\"other\", " + eTag), "yaml");
+        assertEquals(response.getStatus(), 304);
+        assertEquals(response.getHeaderString(HttpHeaders.ETAG), eTag);
+        assertEquals(response.getEntity(), null);
+
+        response = resource.get(headers("\"other\""), "yaml");
+        assertEquals(response.getStatus(), 200);
+    }
+
+    @Test(description = "specs filtered by a cacheable filter are memoized per cache key")
+    public void testCacheableFilter() throws Exception {
+        TestOpenApiResource resource = new TestOpenApiResource("serialized.filter.test");
+        resource.openApiConfiguration(new SwaggerConfiguration()
+                .filterClass(TenantFilter.class.getName())
+                .resourcePackages(Collections.singleton("com.my.project.resources")));
+        int instances = TenantFilter.INSTANCES.get();
+        int filtered = TenantFilter.FILTERED.get();
+
+        Response a = resource.get(tenant("a"), "json");
+        Response b = resource.get(tenant("b"), "json");
+        assertTrue(new String((byte[]) a.getEntity(), StandardCharsets.UTF_8).contains("/packageA"));
+        assertFalse(new String((byte[]) b.getEntity(), StandardCharsets.UTF_8).contains("/packageA"));
+        assertFalse(a.getHeaderString(HttpHeaders.ETAG).equals(b.getHeaderString(HttpHeaders.ETAG)));
+
+        assertSame(resource.get(tenant("a"), "json").getEntity(), a.getEntity());
+        assertSame(resource.get(tenant("b"), "json").getEntity(), b.getEntity());
+        assertEquals(resource.get(tenant("a"), "yaml").getStatus(), 200);
+        assertEquals(TenantFilter.FILTERED.get() - filtered, 2);
+
+        // requests without a cache key are filtered every time
+        resource.get(headers(null), "json");
+        resource.get(headers(null), "json");
+        assertEquals(TenantFilter.FILTERED.get() - filtered, 4);
+        assertEquals(TenantFilter.INSTANCES.get() - instances, 1);
+    }
+
+    @Test(description = "uncached specs are streamed to the response when streamOutput is enabled")
+    public void testStreamOutput() throws Exception {
+        TestOpenApiResource resource = new TestOpenApiResource("serialized.stream.test");
+        resource.openApiConfiguration(new SwaggerConfiguration()
+                .cacheTTL(0L)
+                .streamOutput(true)
+                .outputBufferSize(512)
+                .prettyPrint(true)
+                .resourcePackages(Collections.singleton("com.my.project.resources")));
+
+        Response response = resource.get(headers(null), "json");
+        assertEquals(response.getStatus(), 200);
+        assertTrue(response.getEntity() instanceof StreamingOutput);
+        assertEquals(response.getHeaderString(HttpHeaders.ETAG), null);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ((StreamingOutput) response.getEntity()).write(out);
+
+        OpenApiContext ctx = OpenApiContextLocator.getInstance().getOpenApiContext("serialized.stream.test");
+        assertEquals(new String(out.toByteArray(), StandardCharsets.UTF_8),
+                ctx.getOutputJsonMapper().writerWithDefaultPrettyPrinter().writeValueAsString(ctx.read()));
+    }
+
+    @Test(description = "precompressed variants are served to clients accepting them")
+    public void testPrecompressedOutput() throws Exception {
+        TestOpenApiResource resource = new TestOpenApiResource("serialized.precompress.test");
+        resource.openApiConfiguration(new SwaggerConfiguration()
+                .precompressOutput(true)
+                .resourcePackages(Collections.singleton("com.my.project.resources")));
+
+        Response identity = resource.get(acceptEncoding("identity", null), "json");
+        assertEquals(identity.getHeaderString(HttpHeaders.CONTENT_ENCODING), null);
+        assertEquals(identity.getHeaderString(HttpHeaders.VARY), HttpHeaders.ACCEPT_ENCODING);
+        byte[] plain = (byte[]) identity.getEntity();
+
+        Response gzip = resource.get(acceptEncoding("deflate;q=0.5, gzip", null), "json");
+        assertEquals(gzip.getHeaderString(HttpHeaders.CONTENT_ENCODING), "gzip");
+        assertEquals(gzip.getHeaderString(HttpHeaders.VARY), HttpHeaders.ACCEPT_ENCODING);
+        assertEquals(IOUtils.toByteArray(new GZIPInputStream(new ByteArrayInputStream((byte[]) gzip.getEntity()))), plain);
+
+        Response deflate = resource.get(acceptEncoding("deflate, gzip;q=0", null), "json");
+        assertEquals(deflate.getHeaderString(HttpHeaders.CONTENT_ENCODING), "deflate");
+        assertEquals(IOUtils.toByteArray(new InflaterInputStream(new ByteArrayInputStream((byte[]) deflate.getEntity()))), plain);
+
+        String gzipETag = gzip.getHeaderString(HttpHeaders.ETAG);
+        assertFalse(gzipETag.equals(identity.getHeaderString(HttpHeaders.ETAG)));
+        assertFalse(gzipETag.equals(deflate.getHeaderString(HttpHeaders.ETAG)));
+        assertEquals(resource.get(acceptEncoding("gzip", gzipETag), "json").getStatus(), 304);
+        assertEquals(resource.get(acceptEncoding("identity", gzipETag), "json").getStatus(), 200);
+    }
+
+    @Test(description = "content encoding negotiation")
+    public void testNegotiateEncoding() {
+        SerializedOpenApi serialized = new SerializedOpenApi("{}".getBytes(StandardCharsets.UTF_8), true);
+        assertEquals(serialized.negotiateEncoding(null), null);
+        assertEquals(serialized.negotiateEncoding("gzip, deflate, br"), "gzip");
+        assertEquals(serialized.negotiateEncoding("deflate"), "deflate");
+        assertEquals(serialized.negotiateEncoding("gzip;q=0.2, deflate;q=0.8"), "deflate");
+        assertEquals(serialized.negotiateEncoding("*"), "gzip");
+        assertEquals(serialized.negotiateEncoding("gzip;q=0"), null);
+        assertEquals(serialized.negotiateEncoding("br, identity"), null);
+        assertEquals(serialized.negotiateEncoding("x-gzip"), "gzip");
+        assertEquals(serialized.negotiateEncoding("gzip;q=0.5, identity"), null);
+        assertEquals(serialized.negotiateEncoding("gzip;q=0.5, identity;q=0.2"), "gzip");
+
+        // * stands for every coding not listed
+        assertEquals(serialized.negotiateEncoding("gzip;q=0, *"), "deflate");
+        assertEquals(serialized.negotiateEncoding("gzip;q=0.3, *;q=0.5"), "deflate");
+        assertEquals(serialized.negotiateEncoding("*;q=0.5, identity"), null);
+
+        // the unencoded content is excluded
+        assertEquals(serialized.negotiateEncoding("identity;q=0"), "gzip");
+        assertEquals(serialized.negotiateEncoding("br, identity;q=0"), "gzip");
+        assertEquals(serialized.negotiateEncoding("gzip;q=0, identity;q=0"), "deflate");
+        assertEquals(serialized.negotiateEncoding("gzip;q=0, deflate;q=0, identity;q=0"), null);
+        assertEquals(serialized.negotiateEncoding("*;q=0"), null);
+        assertEquals(serialized.negotiateEncoding("deflate;q=0.1, *;q=0"), "deflate");
+        assertEquals(new SerializedOpenApi("{}".getBytes(StandardCharsets.UTF_8)).negotiateEncoding("gzip"), null);
+    }
+
+    @Test(description = "ETag evaluation of If-None-Match values")
+    public void testETagMatching() {
+        SerializedOpenApi serialized = new SerializedOpenApi("{}".getBytes(StandardCharsets.UTF_8));
+        assertTrue(serialized.getETag().startsWith("\""));
+        assertEquals(serialized.getETag(), new SerializedOpenApi("{}".getBytes(StandardCharsets.UTF_8)).getETag());
+        assertTrue(serialized.matches(serialized.getETag()));
+        assertTrue(serialized.matches("W/" + serialized.getETag()));
+        assertTrue(serialized.matches("*"));
+        assertFalse(serialized.matches(null));
+        assertFalse(serialized.matches("\"abc\""));
+    }
+}
@@ -0,0 +1,230 @@
+package io.swagger.v3.jaxrs2.integration;
+
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.jaxrs2.Reader;
+import io.swagger.v3.jaxrs2.resources.SimpleUserResource;
+import io.swagger.v3.jaxrs2.resources.TagsResource;
+import io.swagger.v3.oas.integration.PrebuiltOpenApi;
+import io.swagger.v3.oas.integration.SerializedOpenApi;
+import io.swagger.v3.oas.integration.SwaggerConfiguration;
+import io.swagger.v3.oas.integration.api.OpenApiContext;
+import io.swagger.v3.oas.integration.api.OpenApiReader;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.tags.Tag;
+import org.apache.commons.io.IOUtils;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class PrebuiltOpenApiTest {
+
+    private static final Class<?>[] RESOURCES = {SimpleUserResource.class, TagsResource.class};
+
+    private Path classesDirectory;
+    private Path outputDirectory;
+    private ClassLoader previousClassLoader;
+    private URLClassLoader classLoader;
+
+    static class CountingReader extends Reader {
+        final AtomicInteger reads = new AtomicInteger();
+
+        CountingReader() {
+            super(new SwaggerConfiguration());
+        }
+
+        @Override
+        public OpenAPI read(Set<Class<?>> classes, Map<String, Object> resources) {
+            reads.incrementAndGet();
+            return super.read(classes, resources);
+        }
+    }
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        classesDirectory = Files.createTempDirectory("prebuilt-classes");
+        outputDirectory = Files.createTempDirectory("prebuilt-output");
+        for (Class<?> resource : RESOURCES) {
+            copyClassFile(resource, resource);
+        }
+        classLoader = new URLClassLoader(new URL[]{outputDirectory.toUri().toURL()}, getClass().getClassLoader());
+        previousClassLoader = Thread.currentThread().getContextClassLoader();
+        Thread.currentThread().setContextClassLoader(classLoader);
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        Thread.currentThread().setContextClassLoader(previousClassLoader);
+        classLoader.close();
+        delete(classesDirectory);
+        delete(outputDirectory);
+    }
+
+    @Test(description = "a context with an up to date prebuilt spec serves it without reading resources")
+    public void testPrebuiltSpec() throws Exception {
+        OpenAPI resolved = writePrebuiltSpec(true);
+
+        CountingReader reader = new CountingReader();
+        OpenApiContext context = newContext(reader, PrebuiltOpenApi.DEFAULT_LOCATION);
+
+        OpenAPI openAPI = context.read();
+        SerializedOpenApi json = context.readSerialized("json", true);
+        SerializedOpenApi yaml = context.readSerialized("yaml", true);
+
+        assertEquals(reader.reads.get(), 0);
+        assertEquals(Json.pretty(openAPI), Json.pretty(resolved));
+        assertEquals(json.getBytes(), readResource(PrebuiltOpenApi.DEFAULT_LOCATION + "/openapi.json"));
+        assertEquals(yaml.getBytes(), readResource(PrebuiltOpenApi.DEFAULT_LOCATION + "/openapi.yaml"));
+        assertEquals(new String(context.readSerialized("json", false).getBytes()), context.getOutputJsonMapper().writeValueAsString(resolved));
+    }
+
+    @Test(description = "a prebuilt spec resolved from classes which have changed is ignored")
+    public void testStalePrebuiltSpec() throws Exception {
+        writePrebuiltSpec(false);
+        PrebuiltOpenApi prebuilt = PrebuiltOpenApi.load(classLoader, PrebuiltOpenApi.DEFAULT_LOCATION);
+        assertNotNull(prebuilt);
+        assertTrue(prebuilt.isCurrent(classLoader));
+
+        copyClassFile(TagsResource.class, SimpleUserResource.class);
+        OpenAPI resolved = writePrebuiltSpec(false);
+        assertFalse(PrebuiltOpenApi.load(classLoader, PrebuiltOpenApi.DEFAULT_LOCATION).isCurrent(classLoader));
+
+        CountingReader reader = new CountingReader();
+        OpenAPI openAPI = newContext(reader, PrebuiltOpenApi.DEFAULT_LOCATION).read();
+        assertEquals(reader.reads.get(), 1);
+        assertEquals(Json.pretty(openAPI), Json.pretty(resolved));
+    }
+
+    @Test(description = "a prebuilt spec is deserialized once and served from its embedded output without caching")
+    public void testPrebuiltSpecWithoutCache() throws Exception {
+        writePrebuiltSpec(false);
+
+        CountingReader reader = new CountingReader();
+        OpenApiContext context = newContext(reader, newConfiguration(PrebuiltOpenApi.DEFAULT_LOCATION).cacheTTL(0L));
+
+        assertSame(context.read(), context.read());
+        assertSame(context.readSerialized("json", false), context.readSerialized("json", false));
+        assertEquals(context.readSerialized("json", false).getBytes(), readResource(PrebuiltOpenApi.DEFAULT_LOCATION + "/openapi.json"));
+        assertEquals(reader.reads.get(), 0);
+    }
+
+    @Test(description = "a prebuilt spec resolved with a different configuration is ignored")
+    public void testPrebuiltSpecWithDifferentConfiguration() throws Exception {
+        writePrebuiltSpec(false);
+
+        CountingReader reader = new CountingReader();
+        newContext(reader, newConfiguration(PrebuiltOpenApi.DEFAULT_LOCATION)
+                .openAPI(new OpenAPI().info(new Info().title("runtime")))).read();
+        assertEquals(reader.reads.get(), 1);
+
+        reader = new CountingReader();
+        newContext(reader, newConfiguration(PrebuiltOpenApi.DEFAULT_LOCATION)
+                .resourceClasses(Collections.singleton(SimpleUserResource.class.getName()))).read();
+        assertEquals(reader.reads.get(), 1);
+
+        reader = new CountingReader();
+        newContext(reader, newConfiguration(PrebuiltOpenApi.DEFAULT_LOCATION)
+                .ignoredRoutes(Collections.singleton("/user"))).read();
+        assertEquals(reader.reads.get(), 1);
+
+        reader = new CountingReader();
+        newContext(reader, newConfiguration(PrebuiltOpenApi.DEFAULT_LOCATION)
+                .openAPI(new OpenAPI().addTagsItem(new Tag().name("runtime")))).read();
+        assertEquals(reader.reads.get(), 1);
+
+        reader = new CountingReader();
+        newContext(reader, newConfiguration(PrebuiltOpenApi.DEFAULT_LOCATION).sortOutput(true)).read();
+        assertEquals(reader.reads.get(), 1);
+    }
+
+    @Test(description = "a prebuilt spec is served whatever the runtime only options of the configuration")
+    public void testPrebuiltSpecWithRuntimeOptions() throws Exception {
+        writePrebuiltSpec(false);
+
+        CountingReader reader = new CountingReader();
+        newContext(reader, newConfiguration(PrebuiltOpenApi.DEFAULT_LOCATION)
+                .id("prebuilt.runtime.options")
+                .cacheTTL(1000L)
+                .filterCacheSize(4)
+                .precompressOutput(true)
+                .scanThreads(2)).read();
+        assertEquals(reader.reads.get(), 0);
+    }
+
+    @Test(description = "resources are read if no prebuilt spec is found")
+    public void testMissingPrebuiltSpec() throws Exception {
+        assertNull(PrebuiltOpenApi.load(classLoader, "META-INF/swagger/missing"));
+
+        CountingReader reader = new CountingReader();
+        OpenAPI openAPI = newContext(reader, "META-INF/swagger/missing").read();
+        assertEquals(reader.reads.get(), 1);
+        assertNotNull(openAPI.getPaths());
+    }
+
+    private OpenAPI writePrebuiltSpec(boolean pretty) throws Exception {
+        OpenApiContext context = newContext(new CountingReader(), newConfiguration(null));
+        OpenAPI openAPI = context.read();
+        PrebuiltOpenApi.write(classesDirectory.toFile(), outputDirectory.toFile(), context, openAPI, pretty);
+        return openAPI;
+    }
+
+    private OpenApiContext newContext(OpenApiReader reader, String prebuiltSpecLocation) throws Exception {
+        return newContext(reader, newConfiguration(prebuiltSpecLocation));
+    }
+
+    private SwaggerConfiguration newConfiguration(String prebuiltSpecLocation) {
+        return new SwaggerConfiguration()
+                .resourceClasses(new HashSet<>(Arrays.asList(SimpleUserResource.class.getName(), TagsResource.class.getName())))
+                .prebuiltSpecLocation(prebuiltSpecLocation);
+    }
+
+    private OpenApiContext newContext(OpenApiReader reader, SwaggerConfiguration config) throws Exception {
+        return new JaxrsOpenApiContext<>()
+                .openApiConfiguration(config)
+                .openApiReader(reader)
+                .init();
+    }
+
+    private void copyClassFile(Class<?> source, Class<?> target) throws Exception {
+        String name = target.getName().replace('.', '/') + ".class";
+        Path file = classesDirectory.resolve(name);
+        Files.createDirectories(file.getParent());
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream(source.getName().replace('.', '/') + ".class")) {
+            Files.write(file, IOUtils.toByteArray(in));
+        }
+    }
+
+    private byte[] readResource(String name) throws Exception {
+        try (InputStream in = classLoader.getResourceAsStream(name)) {
+            return IOUtils.toByteArray(in);
+        }
+    }
+
+    private static void delete(Path directory) throws Exception {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+}
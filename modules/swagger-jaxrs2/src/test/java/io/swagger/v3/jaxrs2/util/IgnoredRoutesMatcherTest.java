@@ -0,0 +1,87 @@
+package io.swagger.v3.jaxrs2.util;
+
+import io.swagger.v3.jaxrs2.Reader;
+import io.swagger.v3.jaxrs2.resources.SimpleUserResource;
+import io.swagger.v3.oas.integration.SwaggerConfiguration;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class IgnoredRoutesMatcherTest {
+
+    @Test(description = "routes match whole path segments")
+    public void testSegmentPrefix() {
+        IgnoredRoutesMatcher matcher = IgnoredRoutesMatcher.compile(Arrays.asList("/api/internal", "/health"));
+
+        assertTrue(matcher.matches("/api/internal"));
+        assertTrue(matcher.matches("/api/internal/users"));
+        assertTrue(matcher.matches("/health"));
+        assertFalse(matcher.matches("/api/internals"));
+        assertFalse(matcher.matches("/api"));
+        assertFalse(matcher.matches("/healthcheck"));
+        assertFalse(matcher.matches("/users/health"));
+    }
+
+    @Test(description = "template segments only match the same segment unless template matching is enabled")
+    public void testTemplateSegmentsLiteral() {
+        IgnoredRoutesMatcher matcher = IgnoredRoutesMatcher.compile(Arrays.asList("/users/{id}/audit"));
+
+        assertTrue(matcher.matches("/users/{id}/audit"));
+        assertTrue(matcher.matches("/users/{id}/audit/entries"));
+        assertFalse(matcher.matches("/users/{userId}/audit"));
+        assertFalse(matcher.matches("/users/42/audit"));
+    }
+
+    @Test(description = "template segments match any single path segment")
+    public void testTemplateSegments() {
+        IgnoredRoutesMatcher matcher = IgnoredRoutesMatcher.compile(Arrays.asList("/users/{id}/audit", "/users/me/audit/export"), true);
+
+        assertTrue(matcher.matches("/users/{userId}/audit"));
+        assertTrue(matcher.matches("/users/me/audit/export"));
+        assertTrue(matcher.matches("/users/42/audit/entries"));
+        assertFalse(matcher.matches("/users/{userId}"));
+        assertFalse(matcher.matches("/users/{userId}/profile"));
+    }
+
+    @Test(description = "isIgnored keeps matching routes as before and picks up changed routes")
+    public void testIsIgnored() {
+        Set<String> routes = new HashSet<>(Collections.singleton("/api/"));
+        SwaggerConfiguration config = new SwaggerConfiguration().ignoredRoutes(routes);
+
+        // a trailing delimiter is part of the route, as with the former prefix matching
+        assertTrue(ReaderUtils.isIgnored("/api/", config));
+        assertTrue(ReaderUtils.isIgnored("/api//users", config));
+        assertFalse(ReaderUtils.isIgnored("/api/users", config));
+
+        routes.add("/users");
+        assertTrue(ReaderUtils.isIgnored("/users/{id}", config));
+        config.setIgnoredRoutes(Collections.singleton(""));
+        assertTrue(ReaderUtils.isIgnored("/users", config));
+        assertFalse(ReaderUtils.isIgnored("users", config));
+        config.setIgnoredRoutes(null);
+        assertFalse(ReaderUtils.isIgnored("/users", config));
+
+        config.setIgnoredRoutes(Collections.singleton("/users/{id}"));
+        assertFalse(ReaderUtils.isIgnored("/users/42", config));
+        config.setIgnoredRouteTemplates(true);
+        assertTrue(ReaderUtils.isIgnored("/users/42", config));
+    }
+
+    @Test(description = "readers match the routes of the configuration they are given")
+    public void testReaderIgnoredRoutes() {
+        Reader reader = new Reader(new SwaggerConfiguration().ignoredRoutes(Collections.singleton("/user/createUserWithReturnType")));
+        reader.setConfiguration(new SwaggerConfiguration().ignoredRoutes(Collections.singleton("/user/{operation}")).ignoredRouteTemplates(true));
+
+        OpenAPI openAPI = reader.read(SimpleUserResource.class);
+
+        assertEquals(openAPI.getPaths().keySet(), Collections.singleton("/user"));
+    }
+}
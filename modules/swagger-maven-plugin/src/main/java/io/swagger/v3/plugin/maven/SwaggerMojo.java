@@ -6,8 +6,10 @@ import io.swagger.v3.core.util.Configuration;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.core.util.Yaml;
 import io.swagger.v3.jaxrs2.integration.JaxrsOpenApiContextBuilder;
+import io.swagger.v3.jaxrs2.integration.ResourceIndex;
 import io.swagger.v3.oas.integration.GenericOpenApiContextBuilder;
 import io.swagger.v3.oas.integration.OpenApiConfigurationException;
+import io.swagger.v3.oas.integration.PrebuiltOpenApi;
 import io.swagger.v3.oas.integration.SwaggerConfiguration;
 import io.swagger.v3.oas.integration.api.OpenApiContext;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -84,6 +86,13 @@ public class SwaggerMojo extends AbstractMojo {
             OpenApiContext context = builder.buildContext(true);
             OpenAPI openAPI = context.read();
 
+            if (Boolean.TRUE.equals(writePrebuiltSpec) && project != null) {
+                // the unfiltered spec is embedded, as the filter is applied on each request at runtime
+                File classes = new File(project.getBuild().getOutputDirectory());
+                PrebuiltOpenApi.write(classes, classes, context, openAPI, Boolean.TRUE.equals(config.isPrettyPrint()));
+                getLog().info( "Prebuilt spec: " + new File(classes, PrebuiltOpenApi.DEFAULT_LOCATION).getCanonicalPath());
+            }
+
             if (StringUtils.isNotBlank(config.getFilterClass())) {
                 try {
                     OpenAPISpecFilter filterImpl = (OpenAPISpecFilter) this.getClass().getClassLoader().loadClass(config.getFilterClass()).newInstance();
@@ -128,6 +137,10 @@ public class SwaggerMojo extends AbstractMojo {
                 Files.write(path, openapiYaml.getBytes(Charset.forName(encoding)));
                 getLog().info( "YAML output: " + path.toFile().getCanonicalPath());
             }
+            if (Boolean.TRUE.equals(writeResourceIndex) && project != null) {
+                File index = ResourceIndex.write(new File(project.getBuild().getOutputDirectory()));
+                getLog().info( "Resource index: " + index.getCanonicalPath());
+            }
 
         } catch (OpenApiConfigurationException e) {
             getLog().error( "Error resolving API specification" , e);
@@ -498,6 +511,24 @@ public class SwaggerMojo extends AbstractMojo {
     @Parameter(property = "resolve.openAPIVersion")
     private String openAPIVersion;
 
+    /**
+     * Writes the index of the annotated resource classes to the build output directory, to be read at runtime by
+     * <code>JaxrsResourceIndexScanner</code> in place of a classpath scan.
+     *
+     * @since 2.2.55
+     */
+    @Parameter(property = "resolve.writeResourceIndex")
+    private Boolean writeResourceIndex;
+
+    /**
+     * Embeds the resolved spec and its serialized output in the build output directory, to be served at runtime by
+     * contexts configured with <code>prebuiltSpecLocation</code>.
+     *
+     * @since 2.2.55
+     */
+    @Parameter(property = "resolve.writePrebuiltSpec")
+    private Boolean writePrebuiltSpec;
+
     private String projectEncoding = "UTF-8";
     private SwaggerConfiguration config;
 
@@ -0,0 +1,91 @@
+package io.swagger.v3.oas.models;
+
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+/**
+ * Helpers backing the <code>copy()</code> methods of model objects.
+ *
+ * Schemas and collections are copied recursively; other values (strings, numbers, enums, but also arbitrary objects
+ * like JSON trees used as examples) are treated as immutable and shared with the copy.
+ *
+ * @since 2.2.55
+ */
+public final class CopyUtils {
+
+    private CopyUtils() {
+    }
+
+    public static <T> List<T> copyList(List<T> list, UnaryOperator<T> copier) {
+        if (list == null) {
+            return null;
+        }
+        List<T> copy = new ArrayList<>(list.size());
+        for (T item : list) {
+            copy.add(item == null ? null : copier.apply(item));
+        }
+        return copy;
+    }
+
+    public static <T> Set<T> copySet(Set<T> set) {
+        if (set == null) {
+            return null;
+        }
+        return new LinkedHashSet<>(set);
+    }
+
+    public static <K, V> Map<K, V> copyMap(Map<K, V> map, UnaryOperator<V> copier) {
+        if (map == null) {
+            return null;
+        }
+        Map<K, V> copy = new LinkedHashMap<>();
+        for (Map.Entry<K, V> entry : map.entrySet()) {
+            V value = entry.getValue();
+            copy.put(entry.getKey(), value == null ? null : copier.apply(value));
+        }
+        return copy;
+    }
+
+    public static <K, V> Map<K, V> copyMap(Map<K, V> map) {
+        return copyMap(map, UnaryOperator.identity());
+    }
+
+    public static Map<String, Object> copyExtensions(Map<String, Object> extensions) {
+        return copyMap(extensions, CopyUtils::copyValue);
+    }
+
+    /**
+     * Copies a value of a loosely typed member such as an example, a default or an extension.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T copyValue(T value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Schema) {
+            return (T) ((Schema) value).copy();
+        }
+        if (value instanceof Map) {
+            return (T) copyMap((Map<Object, Object>) value, CopyUtils::copyValue);
+        }
+        if (value instanceof List) {
+            return (T) copyList((List<Object>) value, CopyUtils::copyValue);
+        }
+        if (value instanceof Set) {
+            Set<Object> copy = new LinkedHashSet<>();
+            for (Object item : (Collection<Object>) value) {
+                copy.add(copyValue(item));
+            }
+            return (T) copy;
+        }
+        return value;
+    }
+}
@@ -54,6 +54,19 @@ public class ExternalDocumentation {
         return this;
     }
 
+    /**
+     * Returns a deep copy of this external documentation object.
+     *
+     * @since 2.2.55
+     */
+    public ExternalDocumentation copy() {
+        ExternalDocumentation copy = new ExternalDocumentation();
+        copy.description = description;
+        copy.url = url;
+        copy.extensions = CopyUtils.copyExtensions(extensions);
+        return copy;
+    }
+
     @Override
     public boolean equals(java.lang.Object o) {
         if (this == o) {
@@ -1,5 +1,6 @@
 package io.swagger.v3.oas.models.examples;
 
+import io.swagger.v3.oas.models.CopyUtils;
 import io.swagger.v3.oas.models.annotations.OpenAPI31;
 
 /**
@@ -151,6 +152,23 @@ public class Example {
         this.valueSetFlag = valueSetFlag;
     }
 
+    /**
+     * Returns a deep copy of this example.
+     *
+     * @since 2.2.55
+     */
+    public Example copy() {
+        Example copy = new Example();
+        copy.summary = summary;
+        copy.description = description;
+        copy.value = CopyUtils.copyValue(value);
+        copy.externalValue = externalValue;
+        copy.$ref = $ref;
+        copy.extensions = CopyUtils.copyExtensions(extensions);
+        copy.valueSetFlag = valueSetFlag;
+        return copy;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -1,5 +1,6 @@
 package io.swagger.v3.oas.models.headers;
 
+import io.swagger.v3.oas.models.CopyUtils;
 import io.swagger.v3.oas.models.examples.Example;
 import io.swagger.v3.oas.models.media.Content;
 import io.swagger.v3.oas.models.media.Schema;
@@ -226,6 +227,27 @@ public class Header {
         return this;
     }
 
+    /**
+     * Returns a deep copy of this header.
+     *
+     * @since 2.2.55
+     */
+    public Header copy() {
+        Header copy = new Header();
+        copy.description = description;
+        copy.$ref = $ref;
+        copy.required = required;
+        copy.deprecated = deprecated;
+        copy.style = style;
+        copy.explode = explode;
+        copy.schema = schema == null ? null : schema.copy();
+        copy.examples = CopyUtils.copyMap(examples, Example::copy);
+        copy.example = CopyUtils.copyValue(example);
+        copy.content = content == null ? null : content.copy();
+        copy.extensions = CopyUtils.copyExtensions(extensions);
+        return copy;
+    }
+
     @Override
     public boolean equals(java.lang.Object o) {
         if (this == o) {
@@ -1,5 +1,6 @@
 package io.swagger.v3.oas.models.links;
 
+import io.swagger.v3.oas.models.CopyUtils;
 import io.swagger.v3.oas.models.annotations.OpenAPI31;
 import io.swagger.v3.oas.models.headers.Header;
 import io.swagger.v3.oas.models.servers.Server;
@@ -182,6 +183,25 @@ public class Link {
         return this;
     }
 
+    /**
+     * Returns a deep copy of this link.
+     *
+     * @since 2.2.55
+     */
+    public Link copy() {
+        Link copy = new Link();
+        copy.operationRef = operationRef;
+        copy.operationId = operationId;
+        copy.parameters = CopyUtils.copyMap(parameters);
+        copy.requestBody = CopyUtils.copyValue(requestBody);
+        copy.headers = CopyUtils.copyMap(headers, Header::copy);
+        copy.description = description;
+        copy.$ref = $ref;
+        copy.extensions = CopyUtils.copyExtensions(extensions);
+        copy.server = server == null ? null : server.copy();
+        return copy;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -17,6 +17,17 @@ public class Content extends LinkedHashMap<String, MediaType> {
         return this;
     }
 
+    /**
+     * Returns a deep copy of this content map.
+     *
+     * @since 2.2.55
+     */
+    public Content copy() {
+        Content copy = new Content();
+        forEach((name, mediaType) -> copy.put(name, mediaType == null ? null : mediaType.copy()));
+        return copy;
+    }
+
     @Override
     public boolean equals(java.lang.Object o) {
         if (this == o) {
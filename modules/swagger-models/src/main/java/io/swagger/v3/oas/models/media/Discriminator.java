@@ -1,5 +1,6 @@
 package io.swagger.v3.oas.models.media;
 
+import io.swagger.v3.oas.models.CopyUtils;
 import io.swagger.v3.oas.models.annotations.OpenAPI31;
 
 import java.util.LinkedHashMap;
@@ -80,6 +81,19 @@ public class Discriminator {
         this.extensions.put(name, value);
     }
 
+    /**
+     * Returns a deep copy of this discriminator.
+     *
+     * @since 2.2.55
+     */
+    public Discriminator copy() {
+        Discriminator copy = new Discriminator();
+        copy.propertyName = propertyName;
+        copy.mapping = CopyUtils.copyMap(mapping);
+        copy.extensions = CopyUtils.copyExtensions(extensions);
+        return copy;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -1,5 +1,6 @@
 package io.swagger.v3.oas.models.media;
 
+import io.swagger.v3.oas.models.CopyUtils;
 import io.swagger.v3.oas.models.annotations.OpenAPI31;
 import io.swagger.v3.oas.models.headers.Header;
 
@@ -155,6 +156,22 @@ public class Encoding {
         return this;
     }
 
+    /**
+     * Returns a deep copy of this encoding.
+     *
+     * @since 2.2.55
+     */
+    public Encoding copy() {
+        Encoding copy = new Encoding();
+        copy.contentType = contentType;
+        copy.headers = CopyUtils.copyMap(headers, Header::copy);
+        copy.style = style;
+        copy.explode = explode;
+        copy.allowReserved = allowReserved;
+        copy.extensions = CopyUtils.copyExtensions(extensions);
+        return copy;
+    }
+
     @Override
     public boolean equals(java.lang.Object o) {
         if (this == o) {
@@ -1,5 +1,6 @@
 package io.swagger.v3.oas.models.media;
 
+import io.swagger.v3.oas.models.CopyUtils;
 import io.swagger.v3.oas.models.annotations.OpenAPI31;
 import io.swagger.v3.oas.models.examples.Example;
 
@@ -131,6 +132,22 @@ public class MediaType {
         this.exampleSetFlag = exampleSetFlag;
     }
 
+    /**
+     * Returns a deep copy of this media type.
+     *
+     * @since 2.2.55
+     */
+    public MediaType copy() {
+        MediaType copy = new MediaType();
+        copy.schema = schema == null ? null : schema.copy();
+        copy.examples = CopyUtils.copyMap(examples, Example::copy);
+        copy.example = CopyUtils.copyValue(example);
+        copy.encoding = CopyUtils.copyMap(encoding, Encoding::copy);
+        copy.extensions = CopyUtils.copyExtensions(extensions);
+        copy.exampleSetFlag = exampleSetFlag;
+        return copy;
+    }
+
     @Override
     public boolean equals(java.lang.Object o) {
         if (this == o) {
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.models.annotations.OpenAPI30;
 import io.swagger.v3.oas.models.annotations.OpenAPI31;
 import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.CopyUtils;
 import io.swagger.v3.oas.models.ExternalDocumentation;
 import io.swagger.v3.oas.models.SpecVersion;
 
@@ -17,6 +18,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.UnaryOperator;
 
 /**
  * Schema
@@ -25,7 +27,7 @@ import java.util.Set;
  * @see <a href="https://github.com/OAI/OpenAPI-Specification/blob/3.1.1/versions/3.1.1.md#schema-object">Schema (OpenAPI 3.1 specification)</a>
  */
 
-public class Schema<T> {
+public class Schema<T> implements Cloneable {
 
     public static final String BIND_TYPE_AND_TYPES = "bind-type";
     public static final String BINARY_STRING_CONVERSION_PROPERTY = "binary-string-conversion";
@@ -2109,6 +2111,61 @@ public class Schema<T> {
         this.examples.add(example);
     }
 
+    /**
+     * Returns a deep copy of this schema, of the same runtime type; nested schemas and model objects are copied
+     * recursively, see {@link CopyUtils} for the handling of loosely typed members.
+     *
+     * @since 2.2.55
+     */
+    @SuppressWarnings("unchecked")
+    public Schema<T> copy() {
+        Schema<T> copy;
+        try {
+            copy = (Schema<T>) super.clone();
+        } catch (CloneNotSupportedException e) {
+            // Schema implements Cloneable
+            throw new IllegalStateException(e);
+        }
+        copy._default = CopyUtils.copyValue(_default);
+        copy.required = CopyUtils.copyList(required, UnaryOperator.identity());
+        copy.not = copyOf(not);
+        copy.properties = CopyUtils.copyMap(properties, Schema::copy);
+        copy.additionalProperties = CopyUtils.copyValue(additionalProperties);
+        copy.example = CopyUtils.copyValue(example);
+        copy.externalDocs = externalDocs == null ? null : externalDocs.copy();
+        copy.xml = xml == null ? null : xml.copy();
+        copy.extensions = CopyUtils.copyExtensions(extensions);
+        copy._enum = CopyUtils.copyList(_enum, CopyUtils::copyValue);
+        copy.discriminator = discriminator == null ? null : discriminator.copy();
+        copy.prefixItems = CopyUtils.copyList(prefixItems, Schema::copy);
+        copy.allOf = CopyUtils.copyList(allOf, Schema::copy);
+        copy.anyOf = CopyUtils.copyList(anyOf, Schema::copy);
+        copy.oneOf = CopyUtils.copyList(oneOf, Schema::copy);
+        copy.items = copyOf(items);
+        copy._const = CopyUtils.copyValue(_const);
+        copy.types = CopyUtils.copySet(types);
+        copy.patternProperties = CopyUtils.copyMap(patternProperties, Schema::copy);
+        copy.contains = copyOf(contains);
+        copy.contentSchema = copyOf(contentSchema);
+        copy.propertyNames = copyOf(propertyNames);
+        copy.unevaluatedProperties = copyOf(unevaluatedProperties);
+        copy.additionalItems = copyOf(additionalItems);
+        copy.unevaluatedItems = copyOf(unevaluatedItems);
+        copy._if = copyOf(_if);
+        copy._else = copyOf(_else);
+        copy.then = copyOf(then);
+        copy.dependentSchemas = CopyUtils.copyMap(dependentSchemas, Schema::copy);
+        copy.dependentRequired = CopyUtils.copyMap(dependentRequired, list -> new ArrayList<>(list));
+        copy.examples = CopyUtils.copyList(examples, CopyUtils::copyValue);
+        copy.jsonSchema = CopyUtils.copyValue(jsonSchema);
+        return copy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <S extends Schema> S copyOf(S schema) {
+        return schema == null ? null : (S) schema.copy();
+    }
+
     @Override
     public boolean equals(java.lang.Object o) {
         if (this == o) {
@@ -1,5 +1,6 @@
 package io.swagger.v3.oas.models.media;
 
+import io.swagger.v3.oas.models.CopyUtils;
 import io.swagger.v3.oas.models.annotations.OpenAPI31;
 
 import java.util.Objects;
@@ -114,6 +115,22 @@ public class XML {
         return this;
     }
 
+    /**
+     * Returns a deep copy of this XML object.
+     *
+     * @since 2.2.55
+     */
+    public XML copy() {
+        XML copy = new XML();
+        copy.name = name;
+        copy.namespace = namespace;
+        copy.prefix = prefix;
+        copy.attribute = attribute;
+        copy.wrapped = wrapped;
+        copy.extensions = CopyUtils.copyExtensions(extensions);
+        return copy;
+    }
+
     @Override
     public boolean equals(java.lang.Object o) {
         if (this == o) {
@@ -1,5 +1,6 @@
 package io.swagger.v3.oas.models.parameters;
 
+import io.swagger.v3.oas.models.CopyUtils;
 import io.swagger.v3.oas.models.annotations.OpenAPI31;
 import io.swagger.v3.oas.models.examples.Example;
 import io.swagger.v3.oas.models.media.Content;
@@ -16,7 +17,7 @@ import java.util.Objects;
  * @see <a href="https://github.com/OAI/OpenAPI-Specification/blob/3.1.1/versions/3.1.1.md#parameter-object">Parameter (OpenAPI 3.1 specification)</a>
  */
 
-public class Parameter {
+public class Parameter implements Cloneable {
     private String name = null;
     private String in = null;
     private String description = null;
@@ -335,6 +336,27 @@ public class Parameter {
         return this;
     }
 
+    /**
+     * Returns a deep copy of this parameter.
+     *
+     * @since 2.2.55
+     */
+    public Parameter copy() {
+        Parameter copy;
+        try {
+            copy = (Parameter) super.clone();
+        } catch (CloneNotSupportedException e) {
+            // Parameter implements Cloneable
+            throw new IllegalStateException(e);
+        }
+        copy.schema = schema == null ? null : schema.copy();
+        copy.examples = CopyUtils.copyMap(examples, Example::copy);
+        copy.example = CopyUtils.copyValue(example);
+        copy.content = content == null ? null : content.copy();
+        copy.extensions = CopyUtils.copyExtensions(extensions);
+        return copy;
+    }
+
     @Override
     public boolean equals(java.lang.Object o) {
         if (this == o) {
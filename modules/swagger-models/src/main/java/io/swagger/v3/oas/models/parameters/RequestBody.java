@@ -1,5 +1,6 @@
 package io.swagger.v3.oas.models.parameters;
 
+import io.swagger.v3.oas.models.CopyUtils;
 import io.swagger.v3.oas.models.annotations.OpenAPI31;
 import io.swagger.v3.oas.models.media.Content;
 
@@ -120,6 +121,21 @@ public class RequestBody {
         return this;
     }
 
+    /**
+     * Returns a deep copy of this request body.
+     *
+     * @since 2.2.55
+     */
+    public RequestBody copy() {
+        RequestBody copy = new RequestBody();
+        copy.description = description;
+        copy.content = content == null ? null : content.copy();
+        copy.required = required;
+        copy.extensions = CopyUtils.copyExtensions(extensions);
+        copy.$ref = $ref;
+        return copy;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -1,5 +1,6 @@
 package io.swagger.v3.oas.models.responses;
 
+import io.swagger.v3.oas.models.CopyUtils;
 import io.swagger.v3.oas.models.annotations.OpenAPI31;
 import io.swagger.v3.oas.models.headers.Header;
 import io.swagger.v3.oas.models.links.Link;
@@ -141,6 +142,22 @@ public class ApiResponse {
         return this;
     }
 
+    /**
+     * Returns a deep copy of this response.
+     *
+     * @since 2.2.55
+     */
+    public ApiResponse copy() {
+        ApiResponse copy = new ApiResponse();
+        copy.description = description;
+        copy.headers = CopyUtils.copyMap(headers, Header::copy);
+        copy.content = content == null ? null : content.copy();
+        copy.links = CopyUtils.copyMap(links, Link::copy);
+        copy.extensions = CopyUtils.copyExtensions(extensions);
+        copy.$ref = $ref;
+        return copy;
+    }
+
     @Override
     public boolean equals(java.lang.Object o) {
         if (this == o) {
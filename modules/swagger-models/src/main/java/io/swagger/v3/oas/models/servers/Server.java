@@ -1,5 +1,6 @@
 package io.swagger.v3.oas.models.servers;
 
+import io.swagger.v3.oas.models.CopyUtils;
 import io.swagger.v3.oas.models.annotations.OpenAPI31;
 
 import java.util.Objects;
@@ -74,6 +75,20 @@ public class Server {
         return this;
     }
 
+    /**
+     * Returns a deep copy of this server.
+     *
+     * @since 2.2.55
+     */
+    public Server copy() {
+        Server copy = new Server();
+        copy.url = url;
+        copy.description = description;
+        copy.variables = variables == null ? null : variables.copy();
+        copy.extensions = CopyUtils.copyExtensions(extensions);
+        return copy;
+    }
+
     @Override
     public boolean equals(java.lang.Object o) {
         if (this == o) {
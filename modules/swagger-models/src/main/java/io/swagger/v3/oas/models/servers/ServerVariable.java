@@ -1,10 +1,12 @@
 package io.swagger.v3.oas.models.servers;
 
+import io.swagger.v3.oas.models.CopyUtils;
 import io.swagger.v3.oas.models.annotations.OpenAPI31;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.UnaryOperator;
 
 /**
  * ServerVariable
@@ -84,6 +86,20 @@ public class ServerVariable {
         return this;
     }
 
+    /**
+     * Returns a deep copy of this server variable.
+     *
+     * @since 2.2.55
+     */
+    public ServerVariable copy() {
+        ServerVariable copy = new ServerVariable();
+        copy._enum = CopyUtils.copyList(_enum, UnaryOperator.identity());
+        copy._default = _default;
+        copy.description = description;
+        copy.extensions = CopyUtils.copyExtensions(extensions);
+        return copy;
+    }
+
     @Override
     public boolean equals(java.lang.Object o) {
         if (this == o) {
@@ -1,5 +1,6 @@
 package io.swagger.v3.oas.models.servers;
 
+import io.swagger.v3.oas.models.CopyUtils;
 import java.util.LinkedHashMap;
 import java.util.Objects;
 
@@ -20,6 +21,18 @@ public class ServerVariables extends LinkedHashMap<String, ServerVariable> {
         return this;
     }
 
+    /**
+     * Returns a deep copy of this server variables map.
+     *
+     * @since 2.2.55
+     */
+    public ServerVariables copy() {
+        ServerVariables copy = new ServerVariables();
+        forEach((name, variable) -> copy.put(name, variable == null ? null : variable.copy()));
+        copy.extensions = CopyUtils.copyExtensions(extensions);
+        return copy;
+    }
+
     @Override
     public boolean equals(java.lang.Object o) {
         if (this == o) {
@@ -207,4 +207,58 @@ public class SchemaTest {
         schema.setBooleanSchemaValue(true);
         return schema;
     }
+
+    @Test
+    public void testCopyIsDeep() {
+        Schema<Object> nested = new StringSchema().name("street").description("street name");
+        Map<String, Object> example = new HashMap<>();
+        example.put("street", "Main st");
+        ArraySchema tags = new ArraySchema().items(new StringSchema());
+        Schema<Object> schema = new Schema<>()
+                .type("object")
+                .name("Address")
+                .addProperty("street", nested)
+                .addProperty("tags", tags)
+                .addRequiredItem("street")
+                .example(example)
+                .xml(new XML().name("address"))
+                .discriminator(new Discriminator().propertyName("kind").mapping("home", "#/components/schemas/Home"))
+                .addAllOfItem(new Schema<>().$ref("#/components/schemas/Base"));
+        schema.addExtension("x-order", Arrays.asList(1, 2));
+
+        Schema<Object> copy = schema.copy();
+
+        assertEquals(copy, schema);
+        assertEquals(copy.getName(), "Address");
+        assertNotSame(copy.getProperties(), schema.getProperties());
+        assertNotSame(copy.getProperties().get("street"), nested);
+        assertEquals(copy.getProperties().get("tags").getClass(), ArraySchema.class);
+        assertNotSame(copy.getProperties().get("tags").getItems(), tags.getItems());
+        assertNotSame(copy.getXml(), schema.getXml());
+        assertNotSame(copy.getDiscriminator().getMapping(), schema.getDiscriminator().getMapping());
+        assertNotSame(copy.getExtensions().get("x-order"), schema.getExtensions().get("x-order"));
+
+        copy.getProperties().get("street").setDescription("changed");
+        copy.getRequired().add("tags");
+        ((Map<String, Object>) copy.getExample()).put("city", "Springfield");
+        copy.getAllOf().get(0).set$ref("#/components/schemas/Other");
+
+        assertEquals(nested.getDescription(), "street name");
+        assertEquals(schema.getRequired(), Arrays.asList("street"));
+        assertEquals(example.size(), 1);
+        assertEquals(schema.getAllOf().get(0).get$ref(), "#/components/schemas/Base");
+    }
+
+    @Test
+    public void testCopyKeepsExampleAndDefaultFlags() {
+        Schema<String> schema = new StringSchema();
+        schema.setExample(null);
+        schema.setDefault(null);
+
+        Schema<String> copy = schema.copy();
+
+        assertTrue(copy.getExampleSetFlag());
+        assertTrue(copy.getDefaultSetFlag());
+        assertEquals(copy.getClass(), StringSchema.class);
+    }
 }